@@ -0,0 +1,173 @@
+package com.rikuthin.collisions;
+
+import java.awt.Rectangle;
+
+/**
+ * An axis-aligned box collision shape.
+ */
+public final class BoxShape extends CollisionShape {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The x-offset of the box's left edge from the owner's position.
+     */
+    private final double offsetX;
+    /**
+     * The y-offset of the box's top edge from the owner's position.
+     */
+    private final double offsetY;
+    /**
+     * The box's width.
+     */
+    private final double width;
+    /**
+     * The box's height.
+     */
+    private final double height;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a box.
+     *
+     * @param offsetX The x-offset of the box's left edge from the owner's
+     * position.
+     * @param offsetY The y-offset of the box's top edge from the owner's
+     * position.
+     * @param width The box's width. Must not be negative.
+     * @param height The box's height. Must not be negative.
+     */
+    public BoxShape(final double offsetX, final double offsetY, final double width, final double height) {
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Width and height cannot be less than zero (0).",
+                    this.getClass().getName()
+            ));
+        }
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.width = width;
+        this.height = height;
+    }
+
+    // ----- STATIC METHODS -----
+    /**
+     * Creates a box matching a rectangle (e.g., a sprite's opaque bounds).
+     *
+     * @param bounds The rectangle, relative to the owner's position.
+     * @return The box.
+     */
+    public static BoxShape of(final Rectangle bounds) {
+        return new BoxShape(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the x-offset of the box's left edge from the owner's position.
+     *
+     * @return The x-offset.
+     */
+    public double getOffsetX() {
+        return offsetX;
+    }
+
+    /**
+     * Returns the y-offset of the box's top edge from the owner's position.
+     *
+     * @return The y-offset.
+     */
+    public double getOffsetY() {
+        return offsetY;
+    }
+
+    /**
+     * Returns the box's width.
+     *
+     * @return The width.
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the box's height.
+     *
+     * @return The height.
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    @Override
+    public boolean overlaps(final double x, final double y, final CollisionShape other, final double otherX, final double otherY) {
+        double left = x + offsetX;
+        double top = y + offsetY;
+        return other.overlapsBox(otherX, otherY, left, top, left + width, top + height);
+    }
+
+    @Override
+    public boolean overlapsBox(final double x, final double y, final double left, final double top, final double right, final double bottom) {
+        double boxLeft = x + offsetX;
+        double boxTop = y + offsetY;
+        return Collisions.boxBox(boxLeft, boxTop, boxLeft + width, boxTop + height, left, top, right, bottom);
+    }
+
+    @Override
+    public void updateBounds(final double x, final double y, final Rectangle bounds) {
+        setBounds(bounds, x + offsetX, y + offsetY, x + offsetX + width, y + offsetY + height);
+    }
+
+    @Override
+    public double timeOfImpact(final double startX, final double startY, final double endX, final double endY, final CollisionShape other, final double otherX, final double otherY) {
+        double left = startX + offsetX;
+        double top = startY + offsetY;
+        return other.boxTimeOfImpact(otherX, otherY, left, top, left + width, top + height, endX - startX, endY - startY);
+    }
+
+    @Override
+    public double timeOfImpact(final double startX, final double startY, final double endX, final double endY, final double left, final double top, final double right, final double bottom) {
+        double boxLeft = startX + offsetX;
+        double boxTop = startY + offsetY;
+        return Collisions.sweptBoxBox(boxLeft, boxTop, boxLeft + width, boxTop + height, endX - startX, endY - startY, left, top, right, bottom);
+    }
+
+    @Override
+    boolean overlapsCircle(final double x, final double y, final double cx, final double cy, final double r) {
+        double left = x + offsetX;
+        double top = y + offsetY;
+        return Collisions.circleBox(cx, cy, r, left, top, left + width, top + height);
+    }
+
+    @Override
+    boolean overlapsCapsule(final double x, final double y, final double x1, final double y1, final double x2, final double y2, final double r) {
+        double left = x + offsetX;
+        double top = y + offsetY;
+        return Collisions.capsuleBox(x1, y1, x2, y2, r, left, top, left + width, top + height);
+    }
+
+    @Override
+    double circleTimeOfImpact(final double x, final double y, final double cx, final double cy, final double r, final double dx, final double dy) {
+        double left = x + offsetX;
+        double top = y + offsetY;
+        return Collisions.sweptCircleBox(cx, cy, r, dx, dy, left, top, left + width, top + height);
+    }
+
+    @Override
+    double boxTimeOfImpact(final double x, final double y, final double left, final double top, final double right, final double bottom, final double dx, final double dy) {
+        double boxLeft = x + offsetX;
+        double boxTop = y + offsetY;
+        return Collisions.sweptBoxBox(left, top, right, bottom, dx, dy, boxLeft, boxTop, boxLeft + width, boxTop + height);
+    }
+
+    @Override
+    double capsuleTimeOfImpact(final double x, final double y, final double x1, final double y1, final double x2, final double y2, final double r, final double dx, final double dy) {
+        double left = x + offsetX;
+        double top = y + offsetY;
+        double right = left + width;
+        double bottom = top + height;
+        return discreteTimeOfImpact(
+                Collisions.capsuleBox(x1, y1, x2, y2, r, left, top, right, bottom),
+                Collisions.capsuleBox(x1 + dx, y1 + dy, x2 + dx, y2 + dy, r, left, top, right, bottom)
+        );
+    }
+}
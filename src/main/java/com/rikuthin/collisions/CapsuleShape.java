@@ -0,0 +1,180 @@
+package com.rikuthin.collisions;
+
+import java.awt.Rectangle;
+
+/**
+ * A capsule collision shape: a segment swept by a radius. Suits elongated
+ * bullets such as needles, rice or lasers.
+ */
+public final class CapsuleShape extends CollisionShape {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The x-offset of the segment's start from the owner's position.
+     */
+    private final double startX;
+    /**
+     * The y-offset of the segment's start from the owner's position.
+     */
+    private final double startY;
+    /**
+     * The x-offset of the segment's end from the owner's position.
+     */
+    private final double endX;
+    /**
+     * The y-offset of the segment's end from the owner's position.
+     */
+    private final double endY;
+    /**
+     * The radius.
+     */
+    private final double radius;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a capsule.
+     *
+     * @param startX The x-offset of the segment's start from the owner's
+     * position.
+     * @param startY The y-offset of the segment's start from the owner's
+     * position.
+     * @param endX The x-offset of the segment's end from the owner's position.
+     * @param endY The y-offset of the segment's end from the owner's position.
+     * @param radius The radius. Must not be negative.
+     */
+    public CapsuleShape(final double startX, final double startY, final double endX, final double endY, final double radius) {
+        if (radius < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Radius cannot be less than zero (0).",
+                    this.getClass().getName()
+            ));
+        }
+        this.startX = startX;
+        this.startY = startY;
+        this.endX = endX;
+        this.endY = endY;
+        this.radius = radius;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the x-offset of the segment's start from the owner's position.
+     *
+     * @return The start x-offset.
+     */
+    public double getStartX() {
+        return startX;
+    }
+
+    /**
+     * Returns the y-offset of the segment's start from the owner's position.
+     *
+     * @return The start y-offset.
+     */
+    public double getStartY() {
+        return startY;
+    }
+
+    /**
+     * Returns the x-offset of the segment's end from the owner's position.
+     *
+     * @return The end x-offset.
+     */
+    public double getEndX() {
+        return endX;
+    }
+
+    /**
+     * Returns the y-offset of the segment's end from the owner's position.
+     *
+     * @return The end y-offset.
+     */
+    public double getEndY() {
+        return endY;
+    }
+
+    /**
+     * Returns the radius.
+     *
+     * @return The radius.
+     */
+    public double getRadius() {
+        return radius;
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    @Override
+    public boolean overlaps(final double x, final double y, final CollisionShape other, final double otherX, final double otherY) {
+        return other.overlapsCapsule(otherX, otherY, x + startX, y + startY, x + endX, y + endY, radius);
+    }
+
+    @Override
+    public boolean overlapsBox(final double x, final double y, final double left, final double top, final double right, final double bottom) {
+        return Collisions.capsuleBox(x + startX, y + startY, x + endX, y + endY, radius, left, top, right, bottom);
+    }
+
+    @Override
+    public void updateBounds(final double x, final double y, final Rectangle bounds) {
+        setBounds(
+                bounds,
+                x + Math.min(startX, endX) - radius,
+                y + Math.min(startY, endY) - radius,
+                x + Math.max(startX, endX) + radius,
+                y + Math.max(startY, endY) + radius
+        );
+    }
+
+    @Override
+    public double timeOfImpact(final double startX, final double startY, final double endX, final double endY, final CollisionShape other, final double otherX, final double otherY) {
+        return other.capsuleTimeOfImpact(
+                otherX,
+                otherY,
+                startX + this.startX,
+                startY + this.startY,
+                startX + this.endX,
+                startY + this.endY,
+                radius,
+                endX - startX,
+                endY - startY
+        );
+    }
+
+    @Override
+    public double timeOfImpact(final double startX, final double startY, final double endX, final double endY, final double left, final double top, final double right, final double bottom) {
+        return discreteTimeOfImpact(
+                overlapsBox(startX, startY, left, top, right, bottom),
+                overlapsBox(endX, endY, left, top, right, bottom)
+        );
+    }
+
+    @Override
+    boolean overlapsCircle(final double x, final double y, final double cx, final double cy, final double r) {
+        return Collisions.capsuleCircle(x + startX, y + startY, x + endX, y + endY, radius, cx, cy, r);
+    }
+
+    @Override
+    boolean overlapsCapsule(final double x, final double y, final double x1, final double y1, final double x2, final double y2, final double r) {
+        return Collisions.capsuleCapsule(x + startX, y + startY, x + endX, y + endY, radius, x1, y1, x2, y2, r);
+    }
+
+    @Override
+    double circleTimeOfImpact(final double x, final double y, final double cx, final double cy, final double r, final double dx, final double dy) {
+        return Collisions.sweptCircleCapsule(cx, cy, r, dx, dy, x + startX, y + startY, x + endX, y + endY, radius);
+    }
+
+    @Override
+    double boxTimeOfImpact(final double x, final double y, final double left, final double top, final double right, final double bottom, final double dx, final double dy) {
+        return discreteTimeOfImpact(
+                overlapsBox(x, y, left, top, right, bottom),
+                overlapsBox(x, y, left + dx, top + dy, right + dx, bottom + dy)
+        );
+    }
+
+    @Override
+    double capsuleTimeOfImpact(final double x, final double y, final double x1, final double y1, final double x2, final double y2, final double r, final double dx, final double dy) {
+        return discreteTimeOfImpact(
+                overlapsCapsule(x, y, x1, y1, x2, y2, r),
+                overlapsCapsule(x, y, x1 + dx, y1 + dy, x2 + dx, y2 + dy, r)
+        );
+    }
+}
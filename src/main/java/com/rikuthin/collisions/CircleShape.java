@@ -0,0 +1,150 @@
+package com.rikuthin.collisions;
+
+import java.awt.Rectangle;
+
+/**
+ * A circular collision shape, the usual hitbox of a danmaku bullet.
+ */
+public final class CircleShape extends CollisionShape {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The x-offset of the centre from the owner's position.
+     */
+    private final double centreX;
+    /**
+     * The y-offset of the centre from the owner's position.
+     */
+    private final double centreY;
+    /**
+     * The radius.
+     */
+    private final double radius;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a circle.
+     *
+     * @param centreX The x-offset of the centre from the owner's position.
+     * @param centreY The y-offset of the centre from the owner's position.
+     * @param radius The radius. Must not be negative.
+     */
+    public CircleShape(final double centreX, final double centreY, final double radius) {
+        if (radius < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Radius cannot be less than zero (0).",
+                    this.getClass().getName()
+            ));
+        }
+        this.centreX = centreX;
+        this.centreY = centreY;
+        this.radius = radius;
+    }
+
+    // ----- STATIC METHODS -----
+    /**
+     * Creates a circle centred within a rectangle (e.g., a sprite's opaque
+     * bounds).
+     *
+     * @param bounds The rectangle, relative to the owner's position.
+     * @param radius The radius.
+     * @return The circle.
+     */
+    public static CircleShape centredIn(final Rectangle bounds, final double radius) {
+        return new CircleShape(bounds.getCenterX(), bounds.getCenterY(), radius);
+    }
+
+    /**
+     * Creates the largest circle fitting within a rectangle, scaled by a
+     * factor (danmaku hitboxes are usually smaller than the sprite).
+     *
+     * @param bounds The rectangle, relative to the owner's position.
+     * @param scale The fraction of the inscribed radius to use.
+     * @return The circle.
+     */
+    public static CircleShape inscribedIn(final Rectangle bounds, final double scale) {
+        return centredIn(bounds, Math.min(bounds.width, bounds.height) / 2.0 * scale);
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the x-offset of the centre from the owner's position.
+     *
+     * @return The centre x-offset.
+     */
+    public double getCentreX() {
+        return centreX;
+    }
+
+    /**
+     * Returns the y-offset of the centre from the owner's position.
+     *
+     * @return The centre y-offset.
+     */
+    public double getCentreY() {
+        return centreY;
+    }
+
+    /**
+     * Returns the radius.
+     *
+     * @return The radius.
+     */
+    public double getRadius() {
+        return radius;
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    @Override
+    public boolean overlaps(final double x, final double y, final CollisionShape other, final double otherX, final double otherY) {
+        return other.overlapsCircle(otherX, otherY, x + centreX, y + centreY, radius);
+    }
+
+    @Override
+    public boolean overlapsBox(final double x, final double y, final double left, final double top, final double right, final double bottom) {
+        return Collisions.circleBox(x + centreX, y + centreY, radius, left, top, right, bottom);
+    }
+
+    @Override
+    public void updateBounds(final double x, final double y, final Rectangle bounds) {
+        double cx = x + centreX;
+        double cy = y + centreY;
+        setBounds(bounds, cx - radius, cy - radius, cx + radius, cy + radius);
+    }
+
+    @Override
+    public double timeOfImpact(final double startX, final double startY, final double endX, final double endY, final CollisionShape other, final double otherX, final double otherY) {
+        return other.circleTimeOfImpact(otherX, otherY, startX + centreX, startY + centreY, radius, endX - startX, endY - startY);
+    }
+
+    @Override
+    public double timeOfImpact(final double startX, final double startY, final double endX, final double endY, final double left, final double top, final double right, final double bottom) {
+        return Collisions.sweptCircleBox(startX + centreX, startY + centreY, radius, endX - startX, endY - startY, left, top, right, bottom);
+    }
+
+    @Override
+    boolean overlapsCircle(final double x, final double y, final double cx, final double cy, final double r) {
+        return Collisions.circleCircle(x + centreX, y + centreY, radius, cx, cy, r);
+    }
+
+    @Override
+    boolean overlapsCapsule(final double x, final double y, final double x1, final double y1, final double x2, final double y2, final double r) {
+        return Collisions.capsuleCircle(x1, y1, x2, y2, r, x + centreX, y + centreY, radius);
+    }
+
+    @Override
+    double circleTimeOfImpact(final double x, final double y, final double cx, final double cy, final double r, final double dx, final double dy) {
+        return Collisions.sweptCircleCircle(cx, cy, r, dx, dy, x + centreX, y + centreY, radius);
+    }
+
+    @Override
+    double boxTimeOfImpact(final double x, final double y, final double left, final double top, final double right, final double bottom, final double dx, final double dy) {
+        // A box moving onto this circle is this circle moving onto the box
+        return Collisions.sweptCircleBox(x + centreX, y + centreY, radius, -dx, -dy, left, top, right, bottom);
+    }
+
+    @Override
+    double capsuleTimeOfImpact(final double x, final double y, final double x1, final double y1, final double x2, final double y2, final double r, final double dx, final double dy) {
+        return Collisions.sweptCircleCapsule(x + centreX, y + centreY, radius, -dx, -dy, x1, y1, x2, y2, r);
+    }
+}
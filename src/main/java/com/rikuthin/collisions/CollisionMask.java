@@ -0,0 +1,262 @@
+package com.rikuthin.collisions;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+/**
+ * A precomputed, pixel-accurate collision shape for a single sprite image.
+ * <p>
+ * The mask stores the tight bounds of the image's opaque pixels and, within
+ * those bounds, one bit per pixel packed into {@code long} words row by row
+ * (bit {@code i} of a row's word {@code w} is column {@code w * 64 + i}).
+ * Overlap tests between two masks therefore AND up to 64 pixels at a time
+ * and only ever touch the rows and columns where the two bounds intersect.
+ * <p>
+ * Masks are immutable and shared by every entity displaying the same frame.
+ */
+public final class CollisionMask {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The minimum alpha value for a pixel to count as opaque. Faint
+     * anti-aliased edges are ignored.
+     */
+    public static final int ALPHA_THRESHOLD = 0x80;
+    /**
+     * The mask of an image without any opaque pixels.
+     */
+    public static final CollisionMask EMPTY = new CollisionMask(new Rectangle(0, 0, 0, 0), 0, new long[0]);
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The tight bounds of the opaque pixels, relative to the image's top-left
+     * corner.
+     */
+    private final Rectangle bounds;
+    /**
+     * How many {@code long} words each row of the mask uses.
+     */
+    private final int wordsPerRow;
+    /**
+     * The packed rows of the mask, covering {@link #bounds} only.
+     */
+    private final long[] rows;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a mask from packed rows.
+     *
+     * @param bounds The opaque bounds.
+     * @param wordsPerRow How many words each row uses.
+     * @param rows The packed rows.
+     */
+    private CollisionMask(final Rectangle bounds, final int wordsPerRow, final long[] rows) {
+        this.bounds = bounds;
+        this.wordsPerRow = wordsPerRow;
+        this.rows = rows;
+    }
+
+    // ----- STATIC METHODS -----
+    /**
+     * Computes the collision mask of an image.
+     *
+     * @param image The image.
+     * @return The image's collision mask, or {@link #EMPTY} if the image is
+     * {@code null} or has no opaque pixels.
+     */
+    public static CollisionMask fromImage(final BufferedImage image) {
+        if (image == null) {
+            return EMPTY;
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        // Find the tight opaque bounds
+        int minX = width;
+        int minY = height;
+        int maxX = -1;
+        int maxY = -1;
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (isOpaque(pixels[y * width + x])) {
+                    minX = Math.min(minX, x);
+                    minY = Math.min(minY, y);
+                    maxX = Math.max(maxX, x);
+                    maxY = Math.max(maxY, y);
+                }
+            }
+        }
+        if (maxX < 0) {
+            return EMPTY;
+        }
+
+        // Pack the pixels within the bounds
+        Rectangle bounds = new Rectangle(minX, minY, maxX - minX + 1, maxY - minY + 1);
+        int wordsPerRow = (bounds.width + 63) >>> 6;
+        long[] rows = new long[wordsPerRow * bounds.height];
+        for (int y = 0; y < bounds.height; y++) {
+            for (int x = 0; x < bounds.width; x++) {
+                if (isOpaque(pixels[(minY + y) * width + minX + x])) {
+                    rows[y * wordsPerRow + (x >>> 6)] |= 1L << (x & 63);
+                }
+            }
+        }
+        return new CollisionMask(bounds, wordsPerRow, rows);
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the tight bounds of the opaque pixels, relative to the image's
+     * top-left corner. The returned rectangle must not be modified.
+     *
+     * @return The opaque bounds.
+     */
+    public Rectangle getBounds() {
+        return bounds;
+    }
+
+    /**
+     * Returns whether the mask has no opaque pixels.
+     *
+     * @return {@code true} if empty, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return bounds.width == 0;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Checks whether a pixel is opaque.
+     *
+     * @param x The pixel's x-coordinate, relative to the image.
+     * @param y The pixel's y-coordinate, relative to the image.
+     * @return {@code true} if the pixel is opaque, {@code false} otherwise
+     * (including when it lies outside the image).
+     */
+    public boolean contains(final int x, final int y) {
+        int column = x - bounds.x;
+        int row = y - bounds.y;
+        if (column < 0 || row < 0 || column >= bounds.width || row >= bounds.height) {
+            return false;
+        }
+        return (rows[row * wordsPerRow + (column >>> 6)] & (1L << (column & 63))) != 0;
+    }
+
+    /**
+     * Checks whether this mask overlaps another.
+     *
+     * @param x The x-coordinate of this mask's image in the world.
+     * @param y The y-coordinate of this mask's image in the world.
+     * @param other The other mask.
+     * @param otherX The x-coordinate of the other mask's image in the world.
+     * @param otherY The y-coordinate of the other mask's image in the world.
+     * @return {@code true} if any opaque pixels overlap, {@code false}
+     * otherwise.
+     */
+    public boolean overlaps(final int x, final int y, final CollisionMask other, final int otherX, final int otherY) {
+        // World-space offsets of both masks' packed areas
+        int ax = x + bounds.x;
+        int ay = y + bounds.y;
+        int bx = otherX + other.bounds.x;
+        int by = otherY + other.bounds.y;
+
+        int left = Math.max(ax, bx);
+        int top = Math.max(ay, by);
+        int right = Math.min(ax + bounds.width, bx + other.bounds.width);
+        int bottom = Math.min(ay + bounds.height, by + other.bounds.height);
+        if (left >= right || top >= bottom) {
+            return false;
+        }
+
+        for (int worldY = top; worldY < bottom; worldY++) {
+            int rowA = (worldY - ay) * wordsPerRow;
+            int rowB = (worldY - by) * other.wordsPerRow;
+
+            for (int worldX = left; worldX < right; worldX += 64) {
+                long bits = extractBits(rows, rowA, wordsPerRow, worldX - ax)
+                        & extractBits(other.rows, rowB, other.wordsPerRow, worldX - bx);
+                if ((bits & tailMask(right - worldX)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether this mask overlaps a rectangle.
+     *
+     * @param x The x-coordinate of this mask's image in the world.
+     * @param y The y-coordinate of this mask's image in the world.
+     * @param rectangle The rectangle, in world coordinates.
+     * @return {@code true} if any opaque pixel lies within the rectangle,
+     * {@code false} otherwise.
+     */
+    public boolean overlaps(final int x, final int y, final Rectangle rectangle) {
+        int ax = x + bounds.x;
+        int ay = y + bounds.y;
+
+        int left = Math.max(ax, rectangle.x);
+        int top = Math.max(ay, rectangle.y);
+        int right = Math.min(ax + bounds.width, rectangle.x + rectangle.width);
+        int bottom = Math.min(ay + bounds.height, rectangle.y + rectangle.height);
+        if (left >= right || top >= bottom) {
+            return false;
+        }
+
+        for (int worldY = top; worldY < bottom; worldY++) {
+            int rowA = (worldY - ay) * wordsPerRow;
+            for (int worldX = left; worldX < right; worldX += 64) {
+                if ((extractBits(rows, rowA, wordsPerRow, worldX - ax) & tailMask(right - worldX)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Checks whether a packed ARGB pixel counts as opaque.
+     *
+     * @param argb The pixel.
+     * @return {@code true} if opaque, {@code false} otherwise.
+     */
+    private static boolean isOpaque(final int argb) {
+        return (argb >>> 24) >= ALPHA_THRESHOLD;
+    }
+
+    /**
+     * Reads 64 consecutive bits of a packed row, starting at any column.
+     *
+     * @param packed The packed rows.
+     * @param rowStart The index of the row's first word.
+     * @param rowWords How many words the row uses.
+     * @param column The first column to read.
+     * @return The bits, with {@code column} in bit 0. Columns past the end of
+     * the row read as zero.
+     */
+    private static long extractBits(final long[] packed, final int rowStart, final int rowWords, final int column) {
+        int word = column >>> 6;
+        int shift = column & 63;
+
+        long bits = packed[rowStart + word] >>> shift;
+        if (shift != 0 && word + 1 < rowWords) {
+            bits |= packed[rowStart + word + 1] << (64 - shift);
+        }
+        return bits;
+    }
+
+    /**
+     * Returns a mask of the lowest {@code remaining} bits (all bits when 64 or
+     * more remain).
+     *
+     * @param remaining How many columns remain.
+     * @return The mask.
+     */
+    private static long tailMask(final int remaining) {
+        return remaining >= 64 ? -1L : (1L << remaining) - 1;
+    }
+}
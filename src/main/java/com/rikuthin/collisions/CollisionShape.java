@@ -0,0 +1,213 @@
+package com.rikuthin.collisions;
+
+import java.awt.Rectangle;
+
+/**
+ * A lightweight primitive collision shape attached to an entity.
+ * <p>
+ * Shapes are immutable and store their geometry as primitive offsets from the
+ * owning entity's position, so a single instance can be shared by every
+ * entity of the same kind (e.g., all bullets of one type). Overlap tests
+ * between two shapes are double-dispatched to the specialised routine in
+ * {@link Collisions} for that pair of shape types, and never allocate.
+ * <p>
+ * Swept tests ({@link #timeOfImpact}) are continuous for every pair involving
+ * a point, circle or box. Capsules swept against capsules or boxes are only
+ * tested at the start and end of the motion.
+ */
+public abstract sealed class CollisionShape permits PointShape, CircleShape, CapsuleShape, BoxShape {
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Checks whether this shape overlaps another.
+     *
+     * @param x The x-coordinate of this shape's owner.
+     * @param y The y-coordinate of this shape's owner.
+     * @param other The other shape.
+     * @param otherX The x-coordinate of the other shape's owner.
+     * @param otherY The y-coordinate of the other shape's owner.
+     * @return {@code true} if the shapes overlap, {@code false} otherwise.
+     */
+    public abstract boolean overlaps(double x, double y, CollisionShape other, double otherX, double otherY);
+
+    /**
+     * Checks whether this shape overlaps an axis-aligned box given in world
+     * coordinates.
+     *
+     * @param x The x-coordinate of this shape's owner.
+     * @param y The y-coordinate of this shape's owner.
+     * @param left The box's left edge.
+     * @param top The box's top edge.
+     * @param right The box's right edge.
+     * @param bottom The box's bottom edge.
+     * @return {@code true} if they overlap, {@code false} otherwise.
+     */
+    public abstract boolean overlapsBox(double x, double y, double left, double top, double right, double bottom);
+
+    /**
+     * Checks whether this shape overlaps a rectangle given in world
+     * coordinates.
+     *
+     * @param x The x-coordinate of this shape's owner.
+     * @param y The y-coordinate of this shape's owner.
+     * @param rectangle The rectangle.
+     * @return {@code true} if they overlap, {@code false} otherwise.
+     */
+    public final boolean overlaps(final double x, final double y, final Rectangle rectangle) {
+        return overlapsBox(x, y, rectangle.x, rectangle.y, rectangle.x + (double) rectangle.width, rectangle.y + (double) rectangle.height);
+    }
+
+    /**
+     * Writes the smallest integer rectangle enclosing this shape into
+     * {@code bounds}, without allocating.
+     *
+     * @param x The x-coordinate of this shape's owner.
+     * @param y The y-coordinate of this shape's owner.
+     * @param bounds The rectangle to update.
+     */
+    public abstract void updateBounds(double x, double y, Rectangle bounds);
+
+    /**
+     * Computes when this shape, moving in a straight line, first overlaps a
+     * static shape.
+     *
+     * @param startX The x-coordinate of this shape's owner at the start of
+     * the motion.
+     * @param startY The y-coordinate of this shape's owner at the start of
+     * the motion.
+     * @param endX The x-coordinate of this shape's owner at the end of the
+     * motion.
+     * @param endY The y-coordinate of this shape's owner at the end of the
+     * motion.
+     * @param other The static shape.
+     * @param otherX The x-coordinate of the static shape's owner.
+     * @param otherY The y-coordinate of the static shape's owner.
+     * @return The time of impact as a fraction of the motion in [0, 1] (0 if
+     * they overlap at the start), or {@link Collisions#NO_IMPACT}.
+     */
+    public abstract double timeOfImpact(double startX, double startY, double endX, double endY, CollisionShape other, double otherX, double otherY);
+
+    /**
+     * Computes when this shape, moving in a straight line, first overlaps a
+     * static axis-aligned box given in world coordinates.
+     *
+     * @param startX The x-coordinate of this shape's owner at the start of
+     * the motion.
+     * @param startY The y-coordinate of this shape's owner at the start of
+     * the motion.
+     * @param endX The x-coordinate of this shape's owner at the end of the
+     * motion.
+     * @param endY The y-coordinate of this shape's owner at the end of the
+     * motion.
+     * @param left The box's left edge.
+     * @param top The box's top edge.
+     * @param right The box's right edge.
+     * @param bottom The box's bottom edge.
+     * @return The time of impact as a fraction of the motion in [0, 1] (0 if
+     * they overlap at the start), or {@link Collisions#NO_IMPACT}.
+     */
+    public abstract double timeOfImpact(double startX, double startY, double endX, double endY, double left, double top, double right, double bottom);
+
+    // ----- HELPER METHODS -----
+    /**
+     * Checks whether this shape overlaps a circle given in world coordinates.
+     *
+     * @param x The x-coordinate of this shape's owner.
+     * @param y The y-coordinate of this shape's owner.
+     * @param cx The circle's centre x-coordinate.
+     * @param cy The circle's centre y-coordinate.
+     * @param r The circle's radius.
+     * @return {@code true} if they overlap, {@code false} otherwise.
+     */
+    abstract boolean overlapsCircle(double x, double y, double cx, double cy, double r);
+
+    /**
+     * Checks whether this shape overlaps a capsule given in world coordinates.
+     *
+     * @param x The x-coordinate of this shape's owner.
+     * @param y The y-coordinate of this shape's owner.
+     * @param x1 The x-coordinate of the capsule segment's start.
+     * @param y1 The y-coordinate of the capsule segment's start.
+     * @param x2 The x-coordinate of the capsule segment's end.
+     * @param y2 The y-coordinate of the capsule segment's end.
+     * @param r The capsule's radius.
+     * @return {@code true} if they overlap, {@code false} otherwise.
+     */
+    abstract boolean overlapsCapsule(double x, double y, double x1, double y1, double x2, double y2, double r);
+
+    /**
+     * Computes when a moving circle first overlaps this (static) shape.
+     *
+     * @param x The x-coordinate of this shape's owner.
+     * @param y The y-coordinate of this shape's owner.
+     * @param cx The circle's starting centre x-coordinate.
+     * @param cy The circle's starting centre y-coordinate.
+     * @param r The circle's radius.
+     * @param dx The circle's displacement along the x-axis.
+     * @param dy The circle's displacement along the y-axis.
+     * @return The time of impact, or {@link Collisions#NO_IMPACT}.
+     */
+    abstract double circleTimeOfImpact(double x, double y, double cx, double cy, double r, double dx, double dy);
+
+    /**
+     * Computes when a moving axis-aligned box first overlaps this (static)
+     * shape.
+     *
+     * @param x The x-coordinate of this shape's owner.
+     * @param y The y-coordinate of this shape's owner.
+     * @param left The box's starting left edge.
+     * @param top The box's starting top edge.
+     * @param right The box's starting right edge.
+     * @param bottom The box's starting bottom edge.
+     * @param dx The box's displacement along the x-axis.
+     * @param dy The box's displacement along the y-axis.
+     * @return The time of impact, or {@link Collisions#NO_IMPACT}.
+     */
+    abstract double boxTimeOfImpact(double x, double y, double left, double top, double right, double bottom, double dx, double dy);
+
+    /**
+     * Computes when a moving capsule first overlaps this (static) shape.
+     *
+     * @param x The x-coordinate of this shape's owner.
+     * @param y The y-coordinate of this shape's owner.
+     * @param x1 The x-coordinate of the capsule segment's starting start.
+     * @param y1 The y-coordinate of the capsule segment's starting start.
+     * @param x2 The x-coordinate of the capsule segment's starting end.
+     * @param y2 The y-coordinate of the capsule segment's starting end.
+     * @param r The capsule's radius.
+     * @param dx The capsule's displacement along the x-axis.
+     * @param dy The capsule's displacement along the y-axis.
+     * @return The time of impact, or {@link Collisions#NO_IMPACT}.
+     */
+    abstract double capsuleTimeOfImpact(double x, double y, double x1, double y1, double x2, double y2, double r, double dx, double dy);
+
+    /**
+     * Returns the time of impact for a pair of shapes only tested at the start
+     * and end of a motion.
+     *
+     * @param overlapsAtStart Whether the shapes overlap at the start.
+     * @param overlapsAtEnd Whether the shapes overlap at the end.
+     * @return 0, 1 or {@link Collisions#NO_IMPACT}.
+     */
+    static double discreteTimeOfImpact(final boolean overlapsAtStart, final boolean overlapsAtEnd) {
+        if (overlapsAtStart) {
+            return 0;
+        }
+        return overlapsAtEnd ? 1 : Collisions.NO_IMPACT;
+    }
+
+    /**
+     * Sets a rectangle to the integer bounds enclosing the given extents.
+     *
+     * @param bounds The rectangle to update.
+     * @param left The left extent.
+     * @param top The top extent.
+     * @param right The right extent.
+     * @param bottom The bottom extent.
+     */
+    static void setBounds(final Rectangle bounds, final double left, final double top, final double right, final double bottom) {
+        int minX = (int) Math.floor(left);
+        int minY = (int) Math.floor(top);
+        bounds.setBounds(minX, minY, (int) Math.ceil(right) - minX, (int) Math.ceil(bottom) - minY);
+    }
+}
@@ -0,0 +1,103 @@
+package com.rikuthin.collisions;
+
+import java.awt.Rectangle;
+
+/**
+ * A single-point collision shape (e.g., the classic one-pixel danmaku player
+ * hitbox).
+ */
+public final class PointShape extends CollisionShape {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The x-offset of the point from the owner's position.
+     */
+    private final double offsetX;
+    /**
+     * The y-offset of the point from the owner's position.
+     */
+    private final double offsetY;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a point.
+     *
+     * @param offsetX The x-offset of the point from the owner's position.
+     * @param offsetY The y-offset of the point from the owner's position.
+     */
+    public PointShape(final double offsetX, final double offsetY) {
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the x-offset of the point from the owner's position.
+     *
+     * @return The x-offset.
+     */
+    public double getOffsetX() {
+        return offsetX;
+    }
+
+    /**
+     * Returns the y-offset of the point from the owner's position.
+     *
+     * @return The y-offset.
+     */
+    public double getOffsetY() {
+        return offsetY;
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    @Override
+    public boolean overlaps(final double x, final double y, final CollisionShape other, final double otherX, final double otherY) {
+        return other.overlapsCircle(otherX, otherY, x + offsetX, y + offsetY, 0);
+    }
+
+    @Override
+    public boolean overlapsBox(final double x, final double y, final double left, final double top, final double right, final double bottom) {
+        return Collisions.circleBox(x + offsetX, y + offsetY, 0, left, top, right, bottom);
+    }
+
+    @Override
+    public void updateBounds(final double x, final double y, final Rectangle bounds) {
+        setBounds(bounds, x + offsetX, y + offsetY, x + offsetX + 1, y + offsetY + 1);
+    }
+
+    @Override
+    public double timeOfImpact(final double startX, final double startY, final double endX, final double endY, final CollisionShape other, final double otherX, final double otherY) {
+        return other.circleTimeOfImpact(otherX, otherY, startX + offsetX, startY + offsetY, 0, endX - startX, endY - startY);
+    }
+
+    @Override
+    public double timeOfImpact(final double startX, final double startY, final double endX, final double endY, final double left, final double top, final double right, final double bottom) {
+        return Collisions.sweptCircleBox(startX + offsetX, startY + offsetY, 0, endX - startX, endY - startY, left, top, right, bottom);
+    }
+
+    @Override
+    boolean overlapsCircle(final double x, final double y, final double cx, final double cy, final double r) {
+        return Collisions.circleCircle(x + offsetX, y + offsetY, 0, cx, cy, r);
+    }
+
+    @Override
+    boolean overlapsCapsule(final double x, final double y, final double x1, final double y1, final double x2, final double y2, final double r) {
+        return Collisions.capsuleCircle(x1, y1, x2, y2, r, x + offsetX, y + offsetY, 0);
+    }
+
+    @Override
+    double circleTimeOfImpact(final double x, final double y, final double cx, final double cy, final double r, final double dx, final double dy) {
+        return Collisions.sweptCircleCircle(cx, cy, r, dx, dy, x + offsetX, y + offsetY, 0);
+    }
+
+    @Override
+    double boxTimeOfImpact(final double x, final double y, final double left, final double top, final double right, final double bottom, final double dx, final double dy) {
+        // A box moving onto this point is this point moving onto the box
+        return Collisions.sweptCircleBox(x + offsetX, y + offsetY, 0, -dx, -dy, left, top, right, bottom);
+    }
+
+    @Override
+    double capsuleTimeOfImpact(final double x, final double y, final double x1, final double y1, final double x2, final double y2, final double r, final double dx, final double dy) {
+        return Collisions.sweptCircleCapsule(x + offsetX, y + offsetY, 0, -dx, -dy, x1, y1, x2, y2, r);
+    }
+}
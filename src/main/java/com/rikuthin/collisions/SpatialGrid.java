@@ -0,0 +1,318 @@
+package com.rikuthin.collisions;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.List;
+
+import com.rikuthin.entities.Entity;
+
+/**
+ * A uniform grid of square cells used to find the entities near a point or a
+ * region without testing every entity.
+ * <p>
+ * Each entity is filed under the cell containing the centre of its hitbox;
+ * entities outside the grid are filed under the nearest border cell. Each
+ * cell's entities form a singly linked list threaded through flat arrays, so
+ * inserting is constant time, clearing only resets the cell heads, and
+ * neither allocates once the arrays have grown to the population. A query
+ * widens its cell range by the largest hitbox inserted since the last clear,
+ * visits only the cells it covers, and then tests each candidate's hitbox
+ * exactly, so its cost is proportional to the entities near it rather than
+ * to the total.
+ * <p>
+ * The grid does not track movement: it is meant to be cleared and refilled
+ * once per tick by whoever updates the entities.
+ *
+ * @param <T> The type of entity stored.
+ */
+public final class SpatialGrid<T extends Entity> {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * Marks the end of a cell's list.
+     */
+    private static final int END_OF_CELL = -1;
+    /**
+     * The initial capacity of the entry arrays.
+     */
+    private static final int INITIAL_CAPACITY = 256;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The width and height of each cell, in pixels.
+     */
+    private final int cellSize;
+    /**
+     * How many columns of cells the grid has.
+     */
+    private int columns;
+    /**
+     * How many rows of cells the grid has.
+     */
+    private int rows;
+    /**
+     * The index of the most recently inserted entry of each cell, or
+     * {@link #END_OF_CELL} if the cell is empty. Cells are stored row by row.
+     */
+    private int[] cellHeads;
+    /**
+     * The inserted entities, in insertion order.
+     */
+    private Object[] entries;
+    /**
+     * The index of the next entry in the same cell as each entry, or
+     * {@link #END_OF_CELL}.
+     */
+    private int[] nextEntries;
+    /**
+     * How many entities have been inserted since the last clear.
+     */
+    private int size;
+    /**
+     * The largest hitbox width inserted since the last clear.
+     */
+    private int maxEntryWidth;
+    /**
+     * The largest hitbox height inserted since the last clear.
+     */
+    private int maxEntryHeight;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates an empty grid. It covers no area until it is first cleared.
+     *
+     * @param cellSize The width and height of each cell, in pixels.
+     */
+    public SpatialGrid(final int cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Cell size must be greater than zero (0).",
+                    this.getClass().getName()
+            ));
+        }
+        this.cellSize = cellSize;
+        this.columns = 1;
+        this.rows = 1;
+        this.cellHeads = new int[]{END_OF_CELL};
+        this.entries = new Object[INITIAL_CAPACITY];
+        this.nextEntries = new int[INITIAL_CAPACITY];
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the width and height of each cell.
+     *
+     * @return The cell size in pixels.
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Returns how many entities have been inserted since the last clear.
+     *
+     * @return The number of entities.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Removes every entity and resizes the grid to cover an area anchored at
+     * the origin. The cell array is only reallocated when it has to grow.
+     *
+     * @param width The width of the covered area, in pixels.
+     * @param height The height of the covered area, in pixels.
+     */
+    public void clear(final int width, final int height) {
+        if (width < 0 || height < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Width and height cannot be less than zero (0).",
+                    this.getClass().getName()
+            ));
+        }
+
+        columns = Math.max(1, (width + cellSize - 1) / cellSize);
+        rows = Math.max(1, (height + cellSize - 1) / cellSize);
+        if (cellHeads.length < columns * rows) {
+            cellHeads = new int[columns * rows];
+        }
+        Arrays.fill(cellHeads, 0, columns * rows, END_OF_CELL);
+        Arrays.fill(entries, 0, size, null);
+
+        size = 0;
+        maxEntryWidth = 0;
+        maxEntryHeight = 0;
+    }
+
+    /**
+     * Files an entity under the cell containing its hitbox's centre.
+     *
+     * @param entity The entity.
+     */
+    public void insert(final T entity) {
+        if (size == entries.length) {
+            entries = Arrays.copyOf(entries, size * 2);
+            nextEntries = Arrays.copyOf(nextEntries, size * 2);
+        }
+
+        Rectangle hitbox = entity.getHitbox();
+        int cell = row(hitbox.y + hitbox.height / 2) * columns + column(hitbox.x + hitbox.width / 2);
+
+        entries[size] = entity;
+        nextEntries[size] = cellHeads[cell];
+        cellHeads[cell] = size;
+        size++;
+
+        maxEntryWidth = Math.max(maxEntryWidth, hitbox.width);
+        maxEntryHeight = Math.max(maxEntryHeight, hitbox.height);
+    }
+
+    /**
+     * Finds every entity whose hitbox overlaps a circle.
+     *
+     * @param x The circle's centre x-coordinate.
+     * @param y The circle's centre y-coordinate.
+     * @param radius The circle's radius.
+     * @param results The list the entities are added to. It is not cleared
+     * first.
+     * @return How many entities were added.
+     */
+    public int queryCircle(final double x, final double y, final double radius, final List<? super T> results) {
+        int found = 0;
+        int lastColumn = column(x + radius + maxEntryWidth / 2.0 + 1);
+        int lastRow = row(y + radius + maxEntryHeight / 2.0 + 1);
+
+        for (int r = row(y - radius - maxEntryHeight / 2.0 - 1); r <= lastRow; r++) {
+            for (int c = column(x - radius - maxEntryWidth / 2.0 - 1); c <= lastColumn; c++) {
+                for (int i = cellHeads[r * columns + c]; i != END_OF_CELL; i = nextEntries[i]) {
+                    T entity = entry(i);
+                    Rectangle hitbox = entity.getHitbox();
+                    if (Collisions.circleBox(x, y, radius, hitbox.x, hitbox.y, hitbox.x + hitbox.width, hitbox.y + hitbox.height)) {
+                        results.add(entity);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds every entity whose hitbox overlaps an axis-aligned box.
+     *
+     * @param left The box's left edge.
+     * @param top The box's top edge.
+     * @param right The box's right edge.
+     * @param bottom The box's bottom edge.
+     * @param results The list the entities are added to. It is not cleared
+     * first.
+     * @return How many entities were added.
+     */
+    public int queryBox(final double left, final double top, final double right, final double bottom, final List<? super T> results) {
+        int found = 0;
+        int lastColumn = column(right + maxEntryWidth / 2.0 + 1);
+        int lastRow = row(bottom + maxEntryHeight / 2.0 + 1);
+
+        for (int r = row(top - maxEntryHeight / 2.0 - 1); r <= lastRow; r++) {
+            for (int c = column(left - maxEntryWidth / 2.0 - 1); c <= lastColumn; c++) {
+                for (int i = cellHeads[r * columns + c]; i != END_OF_CELL; i = nextEntries[i]) {
+                    T entity = entry(i);
+                    Rectangle hitbox = entity.getHitbox();
+                    if (Collisions.boxBox(left, top, right, bottom, hitbox.x, hitbox.y, hitbox.x + hitbox.width, hitbox.y + hitbox.height)) {
+                        results.add(entity);
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Finds the entity whose hitbox centre is nearest to a point.
+     * <p>
+     * Searches outwards from the point's cell one ring of cells at a time,
+     * and stops as soon as no unsearched cell can hold anything nearer than
+     * the best match so far, so a query near the entities only visits a few
+     * cells.
+     *
+     * @param x The point's x-coordinate.
+     * @param y The point's y-coordinate.
+     * @param maxDistance How far from the point to search.
+     * @return The nearest entity, or {@code null} if none lies within
+     * {@code maxDistance}.
+     */
+    public T findNearest(final double x, final double y, final double maxDistance) {
+        int centreColumn = column(x);
+        int centreRow = row(y);
+        int maxRing = Math.max(Math.max(centreColumn, columns - 1 - centreColumn), Math.max(centreRow, rows - 1 - centreRow));
+
+        T nearest = null;
+        double nearestDistanceSquared = maxDistance * maxDistance;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Every cell of this ring lies at least (ring - 1) cells from the point
+            double ringDistance = (ring - 1) * (double) cellSize;
+            if (ring > 1 && ringDistance * ringDistance > nearestDistanceSquared) {
+                break;
+            }
+
+            int top = centreRow - ring;
+            int bottom = centreRow + ring;
+            for (int r = Math.max(top, 0); r <= Math.min(bottom, rows - 1); r++) {
+                boolean isEdgeRow = r == top || r == bottom;
+                int step = isEdgeRow ? 1 : 2 * ring;
+                for (int c = centreColumn - ring; c <= centreColumn + ring; c += Math.max(step, 1)) {
+                    if (c < 0 || c >= columns) {
+                        continue;
+                    }
+                    for (int i = cellHeads[r * columns + c]; i != END_OF_CELL; i = nextEntries[i]) {
+                        T entity = entry(i);
+                        Rectangle hitbox = entity.getHitbox();
+                        double dx = hitbox.x + hitbox.width / 2.0 - x;
+                        double dy = hitbox.y + hitbox.height / 2.0 - y;
+                        double distanceSquared = dx * dx + dy * dy;
+                        if (distanceSquared <= nearestDistanceSquared) {
+                            nearest = entity;
+                            nearestDistanceSquared = distanceSquared;
+                        }
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Returns the column containing an x-coordinate, clamped to the grid.
+     *
+     * @param x The x-coordinate.
+     * @return The column.
+     */
+    private int column(final double x) {
+        return Math.clamp((long) Math.floor(x / cellSize), 0, columns - 1);
+    }
+
+    /**
+     * Returns the row containing a y-coordinate, clamped to the grid.
+     *
+     * @param y The y-coordinate.
+     * @return The row.
+     */
+    private int row(final double y) {
+        return Math.clamp((long) Math.floor(y / cellSize), 0, rows - 1);
+    }
+
+    /**
+     * Returns an inserted entity.
+     *
+     * @param index The entity's entry index.
+     * @return The entity.
+     */
+    @SuppressWarnings("unchecked")
+    private T entry(final int index) {
+        return (T) entries[index];
+    }
+}
@@ -1,5 +1,7 @@
 package com.rikuthin.effects;
 
+import java.awt.AlphaComposite;
+import java.awt.Composite;
 import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
@@ -21,7 +23,6 @@ public class DisappearFX implements ImageFX {
     private int y;
 
     private BufferedImage spriteImage;		// image for sprite effect
-    private BufferedImage copy;			// copy of image
 
     Graphics2D g2;
 
@@ -42,42 +43,19 @@ public class DisappearFX implements ImageFX {
         alphaChange = 5;			// how to update alpha in game loop
 
         spriteImage = ImageManager.loadBufferedImage("images/Butterfly.png");
-        copy = ImageManager.copyImage(spriteImage);
-        //  make a copy of the original image
 
     }
 
     public void draw(Graphics2D g2) {
 
-        int imWidth = copy.getWidth();
-        int imHeight = copy.getHeight();
+        // Fade using the composite instead of rewriting the alpha byte of every
+        // pixel each frame; the cost no longer depends on the sprite's size.
+        Composite previous = g2.getComposite();
+        g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha / 255.0f));
 
-        int[] pixels = new int[imWidth * imHeight];
-        copy.getRGB(0, 0, imWidth, imHeight, pixels, 0, imWidth);
+        g2.drawImage(spriteImage, x, y, WIDTH, HEIGHT, null);
 
-        int a, red, green, blue, newValue;
-
-        for (int i = 0; i < pixels.length; i++) {
-
-            a = (pixels[i] >> 24);
-            red = (pixels[i] >> 16) & 255;
-            green = (pixels[i] >> 8) & 255;
-            blue = pixels[i] & 255;
-
-            /*
-			newValue = blue | (green << 8) | (red << 16) | (alpha << 24);
-			pixels[i] = newValue;
-             */
-            if (a != 0) {
-                newValue = blue | (green << 8) | (red << 16) | (alpha << 24);
-                pixels[i] = newValue;
-            }
-
-        }
-
-        copy.setRGB(0, 0, imWidth, imHeight, pixels, 0, imWidth);
-
-        g2.drawImage(copy, x, y, WIDTH, HEIGHT, null);
+        g2.setComposite(previous);
 
     }
 
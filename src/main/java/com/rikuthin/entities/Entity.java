@@ -4,12 +4,16 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import javax.swing.JPanel;
 
+import com.rikuthin.collisions.CollisionMask;
+import com.rikuthin.collisions.CollisionShape;
+import com.rikuthin.collisions.Collisions;
 import com.rikuthin.graphics.animations.AnimationInstance;
 import com.rikuthin.graphics.animations.AnimationTemplate;
 import com.rikuthin.interfaces.Renderable;
@@ -37,9 +41,28 @@ public abstract class Entity implements Updateable, Renderable {
     protected final JPanel panel;
 
     /**
-     * The position of the entity in the game world.
+     * The x-coordinate of the entity in the game world, with sub-pixel
+     * precision.
      */
-    protected Point position;
+    protected double x;
+
+    /**
+     * The y-coordinate of the entity in the game world, with sub-pixel
+     * precision.
+     */
+    protected double y;
+
+    /**
+     * The x-coordinate of the entity at the start of its latest movement, used
+     * for swept collision tests.
+     */
+    protected double previousX;
+
+    /**
+     * The y-coordinate of the entity at the start of its latest movement, used
+     * for swept collision tests.
+     */
+    protected double previousY;
 
     /**
      * Flag indicating whether the entity is invisible or not.
@@ -51,22 +74,46 @@ public abstract class Entity implements Updateable, Renderable {
      */
     protected HashSet<String> animationKeys;
 
+    /**
+     * The {@link AnimationManager} handles of {@link #animationKeys}, for
+     * constant-time membership checks.
+     */
+    protected BitSet animationHandles;
+
     /**
      * The key of the currently active animation.
      */
     protected String currentAnimationKey;
 
+    /**
+     * The {@link AnimationManager} handle of the currently active animation,
+     * or {@link AnimationManager#NO_ANIMATION}.
+     */
+    protected int currentAnimationHandle = AnimationManager.NO_ANIMATION;
+
     /**
      * The currently active animation. Set through a query to
      * {@link AnimationManager}.
      */
     protected AnimationInstance currentAnimation;
 
+    /**
+     * The {@link AnimationManager} revision at which the current animation's
+     * template was looked up.
+     */
+    protected int animationRevision;
+
     /**
      * The hitbox used for collision detection.
      */
     protected Rectangle hitbox;
 
+    /**
+     * The primitive collision shape of the entity, or {@code null} to collide
+     * using the current frame's collision mask.
+     */
+    protected CollisionShape collisionShape;
+
     /**
      * Flag indicating whether the entity can collide with other entities.
      */
@@ -97,17 +144,22 @@ public abstract class Entity implements Updateable, Renderable {
         }
 
         this.panel = builder.panel;
-        this.position = builder.position;
+        this.x = builder.x;
+        this.y = builder.y;
+        this.previousX = x;
+        this.previousY = y;
         this.isInvisible = builder.isInvisible;
         this.animationKeys = builder.animationKeys;
-        this.hitbox = builder.hitbox;
+        this.animationHandles = internAnimationKeys(animationKeys);
+        this.hitbox = builder.hitbox != null ? new Rectangle(builder.hitbox) : new Rectangle();
+        this.collisionShape = builder.collisionShape;
         this.isCollidable = builder.isCollidable;
         setMaxHitPoints(builder.maxHitPoints);
         setCurrentHitPoints(builder.currentHitPoints);
 
         // Set initial animation and hitbox
         setAnimation(builder.currentAnimationKey);
-        setHitboxFromCurrentSprite();
+        updateHitbox();
     }
 
     // ----- GETTERS -----
@@ -121,12 +173,14 @@ public abstract class Entity implements Updateable, Renderable {
     }
 
     /**
-     * Returns the current position of the entity.
+     * Returns the current position of the entity, rounded down to whole
+     * pixels. Allocates a new {@link Point}; prefer {@link #getX()} and
+     * {@link #getY()} on hot paths.
      *
      * @return The position as a {@link Point}.
      */
     public Point getPosition() {
-        return position;
+        return new Point(getPixelX(), getPixelY());
     }
 
     /**
@@ -134,8 +188,8 @@ public abstract class Entity implements Updateable, Renderable {
      *
      * @return The X-coordinate.
      */
-    public int getX() {
-        return position.x;
+    public double getX() {
+        return x;
     }
 
     /**
@@ -143,8 +197,48 @@ public abstract class Entity implements Updateable, Renderable {
      *
      * @return The Y-coordinate.
      */
-    public int getY() {
-        return position.y;
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Returns the X-coordinate of the pixel the entity is drawn at (its
+     * position rounded down).
+     *
+     * @return The pixel X-coordinate.
+     */
+    public final int getPixelX() {
+        return (int) Math.floor(x);
+    }
+
+    /**
+     * Returns the Y-coordinate of the pixel the entity is drawn at (its
+     * position rounded down).
+     *
+     * @return The pixel Y-coordinate.
+     */
+    public final int getPixelY() {
+        return (int) Math.floor(y);
+    }
+
+    /**
+     * Returns the X-coordinate of the entity's position at the start of its
+     * latest movement.
+     *
+     * @return The previous X-coordinate.
+     */
+    public double getPreviousX() {
+        return previousX;
+    }
+
+    /**
+     * Returns the Y-coordinate of the entity's position at the start of its
+     * latest movement.
+     *
+     * @return The previous Y-coordinate.
+     */
+    public double getPreviousY() {
+        return previousY;
     }
 
     /**
@@ -175,6 +269,16 @@ public abstract class Entity implements Updateable, Renderable {
         return currentAnimationKey;
     }
 
+    /**
+     * Returns the {@link AnimationManager} handle of the current animation.
+     *
+     * @return The handle, or {@link AnimationManager#NO_ANIMATION} if no
+     * animation is set.
+     */
+    public int getCurrentAnimationHandle() {
+        return currentAnimationHandle;
+    }
+
     /**
      * Returns the entity's current animation.
      *
@@ -226,6 +330,26 @@ public abstract class Entity implements Updateable, Renderable {
         return hitbox;
     }
 
+    /**
+     * Returns the precomputed collision mask of the entity's current frame.
+     *
+     * @return The {@link CollisionMask}, or {@code null} if no animation is
+     * set.
+     */
+    public CollisionMask getCollisionMask() {
+        return currentAnimation != null ? currentAnimation.getCurrentFrame().getCollisionMask() : null;
+    }
+
+    /**
+     * Returns the primitive collision shape of the entity.
+     *
+     * @return The {@link CollisionShape}, or {@code null} if the entity
+     * collides using its collision mask.
+     */
+    public CollisionShape getCollisionShape() {
+        return collisionShape;
+    }
+
     /**
      * Returns whether the entity is collidable with others.
      *
@@ -256,12 +380,28 @@ public abstract class Entity implements Updateable, Renderable {
 
     // ----- SETTERS -----
     /**
-     * Sets the position of the entity.
+     * Sets the position of the entity and moves its hitbox along with it. The
+     * entity is teleported: swept collision tests do not cover the jump.
      *
      * @param position The new position to set.
      */
     public void setPosition(Point position) {
-        this.position = new Point(position);
+        setPosition(position.x, position.y);
+    }
+
+    /**
+     * Sets the position of the entity and moves its hitbox along with it. The
+     * entity is teleported: swept collision tests do not cover the jump.
+     *
+     * @param x The new X-coordinate.
+     * @param y The new Y-coordinate.
+     */
+    public void setPosition(final double x, final double y) {
+        this.x = x;
+        this.y = y;
+        this.previousX = x;
+        this.previousY = y;
+        updateHitbox();
     }
 
     /**
@@ -285,6 +425,7 @@ public abstract class Entity implements Updateable, Renderable {
     public final void setAnimationKeys(final Set<String> animationKeys) throws IllegalArgumentException {
         if (animationKeys == null) {
             this.animationKeys = new HashSet<>();
+            this.animationHandles = new BitSet();
             return;
         }
 
@@ -304,6 +445,7 @@ public abstract class Entity implements Updateable, Renderable {
         }
 
         this.animationKeys = new HashSet<>(animationKeys);
+        this.animationHandles = internAnimationKeys(this.animationKeys);
     }
 
     /**
@@ -314,7 +456,8 @@ public abstract class Entity implements Updateable, Renderable {
      * <p>
      * Valid strings must be a {@link AnimationTemplate} key within
      * {@link AnimationManager} and must exist within the entity's current key
-     * set.
+     * set. Prefer {@link #setAnimation(int)} with a handle resolved once up
+     * front in code that switches animations often.
      *
      * @param key The key identifying the animation.
      * @throws IllegalAccessException if the provided key (when not
@@ -323,7 +466,7 @@ public abstract class Entity implements Updateable, Renderable {
      */
     public final void setAnimation(final String key) throws IllegalArgumentException {
         if (key == null) {
-            currentAnimation = null;
+            setAnimation(AnimationManager.NO_ANIMATION);
             return;
         }
 
@@ -334,44 +477,115 @@ public abstract class Entity implements Updateable, Renderable {
             ));
         }
 
-        if (!animationKeys.contains(key)) {
+        setAnimation(AnimationManager.getInstance().intern(key));
+    }
+
+    /**
+     * Sets the animation for the entity by its {@link AnimationManager}
+     * handle.
+     * <p>
+     * Does nothing if the animation is already playing. Otherwise the entity's
+     * existing {@link AnimationInstance} is reused, so switching animations
+     * does not allocate.
+     *
+     * @param handle The handle identifying the animation, or
+     * {@link AnimationManager#NO_ANIMATION} for no animation.
+     * @throws IllegalArgumentException if the handle (when not
+     * {@link AnimationManager#NO_ANIMATION}) is not within the entity's
+     * animation key set, or does not map to a loaded template within
+     * {@link AnimationManager}.
+     */
+    public final void setAnimation(final int handle) throws IllegalArgumentException {
+        if (handle == AnimationManager.NO_ANIMATION) {
+            currentAnimationHandle = AnimationManager.NO_ANIMATION;
+            currentAnimationKey = null;
+            currentAnimation = null;
+            return;
+        }
+
+        if (handle == currentAnimationHandle && currentAnimation != null && currentAnimation.isPlaying()) {
+            return;
+        }
+
+        AnimationManager.Snapshot animations = AnimationManager.getInstance().getSnapshot();
+        if (handle < 0 || !animationHandles.get(handle)) {
             throw new IllegalArgumentException(String.format(
                     "%s: Animation key <'%s'> not found within key set. Please add key to set.",
                     this.getClass().getName(),
-                    key
+                    animations.getKey(handle)
             ));
         }
 
-        AnimationTemplate template = AnimationManager.getInstance().getAnimation(key);
+        AnimationTemplate template = animations.getAnimation(handle);
         if (template == null) {
             throw new IllegalArgumentException(String.format(
                     "%s: Could not find template in AnimationManager mapped to key <'%s'>.",
                     this.getClass().getName(),
-                    key
+                    animations.getKey(handle)
             ));
         }
-        this.currentAnimation = new AnimationInstance(template);
+
+        this.currentAnimationHandle = handle;
+        this.currentAnimationKey = animations.getKey(handle);
+        this.animationRevision = animations.getRevision();
+        if (currentAnimation == null) {
+            this.currentAnimation = new AnimationInstance(template);
+        } else {
+            currentAnimation.setTemplate(template);
+        }
         currentAnimation.start();
     }
 
     /**
-     * Updates the hitbox dimensions based on the current sprite. The hitbox is
-     * adjusted to match the width and height of the sprite.
+     * Sets the primitive collision shape of the entity and updates the hitbox
+     * to enclose it.
+     *
+     * @param collisionShape The {@link CollisionShape}, or {@code null} to
+     * collide using the current frame's collision mask.
+     */
+    public void setCollisionShape(final CollisionShape collisionShape) {
+        this.collisionShape = collisionShape;
+        updateHitbox();
+    }
+
+    /**
+     * Updates the hitbox based on the current sprite. The hitbox is moved and
+     * resized in place to the current frame's precomputed opaque bounds, so
+     * transparent padding around the sprite never counts as a hit.
      */
     public final void setHitboxFromCurrentSprite() {
-        BufferedImage currentSprite = getCurrentSprite();
-
-        int width = currentSprite != null ? currentSprite.getWidth() : 0;
-        int height = currentSprite != null ? currentSprite.getHeight() : 0;
+        if (currentAnimation == null) {
+            hitbox.setBounds(getPixelX(), getPixelY(), 0, 0);
+            return;
+        }
 
-        hitbox = new Rectangle(position.x, position.y, width, height);
+        Rectangle opaqueBounds = currentAnimation.getCurrentFrame().getOpaqueBounds();
+        hitbox.setBounds(
+                getPixelX() + opaqueBounds.x,
+                getPixelY() + opaqueBounds.y,
+                opaqueBounds.width,
+                opaqueBounds.height
+        );
     }
 
     /**
      * Updates the hitbox dimensions based on the provided {@link Rectangle}.
      */
     public final void setHitboxFromRectangle(final Rectangle rectangle) {
-        hitbox = new Rectangle(rectangle);
+        hitbox.setBounds(rectangle);
+    }
+
+    /**
+     * Updates the hitbox for the entity's current position: to the bounds of
+     * its collision shape if it has one, otherwise to the current sprite's
+     * opaque bounds.
+     */
+    public final void updateHitbox() {
+        if (collisionShape != null) {
+            collisionShape.updateBounds(x, y, hitbox);
+        } else {
+            setHitboxFromCurrentSprite();
+        }
     }
 
     /**
@@ -417,9 +631,9 @@ public abstract class Entity implements Updateable, Renderable {
      * {@code false} otherwise.
      */
     public boolean isFullyWithinPanel() {
-        return position.x >= 0 && position.y >= 0
-                && position.x + getSpriteWidth() <= panel.getWidth()
-                && position.y + getSpriteHeight() <= panel.getHeight();
+        return x >= 0 && y >= 0
+                && x + getSpriteWidth() <= panel.getWidth()
+                && y + getSpriteHeight() <= panel.getHeight();
     }
 
     /**
@@ -429,9 +643,8 @@ public abstract class Entity implements Updateable, Renderable {
      * {@code false} otherwise.
      */
     public boolean isFullyOutsidePanel() {
-        Rectangle spriteBounds = new Rectangle(position.x, position.y, getSpriteWidth(), getSpriteHeight());
-        Rectangle panelBounds = new Rectangle(0, 0, panel.getWidth(), panel.getHeight());
-        return !spriteBounds.intersects(panelBounds);
+        return x + getSpriteWidth() <= 0 || y + getSpriteHeight() <= 0
+                || x >= panel.getWidth() || y >= panel.getHeight();
     }
 
     /**
@@ -442,18 +655,134 @@ public abstract class Entity implements Updateable, Renderable {
      * {@code false} otherwise.
      */
     public boolean collides(final Rectangle rectangle) {
-        return isCollidable && hitbox != null && rectangle != null && hitbox.intersects(rectangle);
+        if (!isCollidable || rectangle == null || !hitbox.intersects(rectangle)) {
+            return false;
+        }
+
+        if (collisionShape != null) {
+            return collisionShape.overlaps(x, y, rectangle);
+        }
+        CollisionMask mask = getCollisionMask();
+        return mask == null || mask.overlaps(getPixelX(), getPixelY(), rectangle);
     }
 
     /**
      * Checks if the entity collides with another entity.
+     * <p>
+     * The hitboxes act as the broad phase. If both entities have a collision
+     * shape, the narrow phase is the specialised primitive test for the pair
+     * (e.g., a squared-distance compare for two circles). If only one does, its
+     * shape is tested against the other's hitbox. Otherwise the opaque pixels
+     * of both current frames are compared.
      *
      * @param entity The other entity to check for collision.
      * @return {@code true} if the two entities collide, {@code false}
      * otherwise.
      */
     public boolean collides(final Entity entity) {
-        return collides(entity.getHitbox());
+        if (entity == null || !isCollidable || !hitbox.intersects(entity.getHitbox())) {
+            return false;
+        }
+
+        // Narrow phase
+        CollisionShape otherShape = entity.getCollisionShape();
+        if (collisionShape != null) {
+            return otherShape != null
+                    ? collisionShape.overlaps(x, y, otherShape, entity.x, entity.y)
+                    : collisionShape.overlaps(x, y, entity.getHitbox());
+        }
+        if (otherShape != null) {
+            return otherShape.overlaps(entity.x, entity.y, hitbox);
+        }
+
+        CollisionMask mask = getCollisionMask();
+        CollisionMask otherMask = entity.getCollisionMask();
+        if (mask == null || otherMask == null) {
+            return true;
+        }
+        return mask.overlaps(getPixelX(), getPixelY(), otherMask, entity.getPixelX(), entity.getPixelY());
+    }
+
+    /**
+     * Computes when, during their latest movements, this entity first collided
+     * with another.
+     * <p>
+     * The test is continuous: it runs on the motion of this entity relative to
+     * the other, from both entities' previous positions to their current ones,
+     * so fast entities cannot tunnel through thin ones between ticks. The
+     * hitbox swept along the motion acts as the broad phase. The narrow phase
+     * sweeps this entity's {@link CollisionShape} against the other's shape,
+     * or against its hitbox if it has none (and vice versa). Entities without
+     * shapes fall back to {@link #collides(Entity)} at their current
+     * positions.
+     *
+     * @param entity The other entity.
+     * @return The time of impact as a fraction of the movement in [0, 1] (0
+     * if they already overlapped beforehand), or {@link Collisions#NO_IMPACT}
+     * if they did not collide.
+     */
+    public double timeOfImpact(final Entity entity) {
+        if (entity == null || !isCollidable) {
+            return Collisions.NO_IMPACT;
+        }
+
+        // Displacement relative to the other entity
+        double dx = (x - previousX) - (entity.x - entity.previousX);
+        double dy = (y - previousY) - (entity.y - entity.previousY);
+
+        // Broad phase: hitbox swept back to the relative start position
+        Rectangle otherHitbox = entity.getHitbox();
+        if (!Collisions.boxBox(
+                hitbox.x + Math.min(0, -dx),
+                hitbox.y + Math.min(0, -dy),
+                hitbox.x + hitbox.width + Math.max(0, -dx),
+                hitbox.y + hitbox.height + Math.max(0, -dy),
+                otherHitbox.x,
+                otherHitbox.y,
+                otherHitbox.x + otherHitbox.width,
+                otherHitbox.y + otherHitbox.height
+        )) {
+            return Collisions.NO_IMPACT;
+        }
+
+        // Narrow phase
+        CollisionShape otherShape = entity.getCollisionShape();
+        if (collisionShape != null && otherShape != null) {
+            return collisionShape.timeOfImpact(
+                    x - dx, y - dy, x, y,
+                    otherShape, entity.x, entity.y
+            );
+        }
+        if (collisionShape != null) {
+            return collisionShape.timeOfImpact(
+                    x - dx, y - dy, x, y,
+                    otherHitbox.x, otherHitbox.y, otherHitbox.x + otherHitbox.width, otherHitbox.y + otherHitbox.height
+            );
+        }
+        if (otherShape != null) {
+            // The other entity moving back onto this one is symmetric
+            return otherShape.timeOfImpact(
+                    entity.x + dx, entity.y + dy, entity.x, entity.y,
+                    hitbox.x, hitbox.y, hitbox.x + hitbox.width, hitbox.y + hitbox.height
+            );
+        }
+        return collides(entity) ? 1 : Collisions.NO_IMPACT;
+    }
+
+    /**
+     * Deals damage to the entity. Hit points never drop below zero (0).
+     *
+     * @param damage The amount of damage. Must not be negative.
+     * @throws IllegalArgumentException if the damage is negative.
+     */
+    public void takeDamage(final int damage) throws IllegalArgumentException {
+        if (damage < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Damage cannot be less than zero (0).",
+                    this.getClass().getName()
+            ));
+        }
+        currentHitPoints = Math.max(0, currentHitPoints - damage);
     }
 
     /**
@@ -478,16 +807,34 @@ public abstract class Entity implements Updateable, Renderable {
             ));
         }
         animationKeys.add(key);
+        animationHandles.set(AnimationManager.getInstance().intern(key));
+    }
+
+    /**
+     * Returns the x-coordinate of the centre of the entity's sprite.
+     *
+     * @return The centre X-coordinate.
+     */
+    public double getCentreX() {
+        return x + getSpriteWidth() / 2.0;
+    }
+
+    /**
+     * Returns the y-coordinate of the centre of the entity's sprite.
+     *
+     * @return The centre Y-coordinate.
+     */
+    public double getCentreY() {
+        return y + getSpriteHeight() / 2.0;
     }
 
     /**
-     * Returns the central coordinates of the entity's sprite.
+     * Returns the central coordinates of the entity's sprite, rounded down to
+     * whole pixels. Allocates a new {@link Point}; prefer
+     * {@link #getCentreX()} and {@link #getCentreY()} on hot paths.
      */
     public Point getCentreCoordinates() {
-        return new Point(
-                (position.x + getSpriteWidth()) / 2,
-                (position.y + getSpriteHeight()) / 2
-        );
+        return new Point((int) Math.floor(getCentreX()), (int) Math.floor(getCentreY()));
     }
 
     // ----- OVERRIDDEN METHODS -----
@@ -507,7 +854,8 @@ public abstract class Entity implements Updateable, Renderable {
         }
         Entity other = (Entity) obj;
         return Objects.equals(panel, other.getPanel())
-                && Objects.equals(position, other.getPosition())
+                && Double.compare(x, other.getX()) == 0
+                && Double.compare(y, other.getY()) == 0
                 && isInvisible == other.isInvisible()
                 && Objects.equals(animationKeys, other.getAnimationKeys())
                 && Objects.equals(currentAnimationKey, other.getCurrentAnimationKey())
@@ -526,7 +874,8 @@ public abstract class Entity implements Updateable, Renderable {
     public int hashCode() {
         return Objects.hash(
                 panel,
-                position,
+                x,
+                y,
                 isInvisible,
                 animationKeys,
                 currentAnimationKey,
@@ -543,9 +892,10 @@ public abstract class Entity implements Updateable, Renderable {
     @Override
     public void update() {
         if (currentAnimation != null) {
+            refreshAnimationTemplate();
             currentAnimation.update();
-            setHitboxFromCurrentSprite();
         }
+        updateHitbox();
     }
 
     /**
@@ -558,7 +908,7 @@ public abstract class Entity implements Updateable, Renderable {
         BufferedImage currentSprite = currentAnimation.getCurrentFrameImage();
 
         if (!isInvisible && currentSprite != null) {
-            g2d.drawImage(currentSprite, position.x, position.y, getSpriteWidth(), getSpriteHeight(), null);
+            g2d.drawImage(currentSprite, getPixelX(), getPixelY(), getSpriteWidth(), getSpriteHeight(), null);
         }
     }
 
@@ -568,8 +918,42 @@ public abstract class Entity implements Updateable, Renderable {
      */
     protected void correctPosition() {
         // Trying to use Math.clamp gave out of bounds issues or something. This is simpler.
-        position.x = Math.max(0, Math.min(position.x, panel.getWidth() - getSpriteWidth()));
-        position.y = Math.max(0, Math.min(position.y, panel.getHeight() - getSpriteHeight()));
+        x = Math.max(0, Math.min(x, panel.getWidth() - getSpriteWidth()));
+        y = Math.max(0, Math.min(y, panel.getHeight() - getSpriteHeight()));
+    }
+
+    /**
+     * Picks up a replaced template for the current animation (e.g., after its
+     * sprite sheet was hot-reloaded). Only looks the template up again when
+     * {@link AnimationManager}'s revision has changed.
+     */
+    protected void refreshAnimationTemplate() {
+        AnimationManager.Snapshot animations = AnimationManager.getInstance().getSnapshot();
+        if (animationRevision == animations.getRevision()) {
+            return;
+        }
+        animationRevision = animations.getRevision();
+
+        AnimationTemplate template = animations.getAnimation(currentAnimationHandle);
+        if (template != null && template != currentAnimation.getTemplate()) {
+            currentAnimation.replaceTemplate(template);
+        }
+    }
+
+    /**
+     * Interns a set of animation keys with {@link AnimationManager}.
+     *
+     * @param keys The animation keys.
+     * @return The set of their handles.
+     */
+    private static BitSet internAnimationKeys(final Set<String> keys) {
+        BitSet handles = new BitSet();
+        if (keys != null) {
+            for (String key : keys) {
+                handles.set(AnimationManager.getInstance().intern(key));
+            }
+        }
+        return handles;
     }
 
     // ----- BUILDER PATTERN -----
@@ -580,12 +964,14 @@ public abstract class Entity implements Updateable, Renderable {
     public static class EntityBuilder<T extends EntityBuilder<T>> {
 
         private JPanel panel = null;
-        private Point position = new Point(0, 0);
+        private double x = 0;
+        private double y = 0;
         private boolean isInvisible = false;
         private HashSet<String> animationKeys = new HashSet<>();
         private String currentAnimationKey = null;
         private Rectangle hitbox = new Rectangle(0, 0, 0, 0);
-        private boolean isCollidable = false;
+        private CollisionShape collisionShape = null;
+        protected boolean isCollidable = false;
         private int maxHitPoints = 0;
         private int currentHitPoints = 0;
 
@@ -608,7 +994,19 @@ public abstract class Entity implements Updateable, Renderable {
          * @return The builder instance.
          */
         public T position(final Point position) {
-            this.position = position;
+            return position(position.x, position.y);
+        }
+
+        /**
+         * Sets the position of the entity.
+         *
+         * @param x The X-coordinate to set.
+         * @param y The Y-coordinate to set.
+         * @return The builder instance.
+         */
+        public T position(final double x, final double y) {
+            this.x = x;
+            this.y = y;
             return self();
         }
 
@@ -691,6 +1089,18 @@ public abstract class Entity implements Updateable, Renderable {
             return self();
         }
 
+        /**
+         * Sets the primitive collision shape for the entity.
+         *
+         * @param collisionShape The collision shape, or {@code null} to
+         * collide using the sprite's collision mask.
+         * @return The builder instance.
+         */
+        public T collisionShape(final CollisionShape collisionShape) {
+            this.collisionShape = collisionShape;
+            return self();
+        }
+
         // ----- HELPER METHODS -----
         @SuppressWarnings("unchecked")
         protected T self() {
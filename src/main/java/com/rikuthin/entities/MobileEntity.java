@@ -42,6 +42,8 @@ public abstract class MobileEntity extends Entity {
      */
     protected MobileEntity(MobileEntityBuilder<?> builder) {
         super(builder);
+        this.velocityX = builder.velocityX;
+        this.velocityY = builder.velocityY;
     }
 
     // ----- GETTERS -----
@@ -102,11 +104,12 @@ public abstract class MobileEntity extends Entity {
      * values for the x and y axes.
      * <p>
      * Automatically converts the Cartesian velocity modifiers to be compatible
-     * with screen-coordinates.
+     * with screen-coordinates. Positions keep sub-pixel precision, so
+     * fractional velocities accumulate instead of being truncated every tick.
      */
     public void move() {
-        position.x += velocityX;
-        position.y -= velocityY; // Inverted for screen coordinates
+        x += velocityX;
+        y -= velocityY; // Inverted for screen coordinates
     }
 
     // ----- OVERRIDDEN METHODS -----
@@ -148,10 +151,34 @@ public abstract class MobileEntity extends Entity {
     public void update() {
         super.update(); // Update animations and hitbox
 
+        previousX = x;
+        previousY = y;
         move();
 
         // Update hitbox position
-        setHitboxFromCurrentSprite();
+        updateHitbox();
+    }
+
+    /**
+     * Updates the entity like {@link #update()}, but places it at a position
+     * worked out elsewhere (e.g. from a closed-form path) instead of moving it
+     * by its velocity. The velocity is set to the step taken, so that anything
+     * reading it still sees how the entity moved this tick.
+     *
+     * @param x The new x-coordinate.
+     * @param y The new y-coordinate.
+     */
+    public void updateAt(final double x, final double y) {
+        super.update(); // Update animations and hitbox
+
+        previousX = this.x;
+        previousY = this.y;
+        velocityX = x - this.x;
+        velocityY = this.y - y; // Inverted for Cartesian velocities
+        this.x = x;
+        this.y = y;
+
+        updateHitbox();
     }
 
     // ----- BUILDER PATTERN -----
@@ -11,6 +11,23 @@ import com.rikuthin.entities.bullets.BulletSpawner;
  */
 public class Player extends MobileEntity {
 
+    // ----- STATIC VARIABLES -----
+    /**
+     * The radius of the player's hitbox in pixels. As is usual for danmaku,
+     * only a small circle at the centre of the sprite can be hit.
+     */
+    public static final double HITBOX_RADIUS = 3;
+    /**
+     * The radius, in pixels, around the centre of the player's hitbox within
+     * which enemy bullets count as grazing the player.
+     */
+    public static final double GRAZE_RADIUS = 24;
+    /**
+     * How many bombs the player starts with unless the builder says otherwise.
+     */
+    public static final int DEFAULT_BOMB_COUNT = 3;
+
+    // ----- INSTANCE VARIABLES -----
     /**
      * The player's bullet spawner.
      * <p>
@@ -22,6 +39,10 @@ public class Player extends MobileEntity {
      * Whether the player is currently shooting bullets.
      */
     protected boolean isFiringBullets;
+    /**
+     * How many bombs the player has left.
+     */
+    protected int bombCount;
 
     // ----- CONSTRUCTORS -----
     /**
@@ -33,6 +54,7 @@ public class Player extends MobileEntity {
         super(builder);
         this.bulletSpawner = null;
         this.isFiringBullets = false;
+        setBombCount(builder.bombCount);
     }
 
     // ---- GETTERS -----
@@ -54,14 +76,28 @@ public class Player extends MobileEntity {
         return isFiringBullets;
     }
 
+    /**
+     * Returns how many bombs the player has left.
+     *
+     * @return The bomb count.
+     */
+    public int getBombCount() {
+        return bombCount;
+    }
+
     // ---- SETTERS -----
     /**
-     * Sets the player's {@link BulletSpawner}
+     * Sets the player's {@link BulletSpawner}, attaching it to the top centre
+     * of the player's sprite.
      *
      * @param bulletSpawner the bullet spawner.
      */
     public final void setBulletSpawner(final BulletSpawner bulletSpawner) {
         this.bulletSpawner = bulletSpawner;
+
+        if (bulletSpawner != null) {
+            bulletSpawner.attachTo(this, 0, -getSpriteHeight() / 2.0);
+        }
     }
 
     /**
@@ -78,6 +114,36 @@ public class Player extends MobileEntity {
         this.isFiringBullets = isFiringBullets;
     }
 
+    /**
+     * Sets how many bombs the player has left.
+     *
+     * @param bombCount The bomb count.
+     */
+    public final void setBombCount(final int bombCount) {
+        if (bombCount < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Bomb count cannot be less than zero (0).",
+                    this.getClass().getName()
+            ));
+        }
+        this.bombCount = bombCount;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Spends one of the player's bombs, if they have any left.
+     *
+     * @return {@code true} if a bomb was spent, {@code false} if none were
+     * left.
+     */
+    public boolean useBomb() {
+        if (bombCount == 0) {
+            return false;
+        }
+        bombCount--;
+        return true;
+    }
+
     // ----- OVERRIDDEN METHODS -----
     /**
      * Compares this entity to another object for equality.
@@ -96,7 +162,8 @@ public class Player extends MobileEntity {
         Player other = (Player) obj;
         return super.equals(other)
                 && Objects.equals(bulletSpawner, other.getBulletSpawner())
-                && isFiringBullets == other.isFiringBullets();
+                && isFiringBullets == other.isFiringBullets()
+                && bombCount == other.getBombCount();
     }
 
     /**
@@ -106,7 +173,7 @@ public class Player extends MobileEntity {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), bulletSpawner, isFiringBullets);
+        return Objects.hash(super.hashCode(), bulletSpawner, isFiringBullets, bombCount);
     }
 
     @Override
@@ -115,14 +182,42 @@ public class Player extends MobileEntity {
         correctPosition();
     }
 
+    /**
+     * Updates the player, then lets their bullet spawner fire any shots that
+     * are due.
+     */
+    @Override
+    public void update() {
+        super.update();
+
+        if (bulletSpawner != null) {
+            bulletSpawner.update();
+        }
+    }
+
     // ----- STATIC BUILDER FOR PLAYER -----
     public static class PlayerBuilder extends MobileEntityBuilder<PlayerBuilder> {
 
+        // ----- INSTANCE VARIABLES -----
+        private int bombCount = DEFAULT_BOMB_COUNT;
+
         // ----- CONSTRUCTOR -----
         public PlayerBuilder(final JPanel panel) {
             super(panel);
         }
 
+        // ---- SETTERS -----
+        /**
+         * Sets how many bombs the player starts with.
+         *
+         * @param bombCount The bomb count.
+         * @return The builder instance.
+         */
+        public PlayerBuilder bombCount(final int bombCount) {
+            this.bombCount = bombCount;
+            return this;
+        }
+
         // ----- BUSINESS LOGIC METHODS -----
         public Player build() {
             return new Player(this);
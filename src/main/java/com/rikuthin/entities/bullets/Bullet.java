@@ -7,11 +7,19 @@ import javax.swing.JPanel;
 import com.rikuthin.entities.Entity;
 import com.rikuthin.entities.MobileEntity;
 
+import managers.AnimationManager;
+
 /**
  * Represents a generic bullet that moves within a JPanel.
  */
 public class Bullet extends MobileEntity {
 
+    // ----- STATIC VARIABLES -----
+    /**
+     * State flag set once the bullet has grazed the player.
+     */
+    private static final int GRAZED_FLAG = 1;
+
     // ----- INSTANCE VARIABLES -----
     /**
      * The {@link Entity} that owns/controls the {@link BulletSpawner} that
@@ -23,6 +31,10 @@ public class Bullet extends MobileEntity {
      * with.
      */
     protected int damage;
+    /**
+     * Bit flags recording one-off events in the bullet's lifetime.
+     */
+    private int stateFlags;
 
     // ----- CONSTRUCTORS -----
     /**
@@ -57,6 +69,16 @@ public class Bullet extends MobileEntity {
         return damage;
     }
 
+    /**
+     * Returns whether the bullet has already grazed the player.
+     *
+     * @return {@code true} if it has grazed the player, {@code false}
+     * otherwise.
+     */
+    public boolean isGrazed() {
+        return (stateFlags & GRAZED_FLAG) != 0;
+    }
+
     // ---- SETTERS -----
     public final void setDamage(final int damage) {
         if (damage < 0) {
@@ -68,6 +90,49 @@ public class Bullet extends MobileEntity {
         this.damage = damage;
     }
 
+    /**
+     * Records that the bullet has grazed the player, so that it is only ever
+     * counted once.
+     */
+    public void markGrazed() {
+        stateFlags |= GRAZED_FLAG;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Resets a removed bullet so that it can be reused as if a spawner had
+     * just built it, at the spawner's position and with a new velocity.
+     * <p>
+     * Only adds the spawner's bullet animation to its key set if it does not
+     * have it already, so reusing a bullet for the same kind of spawner does
+     * not allocate.
+     *
+     * @param spawner The spawner reusing the bullet.
+     * @param velocityX The bullet's new x-axis velocity.
+     * @param velocityY The bullet's new y-axis velocity.
+     */
+    void respawn(final BulletSpawner spawner, final double velocityX, final double velocityY) {
+        this.owner = spawner.getOwner();
+        this.damage = spawner.getBulletDamage();
+        this.stateFlags = 0;
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+        this.isInvisible = true;
+        this.isCollidable = true;
+        this.collisionShape = spawner.getBulletCollisionShape();
+
+        int handle = spawner.getBulletAnimationHandle();
+        if (handle != AnimationManager.NO_ANIMATION && !animationHandles.get(handle)) {
+            addAnimationKey(AnimationManager.getInstance().getKey(handle));
+        }
+        setAnimation(handle);
+        if (currentAnimation != null) {
+            currentAnimation.start();
+        }
+
+        setPosition(spawner.getX(), spawner.getY());
+    }
+
     // ----- OVERRIDDEN METHODS -----
     /**
      * Compares this entity to another object for equality.
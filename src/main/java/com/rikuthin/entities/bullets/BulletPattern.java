@@ -0,0 +1,593 @@
+package com.rikuthin.entities.bullets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.rikuthin.utility.FastAngle;
+
+/**
+ * An immutable, precompiled volley of bullets fired together by a
+ * {@link BulletSpawner}.
+ * <p>
+ * A pattern is described declaratively by composing primitives with a
+ * {@link BulletPatternBuilder}:
+ * <ul>
+ * <li>{@code ring(n)} fires in {@code n} evenly spaced directions;</li>
+ * <li>{@code fan(n, spread)} fires {@code n} directions spread over an
+ * arc;</li>
+ * <li>{@code speeds(...)} stacks layers of the same directions at different
+ * speeds;</li>
+ * <li>{@code spiral(step)} turns the whole volley a little further each time
+ * it is fired;</li>
+ * <li>{@code aimed()} points the volley at the spawner's target instead of a
+ * fixed direction.</li>
+ * </ul>
+ * Further primitives give the bullets kinematics that steer them after they
+ * are fired:
+ * <ul>
+ * <li>{@code accelerate(a)} changes their speed by {@code a} every tick;</li>
+ * <li>{@code curve(degrees)} turns them by a fixed angle every tick;</li>
+ * <li>{@code speedLimits(min, max)} bounds their speed;</li>
+ * <li>{@code wave(amplitude, period)} sways them from side to side about
+ * their heading;</li>
+ * <li>{@code homing(degrees)} turns them towards their target (the nearest
+ * enemy for the player's bullets, the player for everyone else's) by up to a
+ * fixed angle every tick.</li>
+ * </ul>
+ * Unless they curve or home, the bullets' paths have a closed form, so they
+ * are {@linkplain #isAnalytic() analytic}: their positions are worked out
+ * from their age rather than accumulated tick by tick.
+ * <p>
+ * Directional primitives compose by nesting: {@code ring(6).fan(3, 20)} fires
+ * a three-way fan along each of six directions.
+ * <p>
+ * Building a pattern compiles it into a table of velocities relative to the
+ * volley's facing. Firing it only rotates that table by a single unit vector
+ * (the facing combined with the spiral's current turn), looked up with
+ * {@link FastAngle}, so no trigonometry is done per shot.
+ * <p>
+ * Angles are in degrees and use the Cartesian convention of
+ * {@link com.rikuthin.entities.MobileEntity}'s velocities: 0 points right and
+ * 90 points up the screen. Speeds are in pixels per frame.
+ */
+public final class BulletPattern {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The facing of a pattern that is not aimed, unless the builder says
+     * otherwise: straight down the screen.
+     */
+    public static final double DEFAULT_DIRECTION_DEGREES = -90;
+    /**
+     * The speed of a pattern's bullets unless the builder says otherwise.
+     */
+    public static final double DEFAULT_SPEED = 3;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The x-axis velocity of each bullet, relative to a volley facing right.
+     */
+    private final double[] velocityX;
+    /**
+     * The y-axis velocity of each bullet, relative to a volley facing right.
+     */
+    private final double[] velocityY;
+    /**
+     * Whether the volley faces the spawner's target.
+     */
+    private final boolean isAimed;
+    /**
+     * The volley's facing when it is not aimed, as a {@link FastAngle} binary
+     * angle.
+     */
+    private final int direction;
+    /**
+     * How far the volley turns between shots, as a {@link FastAngle} binary
+     * angle.
+     */
+    private final int spiralStep;
+    /**
+     * How much the bullets' speed changes every tick.
+     */
+    private final double acceleration;
+    /**
+     * How far the bullets turn every tick, as a {@link FastAngle} binary
+     * angle.
+     */
+    private final int angularVelocity;
+    /**
+     * The slowest the bullets' acceleration can take them.
+     */
+    private final double minSpeed;
+    /**
+     * The fastest the bullets' acceleration can take them.
+     */
+    private final double maxSpeed;
+    /**
+     * How far the bullets can turn towards their target every tick, as a
+     * {@link FastAngle} binary angle, or zero (0) if they do not home.
+     */
+    private final int homingRate;
+    /**
+     * How far the bullets sway to either side of their heading.
+     */
+    private final double waveAmplitude;
+    /**
+     * How far through a sway the bullets move every tick, as a
+     * {@link FastAngle} binary angle.
+     */
+    private final int waveFrequency;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Compiles a pattern from its builder.
+     *
+     * @param builder The builder used to describe the pattern.
+     */
+    private BulletPattern(final BulletPatternBuilder builder) {
+        int directionCount = builder.angles.size();
+        int layerCount = builder.speeds.length;
+
+        this.velocityX = new double[directionCount * layerCount];
+        this.velocityY = new double[directionCount * layerCount];
+        for (int d = 0; d < directionCount; d++) {
+            double radians = Math.toRadians(builder.angles.get(d));
+            double cos = Math.cos(radians);
+            double sin = Math.sin(radians);
+            for (int layer = 0; layer < layerCount; layer++) {
+                velocityX[layer * directionCount + d] = cos * builder.speeds[layer];
+                velocityY[layer * directionCount + d] = sin * builder.speeds[layer];
+            }
+        }
+
+        this.isAimed = builder.isAimed;
+        this.direction = FastAngle.fromDegrees(builder.directionDegrees);
+        this.spiralStep = FastAngle.fromDegrees(builder.spiralStepDegrees);
+        this.acceleration = builder.acceleration;
+        this.angularVelocity = FastAngle.fromDegrees(builder.angularVelocityDegrees);
+        this.minSpeed = builder.minSpeed;
+        this.maxSpeed = builder.maxSpeed;
+        this.homingRate = FastAngle.fromDegrees(builder.homingRateDegrees);
+        this.waveAmplitude = builder.waveAmplitude;
+        this.waveFrequency = builder.wavePeriodTicks > 0 ? FastAngle.fromDegrees(360.0 / builder.wavePeriodTicks) : 0;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns how many bullets a volley fires.
+     *
+     * @return The bullet count.
+     */
+    public int getBulletCount() {
+        return velocityX.length;
+    }
+
+    /**
+     * Returns the x-axis velocity of a bullet, relative to a volley facing
+     * right.
+     *
+     * @param index The bullet's index within the volley.
+     * @return The velocity in pixels per frame.
+     */
+    public double getVelocityX(final int index) {
+        return velocityX[index];
+    }
+
+    /**
+     * Returns the y-axis velocity of a bullet, relative to a volley facing
+     * right.
+     *
+     * @param index The bullet's index within the volley.
+     * @return The velocity in pixels per frame.
+     */
+    public double getVelocityY(final int index) {
+        return velocityY[index];
+    }
+
+    /**
+     * Returns whether the volley faces the spawner's target.
+     *
+     * @return {@code true} if aimed, {@code false} if it uses a fixed facing.
+     */
+    public boolean isAimed() {
+        return isAimed;
+    }
+
+    /**
+     * Returns the volley's fixed facing.
+     *
+     * @return The facing, as a {@link FastAngle} binary angle.
+     */
+    public int getDirection() {
+        return direction;
+    }
+
+    /**
+     * Returns how far the volley turns between shots.
+     *
+     * @return The step, as a {@link FastAngle} binary angle.
+     */
+    public int getSpiralStep() {
+        return spiralStep;
+    }
+
+    /**
+     * Returns whether the bullets are steered after they are fired.
+     *
+     * @return {@code true} if any kinematics primitive was used, {@code false}
+     * if the bullets fly straight at a constant speed.
+     */
+    public boolean hasKinematics() {
+        return acceleration != 0
+                || angularVelocity != 0
+                || homingRate != 0
+                || waveAmplitude != 0
+                || minSpeed > 0
+                || maxSpeed != Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns whether the bullets' paths have a closed form, i.e. they neither
+     * curve nor home, so their positions can be worked out from their age.
+     *
+     * @return {@code true} if the bullets' paths are analytic, {@code false}
+     * otherwise.
+     */
+    public boolean isAnalytic() {
+        return angularVelocity == 0 && homingRate == 0;
+    }
+
+    /**
+     * Returns how much the bullets' speed changes every tick.
+     *
+     * @return The acceleration in pixels per frame per frame.
+     */
+    public double getAcceleration() {
+        return acceleration;
+    }
+
+    /**
+     * Returns how far the bullets turn every tick.
+     *
+     * @return The angular velocity, as a {@link FastAngle} binary angle.
+     */
+    public int getAngularVelocity() {
+        return angularVelocity;
+    }
+
+    /**
+     * Returns the slowest the bullets' acceleration can take them.
+     *
+     * @return The minimum speed in pixels per frame.
+     */
+    public double getMinSpeed() {
+        return minSpeed;
+    }
+
+    /**
+     * Returns the fastest the bullets' acceleration can take them.
+     *
+     * @return The maximum speed in pixels per frame.
+     */
+    public double getMaxSpeed() {
+        return maxSpeed;
+    }
+
+    /**
+     * Returns how far the bullets can turn towards their target every tick.
+     *
+     * @return The homing rate, as a {@link FastAngle} binary angle, or zero
+     * (0) if the bullets do not home.
+     */
+    public int getHomingRate() {
+        return homingRate;
+    }
+
+    /**
+     * Returns how far the bullets sway to either side of their heading.
+     *
+     * @return The wave amplitude in pixels.
+     */
+    public double getWaveAmplitude() {
+        return waveAmplitude;
+    }
+
+    /**
+     * Returns how far through a sway the bullets move every tick.
+     *
+     * @return The wave frequency, as a {@link FastAngle} binary angle per
+     * tick.
+     */
+    public int getWaveFrequency() {
+        return waveFrequency;
+    }
+
+    // ----- STATIC BUILDER FOR BULLET PATTERN -----
+    /**
+     * The BulletPatternBuilder class provides a fluent API for describing and
+     * compiling a BulletPattern.
+     */
+    public static class BulletPatternBuilder {
+
+        // ----- INSTANCE VARIABLES -----
+        /**
+         * The directions fired, in degrees relative to the volley's facing.
+         */
+        private List<Double> angles = new ArrayList<>(List.of(0.0));
+        /**
+         * The speed of each layer of bullets.
+         */
+        private double[] speeds = {DEFAULT_SPEED};
+        /**
+         * Whether the volley faces the spawner's target.
+         */
+        private boolean isAimed = false;
+        /**
+         * The volley's facing when it is not aimed, in degrees.
+         */
+        private double directionDegrees = DEFAULT_DIRECTION_DEGREES;
+        /**
+         * How far the volley turns between shots, in degrees.
+         */
+        private double spiralStepDegrees = 0;
+        /**
+         * How much the bullets' speed changes every tick.
+         */
+        private double acceleration = 0;
+        /**
+         * How far the bullets turn every tick, in degrees.
+         */
+        private double angularVelocityDegrees = 0;
+        /**
+         * The slowest the bullets' acceleration can take them.
+         */
+        private double minSpeed = 0;
+        /**
+         * The fastest the bullets' acceleration can take them.
+         */
+        private double maxSpeed = Double.POSITIVE_INFINITY;
+        /**
+         * How far the bullets can turn towards their target every tick, in
+         * degrees.
+         */
+        private double homingRateDegrees = 0;
+        /**
+         * How far the bullets sway to either side of their heading.
+         */
+        private double waveAmplitude = 0;
+        /**
+         * How many ticks each sway takes.
+         */
+        private double wavePeriodTicks = 0;
+
+        // ---- SETTERS -----
+        /**
+         * Replaces every direction fired so far with {@code count} evenly
+         * spaced directions around it.
+         *
+         * @param count How many directions the ring has.
+         * @return The builder instance.
+         */
+        public BulletPatternBuilder ring(final int count) {
+            if (count < 1) {
+                throw new IllegalArgumentException(String.format(
+                        "%s: A ring must have at least one (1) direction.",
+                        this.getClass().getName()
+                ));
+            }
+            return spread(count, 360.0 / count, 0);
+        }
+
+        /**
+         * Replaces every direction fired so far with {@code count} directions
+         * spread evenly over an arc centred on it.
+         *
+         * @param count How many directions the fan has.
+         * @param spreadDegrees The angle between the fan's outermost
+         * directions, in degrees.
+         * @return The builder instance.
+         */
+        public BulletPatternBuilder fan(final int count, final double spreadDegrees) {
+            if (count < 1) {
+                throw new IllegalArgumentException(String.format(
+                        "%s: A fan must have at least one (1) direction.",
+                        this.getClass().getName()
+                ));
+            }
+            if (spreadDegrees < 0) {
+                throw new IllegalArgumentException(String.format(
+                        "%s: A fan's spread cannot be less than zero (0).",
+                        this.getClass().getName()
+                ));
+            }
+            if (count == 1) {
+                return this;
+            }
+            return spread(count, spreadDegrees / (count - 1), -spreadDegrees / 2);
+        }
+
+        /**
+         * Fires every direction once per speed, stacking layers of bullets
+         * that spread apart as they travel.
+         *
+         * @param speeds The speed of each layer, in pixels per frame.
+         * @return The builder instance.
+         */
+        public BulletPatternBuilder speeds(final double... speeds) {
+            if (speeds == null || speeds.length == 0) {
+                throw new IllegalArgumentException(String.format(
+                        "%s: At least one (1) speed must be given.",
+                        this.getClass().getName()
+                ));
+            }
+            for (double speed : speeds) {
+                if (speed < 0) {
+                    throw new IllegalArgumentException(String.format(
+                            "%s: Speeds cannot be less than zero (0).",
+                            this.getClass().getName()
+                    ));
+                }
+            }
+            this.speeds = speeds.clone();
+            return this;
+        }
+
+        /**
+         * Turns the volley further by a fixed step every time it is fired.
+         *
+         * @param stepDegrees How far to turn between shots, in degrees.
+         * Positive values turn anticlockwise.
+         * @return The builder instance.
+         */
+        public BulletPatternBuilder spiral(final double stepDegrees) {
+            this.spiralStepDegrees = stepDegrees;
+            return this;
+        }
+
+        /**
+         * Faces the volley towards the spawner's target when it is fired.
+         *
+         * @return The builder instance.
+         */
+        public BulletPatternBuilder aimed() {
+            this.isAimed = true;
+            return this;
+        }
+
+        /**
+         * Sets the volley's fixed facing, used when it is not aimed or the
+         * spawner has no target.
+         *
+         * @param directionDegrees The facing, in degrees.
+         * @return The builder instance.
+         */
+        public BulletPatternBuilder direction(final double directionDegrees) {
+            this.directionDegrees = directionDegrees;
+            return this;
+        }
+
+        /**
+         * Changes the bullets' speed by a fixed amount every tick, within any
+         * speed limits.
+         *
+         * @param acceleration The change in speed, in pixels per frame per
+         * frame. Negative values slow the bullets down.
+         * @return The builder instance.
+         */
+        public BulletPatternBuilder accelerate(final double acceleration) {
+            this.acceleration = acceleration;
+            return this;
+        }
+
+        /**
+         * Turns the bullets by a fixed angle every tick, so they fly in
+         * circles and a stream of them traces out a curve.
+         *
+         * @param degreesPerTick How far to turn every tick. Positive values
+         * turn anticlockwise.
+         * @return The builder instance.
+         */
+        public BulletPatternBuilder curve(final double degreesPerTick) {
+            this.angularVelocityDegrees = degreesPerTick;
+            return this;
+        }
+
+        /**
+         * Bounds the speed the bullets' acceleration can take them to.
+         *
+         * @param minSpeed The minimum speed, in pixels per frame.
+         * @param maxSpeed The maximum speed, in pixels per frame.
+         * @return The builder instance.
+         */
+        public BulletPatternBuilder speedLimits(final double minSpeed, final double maxSpeed) {
+            if (minSpeed < 0 || maxSpeed < minSpeed) {
+                throw new IllegalArgumentException(String.format(
+                        "%s: Speed limits must satisfy 0 <= minimum <= maximum.",
+                        this.getClass().getName()
+                ));
+            }
+            this.minSpeed = minSpeed;
+            this.maxSpeed = maxSpeed;
+            return this;
+        }
+
+        /**
+         * Turns the bullets towards their target every tick, by no more than
+         * a fixed angle.
+         *
+         * @param maxDegreesPerTick The furthest the bullets can turn every
+         * tick, less than a half turn.
+         * @return The builder instance.
+         */
+        public BulletPatternBuilder homing(final double maxDegreesPerTick) {
+            if (maxDegreesPerTick < 0 || maxDegreesPerTick >= 180) {
+                throw new IllegalArgumentException(String.format(
+                        "%s: Homing rate must be at least zero (0) and less than 180 degrees.",
+                        this.getClass().getName()
+                ));
+            }
+            this.homingRateDegrees = maxDegreesPerTick;
+            return this;
+        }
+
+        /**
+         * Sways the bullets from side to side about their heading along a
+         * sine wave. Cannot be combined with {@link #curve(double)} or
+         * {@link #homing(double)}.
+         *
+         * @param amplitude How far to sway to either side, in pixels.
+         * @param periodTicks How many ticks each full sway takes.
+         * @return The builder instance.
+         */
+        public BulletPatternBuilder wave(final double amplitude, final double periodTicks) {
+            if (periodTicks <= 0) {
+                throw new IllegalArgumentException(String.format(
+                        "%s: Wave period must be greater than zero (0).",
+                        this.getClass().getName()
+                ));
+            }
+            this.waveAmplitude = amplitude;
+            this.wavePeriodTicks = periodTicks;
+            return this;
+        }
+
+        // ----- BUSINESS LOGIC METHODS -----
+        /**
+         * Compiles the described pattern.
+         *
+         * @return A new BulletPattern instance.
+         * @throws IllegalArgumentException If the bullets both wave and curve
+         * or home, which have no closed-form path together.
+         */
+        public BulletPattern build() {
+            if (waveAmplitude != 0 && (angularVelocityDegrees != 0 || homingRateDegrees != 0)) {
+                throw new IllegalArgumentException(String.format(
+                        "%s: Waving bullets cannot also curve or home.",
+                        this.getClass().getName()
+                ));
+            }
+            return new BulletPattern(this);
+        }
+
+        // ----- HELPER METHODS -----
+        /**
+         * Replaces each direction with {@code count} directions at a fixed
+         * spacing from a starting offset relative to it.
+         *
+         * @param count How many directions replace each one.
+         * @param stepDegrees The spacing between them.
+         * @param firstOffsetDegrees The offset of the first of them.
+         * @return The builder instance.
+         */
+        private BulletPatternBuilder spread(final int count, final double stepDegrees, final double firstOffsetDegrees) {
+            List<Double> spreadAngles = new ArrayList<>(angles.size() * count);
+            for (double angle : angles) {
+                for (int i = 0; i < count; i++) {
+                    spreadAngles.add(angle + firstOffsetDegrees + i * stepDegrees);
+                }
+            }
+            this.angles = spreadAngles;
+            return this;
+        }
+    }
+}
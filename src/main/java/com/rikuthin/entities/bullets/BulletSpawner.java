@@ -2,29 +2,104 @@ package com.rikuthin.entities.bullets;
 
 import java.awt.Dimension;
 import java.awt.image.BufferedImage;
-import java.util.HashSet;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javax.swing.JPanel;
-
+import com.rikuthin.collisions.CircleShape;
+import com.rikuthin.collisions.CollisionShape;
 import com.rikuthin.entities.Entity;
 import com.rikuthin.graphics.animations.AnimationInstance;
 import com.rikuthin.graphics.animations.AnimationTemplate;
+import com.rikuthin.interfaces.Updateable;
+import com.rikuthin.utility.FastAngle;
 
 import managers.AnimationManager;
+import managers.BulletManager;
 import managers.GameManager;
 
 /**
  * Represents an invisible {@link Bullet} spawner controlled by a game
  * {@link Entity}.
+ * <p>
+ * A spawner is a lightweight emitter rather than an entity: it is never drawn
+ * and never collides, so it holds only its owner, an emission point and its
+ * timing and pattern state. The emission point is either fixed, or follows an
+ * anchor entity's centre at an offset, refreshed whenever the spawner fires,
+ * so the same spawner works for an enemy, a boss part or a point on the
+ * stage. Spawners have no value equality; two spawners are only equal if they
+ * are the same spawner.
+ * <p>
+ * The bullet animation is held as its {@link AnimationManager} handle, and
+ * spawners firing the same animation share one default collision shape.
+ * Volleys are timed in ticks, counted down once per {@link #update()}.
+ * <p>
+ * Bullets are emitted in bursts: {@link #spawnBurst(int, BulletPattern)}
+ * reserves a contiguous range of the {@link BulletManager}'s storage and fills
+ * it in one pass, reusing removed bullets where it can. Each spawner paces its
+ * own emission with a token bucket refilled every tick, on top of the
+ * manager's per-tick emission budget, so one spawner cannot flood the screen
+ * and a burst never costs more than the bullets it actually emits.
  */
-public class BulletSpawner extends Entity {
+public class BulletSpawner implements Updateable {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The fraction of the largest circle fitting within a bullet sprite's
+     * opaque bounds used as the default bullet hitbox. Bullets are a little
+     * smaller to hit than they look.
+     */
+    public static final double DEFAULT_BULLET_HITBOX_SCALE = 0.8;
+    /**
+     * How many ticks a spawner waits between volleys while spawning, unless
+     * the builder says otherwise. About 100 ms at 60 ticks a second.
+     */
+    public static final int DEFAULT_SPAWN_DELAY_TICKS = 6;
+    /**
+     * How many bullets per tick a spawner's emission allowance refills by,
+     * unless the builder says otherwise.
+     */
+    public static final double DEFAULT_EMISSION_RATE = 4;
+    /**
+     * The most bullets a spawner can emit at once after saving up its
+     * allowance, unless the builder says otherwise.
+     */
+    public static final int DEFAULT_EMISSION_CAPACITY = 128;
+    /**
+     * The default collision shapes already built, keyed by bullet animation
+     * handle. Shapes are immutable, so every spawner firing the same
+     * animation shares one.
+     */
+    private static final Map<Integer, CollisionShape> DEFAULT_BULLET_COLLISION_SHAPES = new ConcurrentHashMap<>();
 
+    // ----- INSTANCE VARIABLES -----
     /**
      * The {@link Entity} that owns/controls the spawner.
      */
     protected Entity owner;
+    /**
+     * The x-coordinate bullets are spawned at, i.e. the top-left of their
+     * sprites.
+     */
+    protected double x;
+    /**
+     * The y-coordinate bullets are spawned at, i.e. the top-left of their
+     * sprites.
+     */
+    protected double y;
+    /**
+     * The entity whose centre the spawner follows, or {@code null} if it
+     * stays at a fixed point.
+     */
+    protected Entity anchor;
+    /**
+     * How far right of the anchor's centre bullets are centred.
+     */
+    protected double anchorOffsetX;
+    /**
+     * How far down from the anchor's centre bullets are centred.
+     */
+    protected double anchorOffsetY;
     /**
      * {@code true} if the spawner is currently creating bullets; {@code false}
      * otherwise.
@@ -45,26 +120,70 @@ public class BulletSpawner extends Entity {
      */
     protected double bulletVelocityY;
     /**
-     * A map of all the animations associated with the spawned bullets, keyed by
-     * animation name.
+     * The {@link AnimationManager} handle of the animation used for spawned
+     * bullets, so bullets can switch to it without looking the key up.
      */
-    protected HashSet<String> bulletAnimationKeys;
+    protected int currentBulletAnimationHandle = AnimationManager.NO_ANIMATION;
     /**
-     * The current key of the animation used for spawned bullets.
+     * Half the width of the current bullet sprite, for centring bullets on a
+     * point.
      */
-    protected String currentBulletAnimationKey;
+    private double bulletHalfWidth;
     /**
-     * How many milliseconds to wait before spawning more bullets.
+     * Half the height of the current bullet sprite.
      */
-    private long spawnDelayMs;
+    private double bulletHalfHeight;
     /**
-     * When the spawner was last updated.
+     * The collision shape shared by every spawned {@link Bullet}.
      */
-    private long lastUpdateTime;
+    protected CollisionShape bulletCollisionShape;
     /**
-     * How much of the delay has already passed.
+     * The volley fired each time the spawner shoots, or {@code null} to fire
+     * a single bullet using {@link #bulletVelocityX} and
+     * {@link #bulletVelocityY}.
      */
-    private long elapsedDelayTime;
+    protected BulletPattern bulletPattern;
+    /**
+     * The x-coordinate aimed patterns are fired towards.
+     */
+    protected double targetX;
+    /**
+     * The y-coordinate aimed patterns are fired towards.
+     */
+    protected double targetY;
+    /**
+     * Whether the spawner has a target to aim patterns at.
+     */
+    protected boolean hasTarget;
+    /**
+     * How far a spiral pattern has turned so far, as a {@link FastAngle}
+     * binary angle.
+     */
+    private int patternTurn;
+    /**
+     * How many bullets per tick the emission allowance refills by.
+     */
+    private double emissionRate;
+    /**
+     * The most bullets the emission allowance can hold.
+     */
+    private int emissionCapacity;
+    /**
+     * How many more bullets the spawner may emit right now.
+     */
+    private double emissionAllowance;
+    /**
+     * The {@link BulletManager} tick the allowance was last refilled on.
+     */
+    private long lastRefillTick;
+    /**
+     * How many ticks to wait between volleys while spawning.
+     */
+    private int spawnDelayTicks;
+    /**
+     * How many more updates until the next volley is due.
+     */
+    private int ticksUntilVolley;
 
     // ----- CONSTRUCTORS -----
     /**
@@ -73,18 +192,25 @@ public class BulletSpawner extends Entity {
      * @param builder The builder used to construct the player.
      */
     public BulletSpawner(BulletSpawnerBuilder builder) {
-        super(builder);
-
         this.owner = builder.owner;
+        this.x = builder.x;
+        this.y = builder.y;
+        this.anchor = builder.anchor;
+        this.anchorOffsetX = builder.anchorOffsetX;
+        this.anchorOffsetY = builder.anchorOffsetY;
         setBulletDamage(builder.bulletDamage);
         this.isSpawning = builder.isSpawning;
         this.bulletVelocityX = builder.bulletVelocityX;
         this.bulletVelocityY = builder.bulletVelocityY;
-        setBulletAnimationKeys(builder.bulletAnimationKeys);
         setCurrentBulletAnimationKey(builder.currentBulletAnimationKey);
-        this.spawnDelayMs = Math.abs(spawnDelayMs);
-        this.lastUpdateTime = System.currentTimeMillis();
-        this.elapsedDelayTime = 0;
+        this.bulletCollisionShape = builder.bulletCollisionShape != null
+                ? builder.bulletCollisionShape
+                : getDefaultBulletCollisionShape(currentBulletAnimationHandle);
+        setBulletPattern(builder.bulletPattern);
+        setSpawnDelayTicks(builder.spawnDelayTicks);
+        setEmissionLimits(builder.emissionRate, builder.emissionCapacity);
+        this.emissionAllowance = emissionCapacity;
+        this.ticksUntilVolley = spawnDelayTicks;
     }
 
     // ---- GETTERS -----
@@ -98,6 +224,55 @@ public class BulletSpawner extends Entity {
         return owner;
     }
 
+    /**
+     * Returns the x-coordinate bullets were last spawned at, or will be spawned
+     * at if the spawner is fixed.
+     *
+     * @return The x-coordinate of the bullets' top-left corner.
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Returns the y-coordinate bullets were last spawned at, or will be spawned
+     * at if the spawner is fixed.
+     *
+     * @return The y-coordinate of the bullets' top-left corner.
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Returns the entity whose centre the spawner follows.
+     *
+     * @return The anchor, or {@code null} if the spawner is fixed.
+     */
+    public Entity getAnchor() {
+        return anchor;
+    }
+
+    /**
+     * Returns half the width of the current bullet sprite.
+     *
+     * @return The half width in pixels, or zero (0) if no bullet animation is
+     * set.
+     */
+    public double getBulletHalfWidth() {
+        return bulletHalfWidth;
+    }
+
+    /**
+     * Returns half the height of the current bullet sprite.
+     *
+     * @return The half height in pixels, or zero (0) if no bullet animation is
+     * set.
+     */
+    public double getBulletHalfHeight() {
+        return bulletHalfHeight;
+    }
+
     /**
      * Returns how many point of damage the spawned bullets should do.
      *
@@ -117,31 +292,21 @@ public class BulletSpawner extends Entity {
     }
 
     /**
-     * Returns how many milliseconds the spawner must wait before spawning more
-     * bullets.
+     * Returns how many ticks the spawner waits between volleys.
      *
-     * @return The delay;
+     * @return The delay.
      */
-    public long getSpawnDelayMs() {
-        return spawnDelayMs;
+    public int getSpawnDelayTicks() {
+        return spawnDelayTicks;
     }
 
     /**
-     * Returns how many milliseconds of the delay have passed.
+     * Returns how many more updates until the next volley is due.
      *
-     * @return The elasped time.
+     * @return The remaining ticks.
      */
-    public long getElapsedDelayTime() {
-        return elapsedDelayTime;
-    }
-
-    /**
-     * Returns the last time the spawner was updated in milliseconds.
-     *
-     * @return The last update time.
-     */
-    public long getLastUpdateTime() {
-        return lastUpdateTime;
+    public int getTicksUntilVolley() {
+        return ticksUntilVolley;
     }
 
     /**
@@ -161,24 +326,76 @@ public class BulletSpawner extends Entity {
     }
 
     /**
-     * Returns the set of keys this spawner can use to query
-     * {@link Animation Instance} for an {@link AnimationTemplate}.
+     * Returns the key associated with the current {@link AnimationInstance}
+     * used for a spawned {@link Bullet}.
      *
-     * @return The set of bullet animation keys.
+     * @return The current bullet animation key, or {@code null} if none is
+     * set.
      */
-    public Set<String> getBulletAnimationKeys() {
-        return bulletAnimationKeys;
+    public String getCurrentBulletAnimatioKey() {
+        if (currentBulletAnimationHandle == AnimationManager.NO_ANIMATION) {
+            return null;
+        }
+        return AnimationManager.getInstance().getKey(currentBulletAnimationHandle);
     }
 
     /**
-     * /**
-     * Returns the key associated with the current {@link AnimationInstance}
-     * used for a spawned {@link Bullet}.
+     * Returns the {@link AnimationManager} handle of the animation used for
+     * spawned bullets.
      *
-     * @return The current bullet animation key.
+     * @return The handle, or {@link AnimationManager#NO_ANIMATION} if none is
+     * set.
      */
-    public String getCurrentBulletAnimatioKey() {
-        return currentBulletAnimationKey;
+    public int getBulletAnimationHandle() {
+        return currentBulletAnimationHandle;
+    }
+
+    /**
+     * Returns how many bullets per tick the spawner's emission allowance
+     * refills by.
+     *
+     * @return The emission rate.
+     */
+    public double getEmissionRate() {
+        return emissionRate;
+    }
+
+    /**
+     * Returns the most bullets the spawner can emit at once.
+     *
+     * @return The emission capacity.
+     */
+    public int getEmissionCapacity() {
+        return emissionCapacity;
+    }
+
+    /**
+     * Returns the collision shape shared by every spawned {@link Bullet}.
+     *
+     * @return The bullet collision shape, or {@code null} if spawned bullets
+     * collide using their collision masks.
+     */
+    public CollisionShape getBulletCollisionShape() {
+        return bulletCollisionShape;
+    }
+
+    /**
+     * Returns the volley fired each time the spawner shoots.
+     *
+     * @return The bullet pattern, or {@code null} if the spawner fires single
+     * bullets.
+     */
+    public BulletPattern getBulletPattern() {
+        return bulletPattern;
+    }
+
+    /**
+     * Returns whether the spawner has a target to aim patterns at.
+     *
+     * @return {@code true} if it has a target, {@code false} otherwise.
+     */
+    public boolean hasTarget() {
+        return hasTarget;
     }
 
     // ---- SETTERS -----
@@ -193,15 +410,91 @@ public class BulletSpawner extends Entity {
     }
 
     /**
-     * Sets whether the spawner should create bullets.
+     * Fixes the spawner at a point, detaching it from any anchor.
+     *
+     * @param x The x-coordinate of the spawned bullets' top-left corner.
+     * @param y The y-coordinate of the spawned bullets' top-left corner.
+     */
+    public void setPosition(final double x, final double y) {
+        this.x = x;
+        this.y = y;
+        this.anchor = null;
+    }
+
+    /**
+     * Makes the spawner follow an entity, centring bullets on a point offset
+     * from the entity's centre.
+     *
+     * @param anchor The entity to follow.
+     * @param offsetX How far right of the entity's centre to fire from.
+     * @param offsetY How far down from the entity's centre to fire from.
+     */
+    public void attachTo(final Entity anchor, final double offsetX, final double offsetY) {
+        if (anchor == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Anchor cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.anchor = anchor;
+        this.anchorOffsetX = offsetX;
+        this.anchorOffsetY = offsetY;
+        followAnchor();
+    }
+
+    /**
+     * Sets whether the spawner should create bullets. Starting restarts the
+     * spawn delay, so no volleys are owed for the time spent idle.
      *
      * @param isSpawning {@code true} if creating bullets, {@code false}
      * otherwise.
      */
     public void setIsSpawning(final boolean isSpawning) {
+        if (isSpawning && !this.isSpawning) {
+            start();
+        }
         this.isSpawning = isSpawning;
     }
 
+    /**
+     * Sets how many ticks to wait between volleys while spawning. Minimum
+     * value is 1 tick.
+     *
+     * @param spawnDelayTicks The spawn delay.
+     */
+    public final void setSpawnDelayTicks(final int spawnDelayTicks) {
+        this.spawnDelayTicks = Math.max(Math.abs(spawnDelayTicks), 1);
+        this.ticksUntilVolley = Math.min(ticksUntilVolley, this.spawnDelayTicks);
+    }
+
+    /**
+     * Sets how fast the spawner may emit bullets.
+     *
+     * @param emissionRate How many bullets per tick the emission allowance
+     * refills by.
+     * @param emissionCapacity The most bullets the allowance can hold, and so
+     * the largest burst the spawner can emit at once.
+     * @throws IllegalArgumentException if the rate is negative or the capacity
+     * is less than one (1).
+     */
+    public final void setEmissionLimits(final double emissionRate, final int emissionCapacity) throws IllegalArgumentException {
+        if (emissionRate < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Emission rate cannot be less than zero (0).",
+                    this.getClass().getName()
+            ));
+        }
+        if (emissionCapacity < 1) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Emission capacity must be at least one (1).",
+                    this.getClass().getName()
+            ));
+        }
+        this.emissionRate = emissionRate;
+        this.emissionCapacity = emissionCapacity;
+        this.emissionAllowance = Math.min(emissionAllowance, emissionCapacity);
+    }
+
     /**
      * Sets the movement speed of spawned bullets along the x-axis in pixels per
      * frame.
@@ -223,55 +516,23 @@ public class BulletSpawner extends Entity {
     }
 
     /**
-     * Sets the set of keys this entity can query {@link AnimationManager} with.
-     *
-     * @param bulletAnimationKeys The set of animation keys.
-     * @throws IllegalArgumentException if, when a non-{@code null} set is
-     * passed, it contains {@code null} or blank keys, or contains a key that
-     * doesn't exist in {@link AnimationManager}'s key set.
-     */
-    public final void setBulletAnimationKeys(final Set<String> bulletAnimationKeys) throws IllegalArgumentException {
-        if (bulletAnimationKeys == null) {
-            this.bulletAnimationKeys = new HashSet<>();
-            return;
-        }
-
-        for (String key : bulletAnimationKeys) {
-            if (key == null || key.isBlank()) {
-                throw new IllegalArgumentException(String.format(
-                        "%s: Keys cannot be null nor empty.",
-                        this.getClass().getName()
-                ));
-            }
-            if (AnimationManager.getInstance().getAnimation(key) == null) {
-                throw new IllegalArgumentException(String.format(
-                        "%s: Keys must exist within AnimationManager's key set.",
-                        this.getClass().getName()
-                ));
-            }
-        }
-
-        this.bulletAnimationKeys = new HashSet<>(bulletAnimationKeys);
-    }
-
-    /**
-     * Sets the animation for the entity.
+     * Sets the animation used for spawned bullets. The key is interned once
+     * here, and only its handle is kept.
      * <p>
      * Key must either be {@code null} (for no animation) or a valid (non-blank)
-     * string.
-     * <p>
-     * Valid strings must be a {@link AnimationTemplate} key within
-     * {@link AnimationManager} and must exist within the entity's current key
-     * set.
+     * string that is a {@link AnimationTemplate} key within
+     * {@link AnimationManager}.
      *
      * @param key The key identifying the animation.
-     * @throws IllegalAccessException if the provided key (when not
-     * {@code null}) is blank, is not within the entity's animation key set, or
-     * does not map to a loaded template within {@link AnimationManager}.
+     * @throws IllegalArgumentException if the provided key (when not
+     * {@code null}) is blank or does not map to a loaded template within
+     * {@link AnimationManager}.
      */
     public final void setCurrentBulletAnimationKey(String key) throws IllegalArgumentException {
         if (key == null) {
-            currentBulletAnimationKey = null;
+            currentBulletAnimationHandle = AnimationManager.NO_ANIMATION;
+            bulletHalfWidth = 0;
+            bulletHalfHeight = 0;
             return;
         }
 
@@ -282,14 +543,6 @@ public class BulletSpawner extends Entity {
             ));
         }
 
-        if (!bulletAnimationKeys.contains(key)) {
-            throw new IllegalArgumentException(String.format(
-                    "%s: Animation key <'%s'> not found within key set. Please add key to set.",
-                    this.getClass().getName(),
-                    key
-            ));
-        }
-
         AnimationTemplate template = AnimationManager.getInstance().getAnimation(key);
         if (template == null) {
             throw new IllegalArgumentException(String.format(
@@ -298,20 +551,71 @@ public class BulletSpawner extends Entity {
                     key
             ));
         }
-        this.currentAnimationKey = key;
+        this.currentBulletAnimationHandle = AnimationManager.getInstance().intern(key);
+
+        Dimension bulletSpriteDimensions = getBulletSpriteDimensions();
+        this.bulletHalfWidth = bulletSpriteDimensions.width / 2.0;
+        this.bulletHalfHeight = bulletSpriteDimensions.height / 2.0;
+    }
+
+    /**
+     * Sets the collision shape shared by every spawned {@link Bullet}.
+     *
+     * @param bulletCollisionShape The bullet collision shape, or {@code null}
+     * for spawned bullets to collide using their collision masks.
+     */
+    public void setBulletCollisionShape(final CollisionShape bulletCollisionShape) {
+        this.bulletCollisionShape = bulletCollisionShape;
+    }
+
+    /**
+     * Sets the volley fired each time the spawner shoots, and resets any
+     * spiral or {@link #turnPattern(int)} turn.
+     *
+     * @param bulletPattern The bullet pattern, or {@code null} to fire single
+     * bullets.
+     */
+    public final void setBulletPattern(final BulletPattern bulletPattern) {
+        this.bulletPattern = bulletPattern;
+        this.patternTurn = 0;
+    }
+
+    /**
+     * Sets the point aimed patterns are fired towards.
+     *
+     * @param targetX The target's x-coordinate.
+     * @param targetY The target's y-coordinate.
+     */
+    public void setTarget(final double targetX, final double targetY) {
+        this.targetX = targetX;
+        this.targetY = targetY;
+        this.hasTarget = true;
+    }
+
+    /**
+     * Removes the spawner's target, so aimed patterns use their fixed facing.
+     */
+    public void clearTarget() {
+        this.hasTarget = false;
     }
 
     // ----- BUSINESS LOGIC METHODS -----
-    public Dimension getBulletSpriteDimensions() {
-        if (currentAnimationKey == null) {
+    /**
+     * Returns the dimensions of the current bullet animation's first frame.
+     *
+     * @return The dimensions, or zero if no bullet animation is set.
+     */
+    public final Dimension getBulletSpriteDimensions() {
+        if (currentBulletAnimationHandle == AnimationManager.NO_ANIMATION) {
             return new Dimension(0, 0);
         }
 
-        AnimationInstance bulletAnimation = new AnimationInstance(
-                AnimationManager.getInstance().getAnimation(currentAnimationKey)
-        );
+        AnimationTemplate template = AnimationManager.getInstance().getAnimation(currentBulletAnimationHandle);
+        if (template == null || template.getFrames().isEmpty()) {
+            return new Dimension(0, 0);
+        }
 
-        BufferedImage bulletSprite = bulletAnimation.getCurrentFrameImage();
+        BufferedImage bulletSprite = template.getFrames().get(0).getImage();
         if (bulletSprite != null) {
             return new Dimension(bulletSprite.getWidth(), bulletSprite.getHeight());
         }
@@ -319,12 +623,12 @@ public class BulletSpawner extends Entity {
     }
 
     /**
-     * // * Begins the spawning of {@link Bullet} instances. //
+     * Begins the spawning of {@link Bullet} instances, firing the first volley
+     * once a full spawn delay has passed.
      */
     public void start() {
         isSpawning = true;
-        lastUpdateTime = System.currentTimeMillis();
-        elapsedDelayTime = 0;
+        ticksUntilVolley = spawnDelayTicks;
     }
 
     /**
@@ -343,88 +647,224 @@ public class BulletSpawner extends Entity {
      * @return the newly created bullet.
      */
     public Bullet spawnBullet() {
-        Bullet bullet = new Bullet.BulletBuilder(panel, owner)
-                .position(position)
-                .invisibility(true)
-                .damage(bulletDamage)
-                .velocityX(bulletVelocityX)
-                .velocityY(bulletVelocityY)
-                .animationKeys(bulletAnimationKeys)
-                .currentAnimationKey(currentBulletAnimationKey)
-                .build();
-        GameManager.getInstance().getBulletManager().addBullet(bullet);
-        return bullet;
+        return spawnBullet(bulletVelocityX, bulletVelocityY);
     }
 
-    // ----- OVERRIDDEN METHODS -----
     /**
-     * Compares this entity to another object for equality.
+     * Fires one volley of the spawner's {@link BulletPattern}, or a single
+     * bullet if it has none.
      *
-     * @param obj The {@link Object} to compare with.
-     * @return {@code true} if the objects are equal, {@code false} otherwise.
+     * @return How many bullets were spawned, which may be fewer than the
+     * volley if the spawner or the {@link BulletManager} is out of allowance.
      */
-    @Override
-    public boolean equals(Object obj) {
-        if (this == obj) {
-            return true;
+    public int spawnVolley() {
+        return spawnBurst(bulletPattern == null ? 1 : bulletPattern.getBulletCount(), bulletPattern);
+    }
+
+    /**
+     * Emits a burst of bullets from a pattern in a single pass.
+     * <p>
+     * The burst walks through the pattern's precompiled velocities in order,
+     * wrapping round to fire further volleys, so a burst of twice the
+     * pattern's bullet count fires two volleys. Each volley is rotated to face
+     * the target (if the pattern is aimed and the spawner has one) or the
+     * pattern's fixed facing, plus the spawner's current turn; the rotation is
+     * a single {@link FastAngle} table lookup per volley. Each complete volley
+     * turns a spiral one step further; binary angles wrap around exactly, so
+     * the turn never drifts.
+     * <p>
+     * The burst is clipped to the spawner's emission allowance and to the
+     * {@link BulletManager}'s budget for the tick. The bullets are written into
+     * a contiguous range of storage reserved up front, reusing removed
+     * bullets where the range holds them. Each bullet from a pattern is handed
+     * the pattern's kinematics, so it is steered or follows its closed-form
+     * path.
+     *
+     * @param count How many bullets to emit.
+     * @param pattern The pattern to emit, or {@code null} to emit single
+     * bullets using {@link #bulletVelocityX} and {@link #bulletVelocityY}.
+     * @return How many bullets were spawned.
+     */
+    public int spawnBurst(final int count, final BulletPattern pattern) {
+        followAnchor();
+        refillEmissionAllowance();
+        int allowed = Math.min(count, (int) emissionAllowance);
+        if (allowed <= 0) {
+            return 0;
         }
-        if (!(obj instanceof BulletSpawner)) {
-            return false;
+
+        BulletManager bulletManager = GameManager.getInstance().getBulletManager();
+        int start = bulletManager.reserveBullets(allowed);
+        int end = bulletManager.getBulletCount();
+        emissionAllowance -= end - start;
+
+        if (pattern == null) {
+            for (int slot = start; slot < end; slot++) {
+                fillSlot(bulletManager, slot, bulletVelocityX, bulletVelocityY);
+            }
+            return end - start;
+        }
+
+        int facing = pattern.getDirection();
+        if (pattern.isAimed() && hasTarget && (targetX != x || targetY != y)) {
+            facing = FastAngle.atan2(y - targetY, targetX - x); // Inverted for Cartesian velocities
         }
-        BulletSpawner other = (BulletSpawner) obj;
-        return Objects.equals(owner, other.getOwner())
-                && isSpawning == other.isSpawning()
-                && bulletDamage == other.bulletDamage
-                && Double.compare(bulletVelocityX, other.getBulletVelocityX()) == 0
-                && Double.compare(bulletVelocityY, other.getBulletVelocityY()) == 0
-                && Objects.equals(bulletAnimationKeys, other.getBulletAnimationKeys())
-                && Objects.equals(currentBulletAnimationKey, other.getCurrentBulletAnimatioKey())
-                && spawnDelayMs == other.getSpawnDelayMs()
-                && elapsedDelayTime == getElapsedDelayTime()
-                && lastUpdateTime == getLastUpdateTime();
+
+        int volleySize = pattern.getBulletCount();
+        double rotationCos = 0;
+        double rotationSin = 0;
+        int index = 0;
+        for (int slot = start; slot < end; slot++) {
+            if (index == 0) {
+                int rotation = facing + patternTurn;
+                rotationCos = FastAngle.cos(rotation);
+                rotationSin = FastAngle.sin(rotation);
+            }
+
+            double vx = pattern.getVelocityX(index);
+            double vy = pattern.getVelocityY(index);
+            fillSlot(bulletManager, slot, vx * rotationCos - vy * rotationSin, vx * rotationSin + vy * rotationCos);
+            bulletManager.setBulletKinematics(slot, pattern);
+
+            if (++index == volleySize) {
+                index = 0;
+                patternTurn += pattern.getSpiralStep();
+            }
+        }
+        return end - start;
     }
 
     /**
-     * Returns a hash code for this entity.
+     * Turns every following volley by an extra angle, on top of any spiral.
      *
-     * @return The hash code of the entity.
+     * @param angle The angle to turn by, as a {@link FastAngle} binary angle.
+     * Positive values turn anticlockwise.
      */
-    @Override
-    public int hashCode() {
-        return Objects.hash(
-                isSpawning,
-                bulletDamage,
-                bulletVelocityX,
-                bulletVelocityY,
-                bulletAnimationKeys,
-                currentBulletAnimationKey,
-                spawnDelayMs,
-                elapsedDelayTime,
-                lastUpdateTime
-        );
+    public void turnPattern(final int angle) {
+        patternTurn += angle;
     }
 
+    // ----- OVERRIDDEN METHODS -----
     /**
-     * Updates the entity's state.
+     * Updates the spawner's state. Called once per tick.
+     * <p>
+     * While spawning, counts the spawn delay down by one tick and fires a
+     * volley when it runs out. Timing depends only on the number of ticks
+     * played, so a long frame cannot make volleys fall due in a flood. A
+     * volley the emission allowance cannot cover is clipped rather than owed.
      */
     @Override
     public void update() {
-        if (isSpawning) {
-            long currentTime = System.currentTimeMillis();
-            elapsedDelayTime += currentTime - lastUpdateTime;
-            while (elapsedDelayTime >= spawnDelayMs) {
-                spawnBullet();
-                elapsedDelayTime -= spawnDelayMs; // Ensures correct timing
-            }
+        if (!isSpawning || --ticksUntilVolley > 0) {
+            return;
+        }
+
+        ticksUntilVolley = spawnDelayTicks;
+        spawnVolley();
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Moves the emission point to the anchor's centre plus the offset, if the
+     * spawner has an anchor.
+     */
+    private void followAnchor() {
+        if (anchor != null) {
+            x = anchor.getCentreX() + anchorOffsetX - bulletHalfWidth;
+            y = anchor.getCentreY() + anchorOffsetY - bulletHalfHeight;
+        }
+    }
+
+    /**
+     * Fills a reserved slot of bullet storage with a bullet at the spawner's
+     * position, reusing the removed bullet parked there if there is one.
+     *
+     * @param bulletManager The bullet manager.
+     * @param slot The reserved slot.
+     * @param velocityX The bullet's x-axis velocity.
+     * @param velocityY The bullet's y-axis velocity.
+     */
+    private void fillSlot(final BulletManager bulletManager, final int slot, final double velocityX, final double velocityY) {
+        Bullet bullet = bulletManager.getBullet(slot);
+        if (bullet != null) {
+            bullet.respawn(this, velocityX, velocityY);
+        } else {
+            bulletManager.placeBullet(slot, createBullet(velocityX, velocityY));
         }
     }
 
+    /**
+     * Adds the ticks passed since the last refill to the emission allowance.
+     */
+    private void refillEmissionAllowance() {
+        long tick = GameManager.getInstance().getBulletManager().getTick();
+        long elapsedTicks = Math.max(tick - lastRefillTick, 0);
+        lastRefillTick = tick;
+        emissionAllowance = Math.min(emissionAllowance + elapsedTicks * emissionRate, emissionCapacity);
+    }
+
+    /**
+     * Spawns a new {@link Bullet} at the spawner's position and adds it to the
+     * BulletManager's managed list of bullets.
+     *
+     * @param velocityX The bullet's x-axis velocity.
+     * @param velocityY The bullet's y-axis velocity.
+     * @return The newly created bullet.
+     */
+    private Bullet spawnBullet(final double velocityX, final double velocityY) {
+        followAnchor();
+        Bullet bullet = createBullet(velocityX, velocityY);
+        GameManager.getInstance().getBulletManager().addBullet(bullet);
+        return bullet;
+    }
+
+    /**
+     * Builds a new {@link Bullet} at the spawner's position.
+     *
+     * @param velocityX The bullet's x-axis velocity.
+     * @param velocityY The bullet's y-axis velocity.
+     * @return The new bullet.
+     */
+    private Bullet createBullet(final double velocityX, final double velocityY) {
+        String bulletAnimationKey = getCurrentBulletAnimatioKey();
+        return new Bullet.BulletBuilder(owner.getPanel(), owner)
+                .position(x, y)
+                .invisibility(true)
+                .collidability(true)
+                .damage(bulletDamage)
+                .velocityX(velocityX)
+                .velocityY(velocityY)
+                .animationKeys(bulletAnimationKey == null ? null : Set.of(bulletAnimationKey))
+                .currentAnimationKey(bulletAnimationKey)
+                .collisionShape(bulletCollisionShape)
+                .build();
+    }
+
+    /**
+     * Returns the default bullet collision shape for an animation: a circle
+     * inscribed in the opaque bounds of the animation's first frame. The shape
+     * is built the first time it is asked for and shared afterwards.
+     *
+     * @param handle The bullet animation's {@link AnimationManager} handle.
+     * @return The circle, or {@code null} if no bullet animation is set.
+     */
+    private static CollisionShape getDefaultBulletCollisionShape(final int handle) {
+        if (handle == AnimationManager.NO_ANIMATION) {
+            return null;
+        }
+
+        return DEFAULT_BULLET_COLLISION_SHAPES.computeIfAbsent(handle, key -> CircleShape.inscribedIn(
+                AnimationManager.getInstance().getAnimation(key).getFrames().get(0).getOpaqueBounds(),
+                DEFAULT_BULLET_HITBOX_SCALE
+        ));
+    }
+
     // ----- BUILDER FOR BULLET SPAWNER -----
     /**
-     * The EntityBuilder class provides a fluent API for constructing an Entity
-     * object.
+     * The BulletSpawnerBuilder class provides a fluent API for constructing a
+     * BulletSpawner object.
      */
-    public static class BulletSpawnerBuilder extends EntityBuilder<BulletSpawnerBuilder> {
+    public static class BulletSpawnerBuilder {
 
         // ----- INSTANCE VARIABLES -----
         /**
@@ -432,6 +872,31 @@ public class BulletSpawner extends Entity {
          */
         protected Entity owner = null;
 
+        /**
+         * The x-coordinate bullets are spawned at.
+         */
+        protected double x = 0;
+
+        /**
+         * The y-coordinate bullets are spawned at.
+         */
+        protected double y = 0;
+
+        /**
+         * The entity whose centre the spawner follows.
+         */
+        protected Entity anchor = null;
+
+        /**
+         * How far right of the anchor's centre bullets are centred.
+         */
+        protected double anchorOffsetX = 0;
+
+        /**
+         * How far down from the anchor's centre bullets are centred.
+         */
+        protected double anchorOffsetY = 0;
+
         /**
          * {@code true} if the spawner is currently creating bullets;
          * {@code false} otherwise.
@@ -456,20 +921,37 @@ public class BulletSpawner extends Entity {
         protected double bulletVelocityY = 0;
 
         /**
-         * A map of all the animations associated with the spawned bullets,
-         * keyed by animation name.
+         * The key of the spawned bullet's initial active animation.
          */
-        protected HashSet<String> bulletAnimationKeys = new HashSet<>();
+        protected String currentBulletAnimationKey = null;
 
         /**
-         * The key of the spawned bullet's initial active animation.
+         * The collision shape shared by every spawned {@link Bullet}.
          */
-        protected String currentBulletAnimationKey = null;
+        protected CollisionShape bulletCollisionShape = null;
 
-        // ------ CONSTRUCTORS -----
-        public BulletSpawnerBuilder(final JPanel panel, final Entity owner) {
-            super(panel);
+        /**
+         * The volley fired each time the spawner shoots.
+         */
+        protected BulletPattern bulletPattern = null;
+
+        /**
+         * How many ticks to wait between volleys while spawning.
+         */
+        protected int spawnDelayTicks = DEFAULT_SPAWN_DELAY_TICKS;
+
+        /**
+         * How many bullets per tick the emission allowance refills by.
+         */
+        protected double emissionRate = DEFAULT_EMISSION_RATE;
+
+        /**
+         * The most bullets the emission allowance can hold.
+         */
+        protected int emissionCapacity = DEFAULT_EMISSION_CAPACITY;
 
+        // ------ CONSTRUCTORS -----
+        public BulletSpawnerBuilder(final Entity owner) {
             if (owner == null) {
                 throw new IllegalArgumentException(String.format(
                         "%s: Owner cannot be null.",
@@ -481,6 +963,34 @@ public class BulletSpawner extends Entity {
         }
 
         // ---- SETTERS -----
+        /**
+         * Fixes the spawner at a point.
+         *
+         * @param x The x-coordinate of the spawned bullets' top-left corner.
+         * @param y The y-coordinate of the spawned bullets' top-left corner.
+         */
+        public BulletSpawnerBuilder position(final double x, final double y) {
+            this.x = x;
+            this.y = y;
+            this.anchor = null;
+            return this;
+        }
+
+        /**
+         * Makes the spawner follow an entity, centring bullets on a point
+         * offset from the entity's centre.
+         *
+         * @param anchor The entity to follow.
+         * @param offsetX How far right of the entity's centre to fire from.
+         * @param offsetY How far down from the entity's centre to fire from.
+         */
+        public BulletSpawnerBuilder anchor(final Entity anchor, final double offsetX, final double offsetY) {
+            this.anchor = anchor;
+            this.anchorOffsetX = offsetX;
+            this.anchorOffsetY = offsetY;
+            return this;
+        }
+
         public BulletSpawnerBuilder bulletDamage(final int bulletDamage) {
             this.bulletDamage = bulletDamage;
             return this;
@@ -520,30 +1030,65 @@ public class BulletSpawner extends Entity {
         }
 
         /**
-         * Sets the set of keys this entity can query {@link AnimationManager}
-         * with.
+         * Sets the animation used for spawned bullets.
+         * <p>
+         * Key must either be {@code null} (for no animation) or a valid
+         * (non-blank) string that is a {@link AnimationTemplate} key within
+         * {@link AnimationManager}.
          *
-         * @param bulletAnimationKeys The set of animation keys.
+         * @param key The key identifying the animation.
          */
-        public final BulletSpawnerBuilder bulletAnimationKeys(final Set<String> bulletAnimationKeys) {
-            this.bulletAnimationKeys = (bulletAnimationKeys == null) ? new HashSet<>() : new HashSet<>(bulletAnimationKeys);
+        public final BulletSpawnerBuilder currentBulletAnimationKey(String key) {
+            this.currentBulletAnimationKey = key;
             return this;
         }
 
         /**
-         * Sets the animation for the entity.
-         * <p>
-         * Key must either be {@code null} (for no animation) or a valid
-         * (non-blank) string.
-         * <p>
-         * Valid strings must be a {@link AnimationTemplate} key within
-         * {@link AnimationManager} and must exist within the entity's current
-         * key set.
+         * Sets the collision shape shared by every spawned {@link Bullet}. By
+         * default, a circle inscribed in the bullet sprite is used.
          *
-         * @param key The key identifying the animation.
+         * @param bulletCollisionShape The bullet collision shape.
          */
-        public final BulletSpawnerBuilder currentBulletAnimationKey(String key) {
-            this.currentBulletAnimationKey = key;
+        public BulletSpawnerBuilder bulletCollisionShape(final CollisionShape bulletCollisionShape) {
+            this.bulletCollisionShape = bulletCollisionShape;
+            return this;
+        }
+
+        /**
+         * Sets the volley fired each time the spawner shoots. By default, a
+         * single bullet is fired using the bullet velocities.
+         *
+         * @param bulletPattern The bullet pattern.
+         */
+        public BulletSpawnerBuilder bulletPattern(final BulletPattern bulletPattern) {
+            this.bulletPattern = bulletPattern;
+            return this;
+        }
+
+        /**
+         * Sets how many ticks to wait between volleys while spawning. By
+         * default, {@value BulletSpawner#DEFAULT_SPAWN_DELAY_TICKS} ticks.
+         *
+         * @param spawnDelayTicks The spawn delay.
+         */
+        public BulletSpawnerBuilder spawnDelayTicks(final int spawnDelayTicks) {
+            this.spawnDelayTicks = spawnDelayTicks;
+            return this;
+        }
+
+        /**
+         * Sets how fast the spawner may emit bullets. By default, the
+         * allowance refills by {@value BulletSpawner#DEFAULT_EMISSION_RATE}
+         * bullets per tick up to
+         * {@value BulletSpawner#DEFAULT_EMISSION_CAPACITY}.
+         *
+         * @param emissionRate How many bullets per tick the emission
+         * allowance refills by.
+         * @param emissionCapacity The most bullets the allowance can hold.
+         */
+        public BulletSpawnerBuilder emissionLimits(final double emissionRate, final int emissionCapacity) {
+            this.emissionRate = emissionRate;
+            this.emissionCapacity = emissionCapacity;
             return this;
         }
 
@@ -1,5 +1,6 @@
 package com.rikuthin.entities.enemies;
 
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -8,6 +9,7 @@ import javax.swing.JPanel;
 
 import com.rikuthin.entities.bullets.BulletSpawner;
 import com.rikuthin.graphics.GameFrame;
+import com.rikuthin.scripting.AttackScript;
 
 /**
  * Represents a Blue Mage enemy in the game.
@@ -17,6 +19,12 @@ import com.rikuthin.graphics.GameFrame;
  */
 public class BlueMage extends Enemy {
 
+    // ----- STATIC VARIABLES -----
+    /**
+     * The file name of the Blue Mage's attack script.
+     */
+    private static final String ATTACK_SCRIPT_FILE_NAME = "blue-mage.attack";
+
     // ----- CONSTRUCTORS -----
     /**
      * Constructor used to create a BlueMage instance.
@@ -28,6 +36,7 @@ public class BlueMage extends Enemy {
 
         setUpBlueMageAnimations();
         setUpBlueMageBulletSpawner();
+        setUpBlueMageAttackScript();
     }
 
     // ----- OVERRIDDEN METHODS -----
@@ -43,7 +52,7 @@ public class BlueMage extends Enemy {
         super.move();
 
         // Get the normalized cosine value in the range [-1, 1]
-        double normalizedCos = Math.cos(position.y);
+        double normalizedCos = Math.cos(y);
 
         double amplitude = 50;
 
@@ -51,7 +60,7 @@ public class BlueMage extends Enemy {
         double oscillatedY = amplitude * GameFrame.FRAME_HEIGHT * normalizedCos;
 
         // Clamp the result to stay within the limits [1/5 * GameFrame.FRAME_HEIGHT, 3/5 * GameFrame.FRAME_HEIGHT]
-        position.y = (int) Math.max(
+        y = Math.max(
                 Math.min(
                         oscillatedY + (1.0 / 5.0) * GameFrame.FRAME_HEIGHT,
                         (1.0 / 5.0) * GameFrame.FRAME_HEIGHT
@@ -81,20 +90,34 @@ public class BlueMage extends Enemy {
      * initial animation.
      */
     private void setUpBlueMageBulletSpawner() {
-        HashSet<String> blueMageBulletAnimationKeys = Stream.of(
-                "enemy-bullet"
-        ).collect(Collectors.toCollection(HashSet::new));
-
-        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(panel, this)
+        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(this)
                 .bulletDamage(1)
                 .bulletVelocityY(-20)
-                .bulletAnimationKeys(blueMageBulletAnimationKeys)
                 .currentBulletAnimationKey("enemy-bullet")
                 .build();
 
         setBulletSpawner(spawner);
     }
 
+    /**
+     * Loads the Blue Mage's attack script, unless the builder supplied one.
+     */
+    private void setUpBlueMageAttackScript() {
+        if (attackScriptRunner != null) {
+            return;
+        }
+
+        try {
+            setAttackScript(AttackScript.fromClasspath(ATTACK_SCRIPT_FILE_NAME));
+        } catch (IOException e) {
+            System.err.println(String.format(
+                    "%s: Failed to load attack script - %s",
+                    this.getClass().getName(),
+                    e.getMessage()
+            ));
+        }
+    }
+
     // ----- STATIC BUILDER FOR ENEMY -----
     public static class BlueMageBuilder extends EnemyBuilder {
 
@@ -1,6 +1,5 @@
 package com.rikuthin.entities.enemies;
 
-import java.awt.Dimension;
 import java.awt.Point;
 import java.util.Objects;
 
@@ -8,16 +7,20 @@ import javax.swing.JPanel;
 
 import com.rikuthin.entities.MobileEntity;
 import com.rikuthin.entities.bullets.Bullet;
+import com.rikuthin.entities.bullets.BulletPattern;
 import com.rikuthin.entities.bullets.BulletSpawner;
 import com.rikuthin.graphics.GameFrame;
-import com.rikuthin.utility.Bearing2D;
+import com.rikuthin.scripting.AttackScript;
+import com.rikuthin.scripting.AttackScriptRunner;
 
 /**
  * Represents an enemy in the game that is mobile and can move within the game
  * world.
  * <p>
  * This class extends {@link MobileEntity} and includes functionality for
- * attacking using a {@link BulletSpawner}.
+ * attacking using a {@link BulletSpawner}. An enemy with an
+ * {@link AttackScript} fires the volleys its script describes; otherwise it
+ * uses its timed attack waves.
  */
 public class Enemy extends MobileEntity {
 
@@ -26,6 +29,11 @@ public class Enemy extends MobileEntity {
      * {@link Bullet}s.
      */
     protected BulletSpawner bulletSpawner;
+    /**
+     * Runs the enemy's {@link AttackScript}, or {@code null} if the enemy has
+     * none.
+     */
+    protected AttackScriptRunner attackScriptRunner;
     /**
      * The duration (in milliseconds) an enemy can continuously attack before
      * needing to cool down.
@@ -61,6 +69,8 @@ public class Enemy extends MobileEntity {
      */
     public Enemy(EnemyBuilder builder) {
         super(builder);
+
+        setAttackScript(builder.attackScript);
     }
 
     // ---- GETTERS -----
@@ -73,6 +83,25 @@ public class Enemy extends MobileEntity {
         return bulletSpawner;
     }
 
+    /**
+     * Returns the script the enemy attacks with.
+     *
+     * @return The attack script, or {@code null} if the enemy uses timed
+     * attack waves.
+     */
+    public AttackScript getAttackScript() {
+        return attackScriptRunner == null ? null : attackScriptRunner.getScript();
+    }
+
+    /**
+     * Returns the runner stepping the enemy's attack script.
+     *
+     * @return The runner, or {@code null} if the enemy has no attack script.
+     */
+    public AttackScriptRunner getAttackScriptRunner() {
+        return attackScriptRunner;
+    }
+
     /**
      * Returns whether the enemy is attacking/firing bullets.
      *
@@ -115,12 +144,27 @@ public class Enemy extends MobileEntity {
 
     // ---- SETTERS -----
     /**
-     * Sets the enemy's {@link BulletSpawner}
+     * Sets the enemy's {@link BulletSpawner}, attaching it to the enemy's
+     * centre.
      *
      * @param bulletSpawner the bullet spawner.
      */
     public final void setBulletSpawner(final BulletSpawner bulletSpawner) {
         this.bulletSpawner = bulletSpawner;
+
+        if (bulletSpawner != null) {
+            bulletSpawner.attachTo(this, 0, 0);
+        }
+    }
+
+    /**
+     * Sets the script the enemy attacks with, starting it from the beginning.
+     *
+     * @param attackScript The attack script, or {@code null} to use timed
+     * attack waves.
+     */
+    public final void setAttackScript(final AttackScript attackScript) {
+        this.attackScriptRunner = attackScript == null ? null : new AttackScriptRunner(attackScript);
     }
 
     /**
@@ -151,32 +195,67 @@ public class Enemy extends MobileEntity {
     }
 
     /**
-     * Updates the x and y velocities of new bullets to aim towards the given
-     * target coordinates.
+     * Aims the enemy at the given target coordinates, as
+     * {@link #aimAt(double, double)} does.
      *
-     * @param target
+     * @param target The target's coordinates.
      */
     public void setTarget(final Point target) {
-        if (target == null || bulletSpawner == null) {
+        if (target != null) {
+            aimAt(target.x, target.y);
+        }
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Aims the enemy so that bullets fired from its centre head for a point.
+     * <p>
+     * The spawner's aimed patterns are aimed at the point, and new single
+     * bullets are turned towards it, keeping their current speed. Only the
+     * direction of the spawner's bullet velocity changes, and it is taken
+     * straight from the normalised displacement to the point, so retargeting
+     * repeatedly does not change how fast bullets travel.
+     *
+     * @param targetX The x-coordinate to aim at.
+     * @param targetY The y-coordinate to aim at.
+     */
+    public void aimAt(final double targetX, final double targetY) {
+        if (bulletSpawner == null) {
             return;
         }
+        bulletSpawner.setTarget(targetX - bulletSpawner.getBulletHalfWidth(), targetY - bulletSpawner.getBulletHalfHeight());
 
-        Point startCoords = getCentreCoordinates();
-        Dimension bulletSpriteDimensions = bulletSpawner.getBulletSpriteDimensions();
-        startCoords.x -= bulletSpriteDimensions.width / 2;
-        startCoords.y -= bulletSpriteDimensions.height / 2;
+        double dx = targetX - getCentreX();
+        double dy = getCentreY() - targetY; // Inverted for Cartesian velocities
+        if (dx == 0 && dy == 0) {
+            return;
+        }
 
-        Bearing2D bearing = new Bearing2D(startCoords.x, startCoords.y, target.x, target.y);
-        double radians = Math.toRadians(bearing.getDegrees());
+        double speed = Math.hypot(bulletSpawner.getBulletVelocityX(), bulletSpawner.getBulletVelocityY());
+        double distance = Math.sqrt(dx * dx + dy * dy);
 
-        double currentBulletVelocityX = bulletSpawner.getBulletVelocityX();
-        double currentBulletVelocityY = bulletSpawner.getBulletVelocityY();
+        bulletSpawner.setBulletVelocityX(speed * dx / distance);
+        bulletSpawner.setBulletVelocityY(speed * dy / distance);
+    }
 
-        bulletSpawner.setBulletVelocityX(currentBulletVelocityX * Math.cos(radians));
-        bulletSpawner.setBulletVelocityY(currentBulletVelocityY * Math.sin(radians));
+    /**
+     * Fires one volley of a pattern from the enemy's centre.
+     * <p>
+     * The pattern becomes the spawner's current pattern; switching patterns
+     * resets the spawner's turn.
+     *
+     * @param pattern The pattern to fire.
+     */
+    public void fireVolley(final BulletPattern pattern) {
+        if (bulletSpawner == null) {
+            return;
+        }
+        if (bulletSpawner.getBulletPattern() != pattern) {
+            bulletSpawner.setBulletPattern(pattern);
+        }
+        bulletSpawner.spawnVolley();
     }
 
-    // ----- BUSINESS LOGIC METHODS -----
     /**
      * Checks whether the enemy can perform an attack.
      *
@@ -237,6 +316,7 @@ public class Enemy extends MobileEntity {
         Enemy other = (Enemy) obj;
         return super.equals(other)
                 && Objects.equals(bulletSpawner, other.getBulletSpawner())
+                && Objects.equals(getAttackScript(), other.getAttackScript())
                 && isAttacking() == other.isAttacking()
                 && attackCooldownMs == other.getAttackCooldownMs()
                 && elapsedAttackCooldownMs == other.getElapsedAttackCooldownMs()
@@ -253,6 +333,7 @@ public class Enemy extends MobileEntity {
         return Objects.hash(
                 super.hashCode(),
                 bulletSpawner,
+                getAttackScript(),
                 isAttacking(),
                 attackCooldownMs,
                 elapsedAttackCooldownMs,
@@ -275,12 +356,19 @@ public class Enemy extends MobileEntity {
 
     /**
      * Updates the state of the entity, including movement and attack state.
+     * <p>
+     * An enemy with an attack script steps it by one tick instead of running
+     * its timed attack waves.
      */
     @Override
     public void update() {
         super.update();
         lastUpdateTime = System.currentTimeMillis();
-        attack();
+        if (attackScriptRunner != null) {
+            attackScriptRunner.update(this);
+        } else {
+            attack();
+        }
     }
 
     /**
@@ -301,9 +389,9 @@ public class Enemy extends MobileEntity {
      * screen boundary, simulating a wall bounce.
      */
     private void horizontalScreenBounce() {
-        if (position.x <= 0 || position.x >= panel.getWidth() - getSpriteWidth()) {
+        if (x <= 0 || x >= panel.getWidth() - getSpriteWidth()) {
             velocityX = -velocityX; // Reverse direction
-            position.x = Math.max(Math.min(position.x, 0), GameFrame.FRAME_HEIGHT - getSpriteWidth()); // Keep within bounds
+            x = Math.max(Math.min(x, 0), GameFrame.FRAME_HEIGHT - getSpriteWidth()); // Keep within bounds
         }
     }
 
@@ -333,9 +421,28 @@ public class Enemy extends MobileEntity {
     // ----- STATIC BUILDER FOR ENEMY -----
     public static class EnemyBuilder extends MobileEntityBuilder<EnemyBuilder> {
 
+        // ----- INSTANCE VARIABLES -----
+        /**
+         * The script the enemy attacks with.
+         */
+        protected AttackScript attackScript = null;
+
         // ----- CONSTRUCTOR -----
         public EnemyBuilder(JPanel panel) {
             super(panel);
+            this.isCollidable = true;
+        }
+
+        // ---- SETTERS -----
+        /**
+         * Sets the script the enemy attacks with. By default, enemies use
+         * timed attack waves.
+         *
+         * @param attackScript The attack script.
+         */
+        public EnemyBuilder attackScript(final AttackScript attackScript) {
+            this.attackScript = attackScript;
+            return this;
         }
 
         // ----- BUSINESS LOGIC METHODS -----
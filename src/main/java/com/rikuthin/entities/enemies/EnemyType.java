@@ -0,0 +1,83 @@
+package com.rikuthin.entities.enemies;
+
+import javax.swing.JPanel;
+
+/**
+ * The kinds of {@link Enemy} that stages can spawn, each known by the name
+ * stage files use for it.
+ */
+public enum EnemyType {
+    /**
+     * A {@link RedMage}.
+     */
+    RED_MAGE("red-mage"),
+    /**
+     * A {@link BlueMage}.
+     */
+    BLUE_MAGE("blue-mage"),
+    /**
+     * A {@link MagentaMage}.
+     */
+    MAGENTA_MAGE("magenta-mage");
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The name stage files use for the type.
+     */
+    private final String name;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates an enemy type.
+     *
+     * @param name The name stage files use for the type.
+     */
+    EnemyType(final String name) {
+        this.name = name;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the name stage files use for the type.
+     *
+     * @return The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Builds a new enemy of this type with its default attributes.
+     *
+     * @param panel The panel the enemy moves within.
+     * @return The enemy.
+     */
+    public Enemy create(final JPanel panel) {
+        return switch (this) {
+            case RED_MAGE ->
+                new RedMage.RedMageBuilder(panel).build();
+            case BLUE_MAGE ->
+                new BlueMage.BlueMageBuilder(panel).build();
+            case MAGENTA_MAGE ->
+                new MagentaMage.MagentaMageBuilder(panel).build();
+        };
+    }
+
+    // ----- STATIC METHODS -----
+    /**
+     * Returns the type with a given name.
+     *
+     * @param name The name stage files use for the type.
+     * @return The type.
+     * @throws IllegalArgumentException If no type has that name.
+     */
+    public static EnemyType fromName(final String name) throws IllegalArgumentException {
+        for (EnemyType type : values()) {
+            if (type.name.equals(name)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown enemy type <'" + name + "'>.");
+    }
+}
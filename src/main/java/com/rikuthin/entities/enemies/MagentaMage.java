@@ -1,5 +1,6 @@
 package com.rikuthin.entities.enemies;
 
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -7,6 +8,7 @@ import java.util.stream.Stream;
 import javax.swing.JPanel;
 
 import com.rikuthin.entities.bullets.BulletSpawner;
+import com.rikuthin.scripting.AttackScript;
 
 /**
  * Represents a Magenta Mage enemy in the game.
@@ -16,6 +18,12 @@ import com.rikuthin.entities.bullets.BulletSpawner;
  */
 public class MagentaMage extends Enemy {
 
+    // ----- STATIC VARIABLES -----
+    /**
+     * The file name of the Magenta Mage's attack script.
+     */
+    private static final String ATTACK_SCRIPT_FILE_NAME = "magenta-mage.attack";
+
     // ----- CONSTRUCTORS -----
     /**
      * Constructor used to create a MagentaMage instance.
@@ -27,6 +35,7 @@ public class MagentaMage extends Enemy {
 
         setUpMagentaMageAnimations();
         setUpMagentaMageBulletSpawner();
+        setUpMagentaMageAttackScript();
     }
 
     // ----- HELPER METHODS -----
@@ -50,20 +59,34 @@ public class MagentaMage extends Enemy {
      * initial animation.
      */
     private void setUpMagentaMageBulletSpawner() {
-        HashSet<String> magentaMageBulletAnimationKeys = Stream.of(
-            "enemy-bullet"
-            ).collect(Collectors.toCollection(HashSet::new));
-
-        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(panel, this)
+        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(this)
                 .bulletDamage(1)
                 .bulletVelocityY(-20)
-                .bulletAnimationKeys(magentaMageBulletAnimationKeys)
                 .currentBulletAnimationKey("enemy-bullet")
                 .build();
 
         setBulletSpawner(spawner);
     }
 
+    /**
+     * Loads the Magenta Mage's attack script, unless the builder supplied one.
+     */
+    private void setUpMagentaMageAttackScript() {
+        if (attackScriptRunner != null) {
+            return;
+        }
+
+        try {
+            setAttackScript(AttackScript.fromClasspath(ATTACK_SCRIPT_FILE_NAME));
+        } catch (IOException e) {
+            System.err.println(String.format(
+                    "%s: Failed to load attack script - %s",
+                    this.getClass().getName(),
+                    e.getMessage()
+            ));
+        }
+    }
+
 
     // ----- STATIC BUILDER FOR ENEMY -----
     public static class MagentaMageBuilder extends EnemyBuilder {
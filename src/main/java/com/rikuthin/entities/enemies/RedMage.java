@@ -1,5 +1,6 @@
 package com.rikuthin.entities.enemies;
 
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -8,6 +9,7 @@ import javax.swing.JPanel;
 
 import com.rikuthin.entities.bullets.BulletSpawner;
 import com.rikuthin.graphics.GameFrame;
+import com.rikuthin.scripting.AttackScript;
 
 /**
  * Represents a Red Mage enemy in the game.
@@ -17,6 +19,12 @@ import com.rikuthin.graphics.GameFrame;
  */
 public class RedMage extends Enemy {
 
+    // ----- STATIC VARIABLES -----
+    /**
+     * The file name of the Red Mage's attack script.
+     */
+    private static final String ATTACK_SCRIPT_FILE_NAME = "red-mage.attack";
+
     // ----- CONSTRUCTORS -----
     /**
      * Constructor used to create a RedMage instance.
@@ -28,6 +36,7 @@ public class RedMage extends Enemy {
 
         setUpRedMageAnimations();
         setUpRedMageBulletSpawner();
+        setUpRedMageAttackScript();
     }
 
     /**
@@ -42,7 +51,7 @@ public class RedMage extends Enemy {
         super.move();
 
         // Get the normalized cosine value in the range [-1, 1]
-        double normalizedCos = Math.sin(position.y);
+        double normalizedCos = Math.sin(y);
 
         double amplitude = 50;
 
@@ -50,7 +59,7 @@ public class RedMage extends Enemy {
         double oscillatedY = amplitude * GameFrame.FRAME_HEIGHT * normalizedCos;
 
         // Clamp the result to stay within the limits [1/5 * GameFrame.FRAME_HEIGHT, 3/5 * GameFrame.FRAME_HEIGHT]
-        position.y = (int) Math.max(
+        y = Math.max(
                 Math.min(
                         oscillatedY + (1.0 / 5.0) * GameFrame.FRAME_HEIGHT,
                         (1.0 / 5.0) * GameFrame.FRAME_HEIGHT
@@ -80,20 +89,34 @@ public class RedMage extends Enemy {
      * initial animation.
      */
     private void setUpRedMageBulletSpawner() {
-        HashSet<String> redMageBulletAnimationKeys = Stream.of(
-                "enemy-bullet"
-        ).collect(Collectors.toCollection(HashSet::new));
-
-        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(panel, this)
+        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(this)
                 .bulletDamage(1)
                 .bulletVelocityY(-20)
-                .bulletAnimationKeys(redMageBulletAnimationKeys)
                 .currentBulletAnimationKey("enemy-bullet")
                 .build();
 
         setBulletSpawner(spawner);
     }
 
+    /**
+     * Loads the Red Mage's attack script, unless the builder supplied one.
+     */
+    private void setUpRedMageAttackScript() {
+        if (attackScriptRunner != null) {
+            return;
+        }
+
+        try {
+            setAttackScript(AttackScript.fromClasspath(ATTACK_SCRIPT_FILE_NAME));
+        } catch (IOException e) {
+            System.err.println(String.format(
+                    "%s: Failed to load attack script - %s",
+                    this.getClass().getName(),
+                    e.getMessage()
+            ));
+        }
+    }
+
     // ----- STATIC BUILDER FOR ENEMY -----
     public static class RedMageBuilder extends EnemyBuilder {
 
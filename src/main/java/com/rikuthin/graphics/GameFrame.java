@@ -1,5 +1,6 @@
 package com.rikuthin.graphics;
 
+import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
@@ -8,10 +9,14 @@ import javax.swing.Timer;
 import javax.swing.WindowConstants;
 
 import static com.rikuthin.App.FRAME_RATE_MS;
-import com.rikuthin.graphics.animations.AnimationLoader;
+import com.rikuthin.graphics.animations.AnimationClock;
+import com.rikuthin.graphics.screens.LoadingScreen;
 import com.rikuthin.graphics.screens.MainMenuScreen;
 import com.rikuthin.graphics.screens.Screen;
 
+import managers.AssetLoader;
+import managers.TransitionManager;
+
 public final class GameFrame extends JFrame {
 
     // ----- STATIC VARIABLES -----
@@ -26,6 +31,7 @@ public final class GameFrame extends JFrame {
 
     // ----- INSTANCE VARIABLES -----
     private final Timer gameLoopTimer;
+    private final transient TransitionManager transitionManager;
     private final transient BufferedImage backBuffer;
     private transient Graphics2D g2d;
     private Screen currentScreen;
@@ -35,9 +41,12 @@ public final class GameFrame extends JFrame {
      * Constructor to initialize the game frame, set the size, title, and add
      * the main menu and gameplay panels. Also initializes the GameManager
      * instance and sets the blaster and bubble panels.
+     * <p>
+     * Assets are loaded in the background while a {@link LoadingScreen} is
+     * shown; the main menu is displayed once loading completes.
      */
     public GameFrame() {
-        AnimationLoader.loadDefaultAnimations();
+        transitionManager = new TransitionManager(FRAME_WIDTH, FRAME_HEIGHT);
 
         setTitle("<Untitled Danmaku>");
         setSize(FRAME_WIDTH, FRAME_HEIGHT);
@@ -51,16 +60,39 @@ public final class GameFrame extends JFrame {
         setLocationRelativeTo(null);
         setVisible(true);
 
-        setScreen(new MainMenuScreen(this));
+        LoadingScreen loadingScreen = new LoadingScreen(this);
+        setScreen(loadingScreen);
+        AssetLoader.getInstance()
+                .loadDefaultAssets(loadingScreen::setProgress)
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        loadingScreen.setFailureMessage("Failed to load assets: "
+                                + (e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
+                    } else {
+                        setScreen(new MainMenuScreen(this));
+                    }
+                });
 
         gameLoopTimer = new Timer((int) FRAME_RATE_MS, e -> {
+            AnimationClock.tick();
             updateGame();
+            transitionManager.update();
             renderGame();
             currentScreen.repaint();
         });
         gameLoopTimer.start();
     }
 
+    // ----- GETTERS -----
+    /**
+     * Returns the manager responsible for fades, cross-fades and dimming.
+     *
+     * @return The transition manager.
+     */
+    public TransitionManager getTransitionManager() {
+        return transitionManager;
+    }
+
     /**
      * Paints the back buffer onto the JFrame.
      */
@@ -75,11 +107,19 @@ public final class GameFrame extends JFrame {
     /**
      * Dynamically switches to a new screen, removing the old one to free up
      * memory.
+     * <p>
+     * The old screen is cross-faded into the new one; the very first screen
+     * fades in from black.
      *
      * @param newScreen The new screen to display.
      */
     public void setScreen(final Screen newScreen) {
-        if (currentScreen != null) {
+        transitionManager.clearDim();
+
+        if (currentScreen == null) {
+            transitionManager.fadeIn(Color.BLACK);
+        } else {
+            transitionManager.crossFadeFrom(currentScreen);
             remove(currentScreen);
             currentScreen.cleanup();
             currentScreen = null;
@@ -0,0 +1,50 @@
+package com.rikuthin.graphics.animations;
+
+import com.rikuthin.App;
+
+/**
+ * The global clock that drives all looping animations.
+ * <p>
+ * The game loop advances the clock once per frame. Looping
+ * {@link AnimationInstance}s derive their current frame from this tick count
+ * and a per-instance phase offset instead of tracking time themselves, so any
+ * number of entities sharing a template cost nothing to update.
+ */
+public final class AnimationClock {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * How many milliseconds a single tick represents.
+     */
+    public static final long TICK_DURATION_MS = App.FRAME_RATE_MS;
+    /**
+     * The number of ticks that have elapsed since the game started.
+     */
+    private static volatile long tick = 0;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private AnimationClock() {
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the number of ticks that have elapsed since the game started.
+     *
+     * @return The current tick.
+     */
+    public static long getTick() {
+        return tick;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Advances the clock by one tick. Should be called once per frame by the
+     * game loop.
+     */
+    public static void tick() {
+        tick = tick + 1;
+    }
+}
@@ -1,11 +1,18 @@
 package com.rikuthin.graphics.animations;
 
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 
+import com.rikuthin.collisions.CollisionMask;
+
 import managers.ImageManager;
 
 /**
  * Represents a single frame in the animation
+ * <p>
+ * Each frame precomputes its {@link CollisionMask} (tight opaque bounds and a
+ * packed per-pixel mask) when it is created, so collision checks against it
+ * only read cached data.
  */
 public class AnimationFrame {
 
@@ -18,6 +25,10 @@ public class AnimationFrame {
      * How many milliseconds to display the frame for.
      */
     final long displayDurationMs;
+    /**
+     * The collision shape of the image's opaque pixels.
+     */
+    final CollisionMask collisionMask;
 
     // ----- CONSTRUCTORS -----
     /**
@@ -44,6 +55,7 @@ public class AnimationFrame {
 
         this.image = image;
         this.displayDurationMs = displayDurationMs;
+        this.collisionMask = CollisionMask.fromImage(image);
     }
 
     /**
@@ -69,6 +81,7 @@ public class AnimationFrame {
 
         this.image = ImageManager.loadBufferedImage(imageFilepath);
         this.displayDurationMs = displayDurationMs;
+        this.collisionMask = CollisionMask.fromImage(image);
     }
 
     // ----- GETTERS -----
@@ -89,4 +102,23 @@ public class AnimationFrame {
     public long getDisplayDurationMs() {
         return displayDurationMs;
     }
+
+    /**
+     * Returns the collision shape of the frame's opaque pixels.
+     *
+     * @return The collision mask.
+     */
+    public CollisionMask getCollisionMask() {
+        return collisionMask;
+    }
+
+    /**
+     * Returns the tight bounds of the frame's opaque pixels, relative to the
+     * image's top-left corner. The returned rectangle must not be modified.
+     *
+     * @return The opaque bounds.
+     */
+    public Rectangle getOpaqueBounds() {
+        return collisionMask.getBounds();
+    }
 }
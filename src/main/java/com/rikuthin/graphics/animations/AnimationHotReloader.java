@@ -0,0 +1,189 @@
+package com.rikuthin.graphics.animations;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import managers.AnimationManager;
+
+/**
+ * Watches a directory-based {@link AnimationManifest} and reloads animations
+ * while the game runs.
+ * <p>
+ * When a sprite sheet changes, only that sheet is decoded again. When the
+ * manifest itself changes, it is re-read and only the entries whose
+ * declaration changed (or that are new) are reloaded. Decoding happens on the
+ * watcher's thread; each new template is then swapped into the thread-safe
+ * {@link AnimationManager} in a single step, so the game never sees a
+ * half-loaded animation.
+ */
+public class AnimationHotReloader implements Runnable {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * How long (in milliseconds) to wait after a change for further changes
+     * before reloading. Editors often write a file in several steps.
+     */
+    private static final long DEBOUNCE_MS = 100;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The watched directory.
+     */
+    private final Path directory;
+    /**
+     * The watch service registered on the directory.
+     */
+    private final WatchService watchService;
+    /**
+     * The most recently loaded manifest. Only accessed by the watcher thread.
+     */
+    private AnimationManifest manifest;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a hot reloader for the directory a manifest was read from.
+     *
+     * @param manifest The currently loaded manifest.
+     * @throws IllegalArgumentException If the manifest was not read from a
+     * directory.
+     * @throws IOException If the directory cannot be watched.
+     */
+    public AnimationHotReloader(final AnimationManifest manifest) throws IllegalArgumentException, IOException {
+        if (manifest == null || !manifest.isWatchable()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Only manifests read from a directory can be watched.",
+                    this.getClass().getName()
+            ));
+        }
+
+        this.manifest = manifest;
+        this.directory = manifest.getDirectory();
+        this.watchService = FileSystems.getDefault().newWatchService();
+        directory.register(
+                watchService,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY
+        );
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Starts watching on the given executor.
+     *
+     * @param executor The executor to run the watcher on. Its thread is
+     * blocked while waiting for changes.
+     */
+    public void start(final Executor executor) {
+        executor.execute(this);
+        System.out.println(String.format(
+                "AnimationHotReloader: Watching <'%s'> for changes.",
+                directory
+        ));
+    }
+
+    /**
+     * Stops watching. The watcher thread exits shortly afterwards.
+     */
+    public void stop() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            System.err.println(String.format(
+                    "%s: Failed to stop watching - %s",
+                    this.getClass().getName(),
+                    e.getMessage()
+            ));
+        }
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Waits for changes to the watched directory and reloads the affected
+     * animations until stopped.
+     */
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Thread.sleep(DEBOUNCE_MS);
+
+                Set<String> changedFiles = new HashSet<>();
+                while (key != null) {
+                    collectChangedFiles(key, changedFiles);
+                    key.reset();
+                    key = watchService.poll();
+                }
+                reload(changedFiles);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // Stopped
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Adds the names of the files changed according to a watch key.
+     *
+     * @param key The signalled watch key.
+     * @param changedFiles The set to add file names to.
+     */
+    private static void collectChangedFiles(final WatchKey key, final Set<String> changedFiles) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path path) {
+                changedFiles.add(path.getFileName().toString());
+            }
+        }
+    }
+
+    /**
+     * Reloads the animations affected by a set of changed files.
+     *
+     * @param changedFiles The names of the changed files.
+     */
+    private void reload(final Set<String> changedFiles) {
+        AnimationManifest previous = manifest;
+
+        if (changedFiles.contains(AnimationManifest.MANIFEST_FILE_NAME)) {
+            try {
+                manifest = AnimationManifest.fromDirectory(directory);
+            } catch (IOException e) {
+                // Keep the previous manifest until the file is fixed
+                System.err.println(e.getMessage());
+            }
+        }
+
+        for (AnimationMetadata md : manifest.getEntries()) {
+            if (changedFiles.contains(md.fileName) || !md.equals(previous.getEntry(md.fileName))) {
+                reloadAnimation(md);
+            }
+        }
+    }
+
+    /**
+     * Decodes a single animation and swaps it into {@link AnimationManager}.
+     *
+     * @param md The animation's manifest entry.
+     */
+    private void reloadAnimation(final AnimationMetadata md) {
+        try {
+            Map.Entry<String, AnimationTemplate> animation = AnimationLoader.loadAnimation(manifest, md);
+            AnimationManager.getInstance().replaceAnimation(animation.getKey(), animation.getValue());
+        } catch (IOException | IllegalArgumentException e) {
+            // Sheets may be caught mid-write; the next change retries
+            System.err.println(e.getMessage());
+        }
+    }
+}
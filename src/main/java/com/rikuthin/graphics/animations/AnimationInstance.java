@@ -6,8 +6,15 @@ import java.util.Objects;
 import com.rikuthin.interfaces.Updateable;
 
 /**
- * Represents an individual animation instance for an entity. Each instance has
- * its own playback state while sharing the same {@link AnimationTemplate}.
+ * Represents an individual animation instance for an entity. Each instance
+ * shares the same {@link AnimationTemplate}.
+ * <p>
+ * Looping animations are globally clocked: their current frame is looked up in
+ * the template's phase table using the {@link AnimationClock} tick and a
+ * per-instance phase offset, so updating them does nothing. Only one-shot
+ * animations keep their own playback timer, which accumulates the total time
+ * played so the current frame is looked up directly and long frame hitches
+ * catch up in a single update instead of advancing one frame per call.
  */
 public class AnimationInstance implements Updateable {
 
@@ -21,10 +28,9 @@ public class AnimationInstance implements Updateable {
      */
     private int currentFrameIndex;
     /**
-     * Time elapsed since the current frame was first displayed (in
-     * milliseconds).
+     * Playback time elapsed since the animation started (in milliseconds).
      */
-    private long elapsedFrameTime;
+    private long elapsedTimeMs;
     /**
      * Last recorded update time (in milliseconds).
      */
@@ -34,6 +40,11 @@ public class AnimationInstance implements Updateable {
      * {@code false}.
      */
     private boolean isPlaying;
+    /**
+     * Offset (in ticks) added to the {@link AnimationClock} tick when looking
+     * up the current frame of a looping animation.
+     */
+    private int phaseOffsetTicks;
 
     // ----- CONSTRUCTORS -----
     /**
@@ -53,7 +64,16 @@ public class AnimationInstance implements Updateable {
      * @return The current animation frame as a {@link BufferedImage}.
      */
     public BufferedImage getCurrentFrameImage() {
-        return template.getFrames().get(currentFrameIndex).getImage();
+        return getCurrentFrame().getImage();
+    }
+
+    /**
+     * Retrieves the current frame.
+     *
+     * @return The current {@link AnimationFrame}.
+     */
+    public AnimationFrame getCurrentFrame() {
+        return template.getFrames().get(getCurrentFrameIndex());
     }
 
     /**
@@ -71,16 +91,48 @@ public class AnimationInstance implements Updateable {
      * @return the current frame's index.
      */
     public int getCurrentFrameIndex() {
+        if (isPlaying && isGloballyClocked()) {
+            return template.getFrameIndexAtPhase(getPhaseTick());
+        }
         return currentFrameIndex;
     }
 
     /**
-     * Retrieves the time elapsed since the current frame was first displayed.
+     * Returns whether this instance derives its frame from the global
+     * {@link AnimationClock} rather than its own timer.
+     *
+     * @return {@code true} for looping animations, {@code false} otherwise.
+     */
+    public boolean isGloballyClocked() {
+        return template.isLooping();
+    }
+
+    /**
+     * Retrieves the offset (in ticks) applied to the global clock when looking
+     * up the current frame.
+     *
+     * @return The phase offset.
+     */
+    public int getPhaseOffsetTicks() {
+        return phaseOffsetTicks;
+    }
+
+    /**
+     * Retrieves the playback time elapsed since the animation started.
+     *
+     * @return The elapsed playback time in milliseconds.
+     */
+    public long getElapsedTimeMs() {
+        return elapsedTimeMs;
+    }
+
+    /**
+     * Returns whether the animation is currently playing.
      *
-     * @return The elapsed display time of the current frame.
+     * @return {@code true} if playing, {@code false} otherwise.
      */
-    public long getElapsedFrameTime() {
-        return elapsedFrameTime;
+    public boolean isPlaying() {
+        return isPlaying;
     }
 
     /**
@@ -104,27 +156,55 @@ public class AnimationInstance implements Updateable {
     }
 
     // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Swaps in a new version of the template (e.g., after its sprite sheet is
+     * reloaded) while keeping the playback position and state.
+     *
+     * @param template The new template.
+     */
+    public void replaceTemplate(final AnimationTemplate template) {
+        boolean wasPlaying = isPlaying;
+        int frameIndex = Math.min(getCurrentFrameIndex(), template.getFrames().size() - 1);
+
+        setTemplate(template);
+        currentFrameIndex = frameIndex;
+        elapsedTimeMs = template.getFrameStartTimeMs(frameIndex);
+        if (wasPlaying) {
+            start();
+        }
+    }
+
     /**
      * Initialises values in preparation for animation playback from the beginning.
      */
     public final void init() {
         currentFrameIndex = 0;
-        elapsedFrameTime = 0;
+        elapsedTimeMs = 0;
         lastUpdateTime = System.currentTimeMillis();
         isPlaying = false;
+        phaseOffsetTicks = 0;
     }
-    
+
     /**
-     * Starts the animation playback.
+     * Starts the animation playback from the current frame.
      */
     public void start() {
+        if (isGloballyClocked()) {
+            // Align the phase so the global clock resumes on the current frame
+            int periodTicks = template.getPeriodTicks();
+            int clockPhase = (int) (AnimationClock.getTick() % periodTicks);
+            phaseOffsetTicks = Math.floorMod(template.getFrameStartTick(currentFrameIndex) - clockPhase, periodTicks);
+        } else {
+            lastUpdateTime = System.currentTimeMillis();
+        }
         isPlaying = true;
     }
 
     /**
-     * Stops the animation playback.
+     * Stops the animation playback, freezing it on the current frame.
      */
     public void stop() {
+        currentFrameIndex = getCurrentFrameIndex();
         isPlaying = false;
     }
 
@@ -135,17 +215,17 @@ public class AnimationInstance implements Updateable {
      */
     @Override
     public void update() {
-        if (!isPlaying || template.getFrames().isEmpty()) {
+        if (!isPlaying || isGloballyClocked()) {
             return;
         }
 
         long currentTime = System.currentTimeMillis();
-        elapsedFrameTime += currentTime - lastUpdateTime;
+        elapsedTimeMs += currentTime - lastUpdateTime;
         lastUpdateTime = currentTime;
 
-        if (elapsedFrameTime >= template.getFrames().get(currentFrameIndex).getDisplayDurationMs()) {
-            elapsedFrameTime = 0;
-            nextFrame();
+        currentFrameIndex = template.getFrameIndexAt(elapsedTimeMs);
+        if (elapsedTimeMs >= template.getTotalDurationMs()) {
+            stop();
         }
     }
 
@@ -162,7 +242,7 @@ public class AnimationInstance implements Updateable {
         AnimationInstance that = (AnimationInstance) obj;
         return Objects.equals(template, that.getTemplate())
                 && currentFrameIndex == that.getCurrentFrameIndex()
-                && elapsedFrameTime == that.getElapsedFrameTime()
+                && elapsedTimeMs == that.getElapsedTimeMs()
                 && isPlaying == that.getLastUpdateTime();
     }
 
@@ -171,24 +251,19 @@ public class AnimationInstance implements Updateable {
         return Objects.hash(
                 template,
                 currentFrameIndex,
-                elapsedFrameTime,
+                elapsedTimeMs,
                 isPlaying
         );
     }
 
     // ----- HELPER METHODS -----
     /**
-     * Advances to the next animation frame.
+     * Returns the tick within the template's loop that this instance is
+     * currently at.
+     *
+     * @return The phase tick.
      */
-    private void nextFrame() {
-        if (currentFrameIndex >= template.getFrames().size() - 1) {
-            if (template.isLooping()) {
-                currentFrameIndex = 0;
-            } else {
-                stop();
-            }
-        } else {
-            currentFrameIndex++;
-        }
+    private int getPhaseTick() {
+        return (int) ((AnimationClock.getTick() + phaseOffsetTicks) % template.getPeriodTicks());
     }
 }
@@ -2,26 +2,28 @@ package com.rikuthin.graphics.animations;
 
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
-import com.rikuthin.App;
+import javax.imageio.ImageIO;
 
 import managers.AnimationManager;
 import managers.ImageManager;
 
 /**
  * Utility class for loading animations from sprite sheets (strip files).
+ * <p>
+ * Which sheets to load, and how to slice and time them, is declared by an
+ * {@link AnimationManifest}.
  */
 public class AnimationLoader {
 
-    // ----- STATIC VARIABLES -----
-    /**
-     * Directory where animations are stored
-     */
-    private static final String ANIMATION_FOLDER = "/images/animations/";
-
     // ----- CONSTRUCTORS -----
     /**
      * Private constructor to prevent instantiation.
@@ -35,6 +37,11 @@ public class AnimationLoader {
      * <p>
      * Valid sprite sheets expect each frame to be the same size and have no
      * space in-between them or along the sheet's margins.
+     * <p>
+     * Frames are read from the {@link SpriteCache} when it holds an up-to-date
+     * copy of the sheet; otherwise the sheet is decoded, sliced and written to
+     * the cache for next time. Frames are premultiplied
+     * ({@code TYPE_INT_ARGB_PRE}) either way.
      *
      * @param filePath Path to the sprite sheet image.
      * @param frameDurationMs Duration of each frame in milliseconds. (Minimum value: 1)
@@ -48,80 +55,140 @@ public class AnimationLoader {
         if (filePath == null || filePath.isEmpty()) {
             throw new IllegalArgumentException("AnimationLoader: Must provide a valid file path for the sprite sheet.");
         }
-        
-        frameDurationMs = Math.max(frameDurationMs, 1);        
+
+        frameDurationMs = Math.max(frameDurationMs, 1);
         numRows = Math.max(numRows, 1);
         numColumns = Math.max(numColumns, 1);
 
-        BufferedImage spriteSheet = ImageManager.loadBufferedImage(filePath);
-        if (spriteSheet == null) {
-            throw new IOException("AnimationLoader: Failed to load sprite sheet: " + filePath);
-        }
+        byte[] sourceBytes = ImageManager.loadBytes(filePath);
+        long sourceHash = SpriteCache.hash(sourceBytes);
 
-        ArrayList<AnimationFrame> frames = new ArrayList<>();
-        int frameWidth = spriteSheet.getWidth() / numColumns;
-        int frameHeight = spriteSheet.getHeight() / numRows;
-
-        for (int row = 0; row < numRows; row++) {
-            for (int column = 0; column < numColumns; column++) {
-                int x = column * frameWidth;
-                int y = row * frameHeight;
+        BufferedImage[] images = SpriteCache.read(filePath, sourceHash, numRows, numColumns);
+        if (images == null) {
+            images = sliceSpriteSheet(filePath, sourceBytes, numRows, numColumns);
+            SpriteCache.write(filePath, sourceHash, numRows, numColumns, images);
+        }
 
-                BufferedImage frame = extractFrame(spriteSheet, x, y, frameWidth, frameHeight);
-                frames.add(new AnimationFrame(frame, frameDurationMs));
-            }
+        ArrayList<AnimationFrame> frames = new ArrayList<>(images.length);
+        for (BufferedImage image : images) {
+            frames.add(new AnimationFrame(image, frameDurationMs));
         }
         return frames;
     }
 
     /**
-     * Loads multiple animations at startup.
+     * Loads every animation declared by the default manifest at startup.
      * <p>
-     * Hard-coding this for now. Might try to make it more dynamic later.
+     * Blocks until every sprite sheet has been decoded. Prefer
+     * {@link #loadAnimationsAsync(AnimationManifest, Executor)} on the EDT.
      */
     public static void loadDefaultAnimations() {
-        AnimationMetadata[] animationMetadata = {
-            new AnimationMetadata("enemy-bullet.png", 1, 8, App.FRAME_RATE_MS * 4, true),
-            new AnimationMetadata("mage-guardian-blue.png", 1, 14, App.FRAME_RATE_MS * 2, true),
-            new AnimationMetadata("mage-guardian-magenta.png", 1, 14, App.FRAME_RATE_MS * 2, true),
-            new AnimationMetadata("mage-guardian-red.png", 1, 14, App.FRAME_RATE_MS * 2, true),
-            new AnimationMetadata("player-bullet.png", 1, 8, App.FRAME_RATE_MS  * 4, true),
-            new AnimationMetadata("player-death.png", 1, 8, App.FRAME_RATE_MS * 4, false),
-            new AnimationMetadata("player-idle.png", 1, 8, App.FRAME_RATE_MS * 4, true),
-            new AnimationMetadata("player-walk-up-left.png", 1, 8, App.FRAME_RATE_MS * 4, true),
-            new AnimationMetadata("player-walk-up-right.png", 1, 8, App.FRAME_RATE_MS * 4, true),
-            new AnimationMetadata("player-walk-up.png", 1, 8, App.FRAME_RATE_MS * 4, true)
-        };
-
-        // Load each animation and add it to the AnimationManager
-        for (AnimationMetadata md : animationMetadata) {
+        AnimationManifest manifest;
+        try {
+            manifest = AnimationManifest.loadDefault();
+        } catch (IOException e) {
+            System.err.println(e.getMessage());
+            return;
+        }
+
+        List<Map.Entry<String, AnimationTemplate>> animations = new ArrayList<>(manifest.size());
+        for (AnimationMetadata md : manifest.getEntries()) {
             try {
-                // Load the frames from the sprite sheet
-                List<AnimationFrame> frames = AnimationLoader.loadFromSpriteSheet(
-                        ANIMATION_FOLDER + md.fileName, md.frameDurationMs, md.numGridRows, md.numGridColumns
-                );
+                animations.add(loadAnimation(manifest, md));
+            } catch (IOException | IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+            }
+        }
+        AnimationManager.getInstance().addAnimations(animations);
+    }
 
-                // Create the animation template
-                AnimationTemplate animationTemplate = new AnimationTemplate(frames, md.isLooping);
+    /**
+     * Starts decoding every sprite sheet declared by a manifest in parallel on
+     * the given executor.
+     * <p>
+     * The returned futures are not registered with {@link AnimationManager};
+     * the caller is responsible for adding the loaded templates once they
+     * complete. A future completes exceptionally if its sheet cannot be
+     * loaded.
+     *
+     * @param manifest The manifest declaring the animations.
+     * @param executor The executor used to decode the sheets.
+     * @return One future per animation, each yielding the animation key and
+     * its template.
+     */
+    public static List<CompletableFuture<Map.Entry<String, AnimationTemplate>>> loadAnimationsAsync(final AnimationManifest manifest, final Executor executor) {
+        List<CompletableFuture<Map.Entry<String, AnimationTemplate>>> futures = new ArrayList<>(manifest.size());
+
+        for (AnimationMetadata md : manifest.getEntries()) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return loadAnimation(manifest, md);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
+        }
+        return futures;
+    }
 
-                // Generate a unique key for the animation from the sprite sheet filename (minus the extension, i.e., "bullet-1" instead of "bullet-1.png").
-                String animationKey = md.fileName.substring(md.fileName.lastIndexOf('/') + 1, md.fileName.lastIndexOf('.'));
+    /**
+     * Loads a single animation declared by a manifest.
+     *
+     * @param manifest The manifest declaring the animation.
+     * @param md The animation's entry within the manifest.
+     * @return The animation key (the sprite sheet's file name without its
+     * extension) and the loaded template.
+     * @throws IOException If the sprite sheet cannot be loaded.
+     */
+    static Map.Entry<String, AnimationTemplate> loadAnimation(final AnimationManifest manifest, final AnimationMetadata md) throws IOException {
+        // Load the frames from the sprite sheet
+        List<AnimationFrame> frames = AnimationLoader.loadFromSpriteSheet(
+                manifest.getSheetPath(md), md.frameDurationMs, md.numGridRows, md.numGridColumns
+        );
+
+        // Create the animation template
+        AnimationTemplate animationTemplate = new AnimationTemplate(frames, md.isLooping);
+        String animationKey = md.getAnimationKey();
+
+        System.out.println(String.format(
+                "AnimationLoader: Loaded animation <'%s'> with <%d> frames.",
+                animationKey,
+                animationTemplate.getFrames().size()
+        ));
+        return Map.entry(animationKey, animationTemplate);
+    }
 
-                // Add the animation template to the AnimationManager
-                AnimationManager.getInstance().addAnimation(animationKey, animationTemplate);
+    // ----- HELPER METHODS -----
+    /**
+     * Decodes a sprite sheet and slices it into frames.
+     *
+     * @param filePath Path to the sprite sheet image (for error messages).
+     * @param sourceBytes The sheet's encoded bytes.
+     * @param numRows The number of rows in the sprite sheet.
+     * @param numColumns The number of columns in the sprite sheet.
+     * @return The frames in row-major order.
+     * @throws IOException If the image cannot be decoded.
+     */
+    private static BufferedImage[] sliceSpriteSheet(final String filePath, final byte[] sourceBytes, final int numRows, final int numColumns) throws IOException {
+        BufferedImage spriteSheet = ImageIO.read(new ByteArrayInputStream(sourceBytes));
+        if (spriteSheet == null) {
+            throw new IOException("AnimationLoader: Failed to load sprite sheet: " + filePath);
+        }
 
-                System.out.println(String.format(
-                        "AnimationLoader: Loaded animation <'%s'> with <%d> frames.",
-                        animationKey,
-                        animationTemplate.getFrames().size()
-                ));
-            } catch (IOException | IllegalArgumentException e) {
-                System.err.println(e.getMessage());
+        BufferedImage[] frames = new BufferedImage[numRows * numColumns];
+        int frameWidth = spriteSheet.getWidth() / numColumns;
+        int frameHeight = spriteSheet.getHeight() / numRows;
+
+        for (int row = 0; row < numRows; row++) {
+            for (int column = 0; column < numColumns; column++) {
+                int x = column * frameWidth;
+                int y = row * frameHeight;
+                frames[row * numColumns + column] = extractFrame(spriteSheet, x, y, frameWidth, frameHeight);
             }
         }
+        return frames;
     }
 
-    // ----- HELPER METHODS -----
     /**
      * Extracts a frame from a sprite sheet.
      *
@@ -133,64 +200,10 @@ public class AnimationLoader {
      * @return A new BufferedImage containing the extracted frame.
      */
     private static BufferedImage extractFrame(BufferedImage source, int x, int y, int width, int height) {
-        BufferedImage frame = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage frame = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB_PRE);
         Graphics2D g = frame.createGraphics();
         g.drawImage(source.getSubimage(x, y, width, height), 0, 0, null);
         g.dispose();
         return frame;
     }
-
-    // ----- PRIVATE INNER CLASSES -----
-    /**
-     * Represents metadata for a sprite sheet used in animations.
-     */
-    private static class AnimationMetadata {
-
-        /**
-         * File name of the sprite sheet.
-         */
-        String fileName;
-        /**
-         * Number of rows in the sprite sheet. (Minimum value of 1.)
-         */
-        int numGridRows;
-        /**
-         * Number of columns in the sprite sheet. (Minimum value of 1.)
-         */
-        int numGridColumns;
-        /**
-         * How many milliseconds each animation frame is displayed for. (Minimum value of 1.)
-         */
-        long frameDurationMs;
-        /**
-         * Whether the animation should loop.
-         */
-        boolean isLooping;
-
-        /**
-         * Creates a new AnimationMetadata object.
-         *
-         * @param fileName Name of the sprite sheet file.
-         * @param numGridRows Number of rows in the sprite sheet's grid.
-         * (Minimum value of 1.)
-         * @param numGridColumns Number of columns in the sprite sheet's grid.
-         * (Minimum value of 1.)
-         *  @param frameDurationMs The duration the animation's frames in milliseconds. (Minimum value of 1).
-         * @param isLooping Whether the animation should loop.
-         */
-        public AnimationMetadata(final String fileName, final int numGridRows, final int numGridColumns, final long frameDurationMs, final boolean isLooping) throws IllegalArgumentException {
-            if (fileName == null || fileName.trim().isBlank()) {
-                throw new IllegalArgumentException(String.format(
-                        "%s: File namme cannot be null nor blank.",
-                        this.getClass().getName()
-                ));
-            }
-            this.fileName = fileName;
-            this.numGridRows = Math.max(numGridRows, 1);
-            this.numGridColumns = Math.max(numGridColumns, 1);
-            this.frameDurationMs = Math.max(frameDurationMs, 1);
-            this.isLooping = isLooping;
-        }
-    }
-
 }
@@ -0,0 +1,282 @@
+package com.rikuthin.graphics.animations;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.rikuthin.App;
+
+/**
+ * The list of animations to load, read from a plain-text manifest file that
+ * sits alongside the sprite sheets.
+ * <p>
+ * Each non-blank line declares one sprite sheet:
+ * <pre>
+ * # file               rows  columns  frame-duration  looping
+ * player-idle.png      1     8        4               true
+ * </pre> The frame duration is given in game ticks ({@link App#FRAME_RATE_MS})
+ * or, with an {@code ms} suffix, in milliseconds. Anything after a {@code #}
+ * is a comment.
+ * <p>
+ * By default the manifest and sheets are read from the classpath. Setting the
+ * {@value #DIRECTORY_PROPERTY} system property to a directory reads them from
+ * that directory instead, which also allows the
+ * {@link AnimationHotReloader} to watch it for changes.
+ */
+public final class AnimationManifest {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The file name of the manifest within its folder.
+     */
+    public static final String MANIFEST_FILE_NAME = "animations.manifest";
+    /**
+     * Classpath folder where animations are stored.
+     */
+    public static final String CLASSPATH_FOLDER = "/images/animations/";
+    /**
+     * System property naming a directory to load animations from instead of
+     * the classpath.
+     */
+    public static final String DIRECTORY_PROPERTY = "animations.dir";
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The directory holding the manifest and its sheets, or {@code null} if
+     * they are loaded from the classpath.
+     */
+    private final Path directory;
+    /**
+     * The declared animations, in manifest order.
+     */
+    private final List<AnimationMetadata> entries;
+    /**
+     * The declared animations, indexed by sprite sheet file name.
+     */
+    private final Map<String, AnimationMetadata> entriesByFileName;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a manifest from parsed entries.
+     *
+     * @param directory The directory the manifest was read from, or
+     * {@code null} for the classpath.
+     * @param entries The parsed entries.
+     */
+    private AnimationManifest(final Path directory, final List<AnimationMetadata> entries) {
+        this.directory = directory;
+        this.entries = Collections.unmodifiableList(entries);
+        this.entriesByFileName = new HashMap<>();
+        for (AnimationMetadata md : entries) {
+            entriesByFileName.put(md.fileName, md);
+        }
+    }
+
+    // ----- STATIC METHODS -----
+    /**
+     * Loads the default manifest: from the directory named by the
+     * {@value #DIRECTORY_PROPERTY} system property if it is set, otherwise
+     * from the classpath.
+     *
+     * @return The loaded manifest.
+     * @throws IOException If the manifest cannot be read or is malformed.
+     */
+    public static AnimationManifest loadDefault() throws IOException {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        if (directory != null && !directory.isBlank()) {
+            return fromDirectory(Path.of(directory));
+        }
+        return fromClasspath();
+    }
+
+    /**
+     * Loads the manifest bundled on the classpath.
+     *
+     * @return The loaded manifest.
+     * @throws IOException If the manifest cannot be found, read or is
+     * malformed.
+     */
+    public static AnimationManifest fromClasspath() throws IOException {
+        String resource = CLASSPATH_FOLDER + MANIFEST_FILE_NAME;
+        InputStream stream = AnimationManifest.class.getResourceAsStream(resource);
+        if (stream == null) {
+            throw new IOException("AnimationManifest: Could not find manifest: " + resource);
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            return new AnimationManifest(null, parse(reader, resource));
+        }
+    }
+
+    /**
+     * Loads the manifest stored in the given directory.
+     *
+     * @param directory The directory holding the manifest and its sheets.
+     * @return The loaded manifest.
+     * @throws IOException If the manifest cannot be read or is malformed.
+     */
+    public static AnimationManifest fromDirectory(final Path directory) throws IOException {
+        Path manifestPath = directory.resolve(MANIFEST_FILE_NAME);
+        try (BufferedReader reader = Files.newBufferedReader(manifestPath, StandardCharsets.UTF_8)) {
+            return new AnimationManifest(directory, parse(reader, manifestPath.toString()));
+        }
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the directory the manifest was read from.
+     *
+     * @return The directory, or {@code null} if the manifest was read from the
+     * classpath.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns whether the manifest was read from a directory that can be
+     * watched for changes.
+     *
+     * @return {@code true} if read from a directory, {@code false} if read
+     * from the classpath.
+     */
+    public boolean isWatchable() {
+        return directory != null;
+    }
+
+    /**
+     * Returns the number of declared animations.
+     *
+     * @return The number of entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the declared animations in manifest order.
+     *
+     * @return An unmodifiable list of entries.
+     */
+    List<AnimationMetadata> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the animation declared for a sprite sheet.
+     *
+     * @param fileName The sprite sheet's file name.
+     * @return The entry, or {@code null} if the sheet is not declared.
+     */
+    AnimationMetadata getEntry(final String fileName) {
+        return entriesByFileName.get(fileName);
+    }
+
+    /**
+     * Returns the path {@link managers.ImageManager} should load an entry's
+     * sprite sheet from.
+     *
+     * @param md The entry.
+     * @return A classpath resource path or a file system path.
+     */
+    String getSheetPath(final AnimationMetadata md) {
+        if (directory != null) {
+            return directory.resolve(md.fileName).toString();
+        }
+        return CLASSPATH_FOLDER + md.fileName;
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Parses the lines of a manifest.
+     *
+     * @param reader The manifest contents.
+     * @param sourceName The manifest's location, used in error messages.
+     * @return The declared entries.
+     * @throws IOException If the manifest cannot be read or a line is
+     * malformed.
+     */
+    private static List<AnimationMetadata> parse(final BufferedReader reader, final String sourceName) throws IOException {
+        List<AnimationMetadata> entries = new ArrayList<>();
+        String line;
+        int lineNumber = 0;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            int commentStart = line.indexOf('#');
+            if (commentStart >= 0) {
+                line = line.substring(0, commentStart);
+            }
+            line = line.strip();
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            String[] tokens = line.split("\\s+");
+            if (tokens.length != 5) {
+                throw new IOException(String.format(
+                        "AnimationManifest: %s:%d: Expected <file rows columns frame-duration looping> but found <'%s'>.",
+                        sourceName, lineNumber, line
+                ));
+            }
+
+            try {
+                entries.add(new AnimationMetadata(
+                        tokens[0],
+                        Integer.parseInt(tokens[1]),
+                        Integer.parseInt(tokens[2]),
+                        parseDurationMs(tokens[3]),
+                        parseBoolean(tokens[4])
+                ));
+            } catch (IllegalArgumentException e) {
+                throw new IOException(String.format(
+                        "AnimationManifest: %s:%d: %s",
+                        sourceName, lineNumber, e.getMessage()
+                ), e);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Parses a frame duration given in ticks, or in milliseconds with an
+     * {@code ms} suffix.
+     *
+     * @param token The duration token.
+     * @return The duration in milliseconds.
+     * @throws NumberFormatException If the token is not a number.
+     */
+    private static long parseDurationMs(final String token) throws NumberFormatException {
+        if (token.endsWith("ms")) {
+            return Long.parseLong(token.substring(0, token.length() - 2));
+        }
+        return Long.parseLong(token) * App.FRAME_RATE_MS;
+    }
+
+    /**
+     * Parses a strict {@code true}/{@code false} token.
+     *
+     * @param token The token.
+     * @return The parsed value.
+     * @throws IllegalArgumentException If the token is neither {@code true}
+     * nor {@code false}.
+     */
+    private static boolean parseBoolean(final String token) throws IllegalArgumentException {
+        if (token.equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (token.equalsIgnoreCase("false")) {
+            return false;
+        }
+        throw new IllegalArgumentException("Expected <true> or <false> but found <'" + token + "'>.");
+    }
+}
@@ -0,0 +1,106 @@
+package com.rikuthin.graphics.animations;
+
+import java.util.Objects;
+
+/**
+ * Represents metadata for a sprite sheet used in animations, as declared by a
+ * line of an {@link AnimationManifest}.
+ */
+final class AnimationMetadata {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * File name of the sprite sheet.
+     */
+    final String fileName;
+    /**
+     * Number of rows in the sprite sheet. (Minimum value of 1.)
+     */
+    final int numGridRows;
+    /**
+     * Number of columns in the sprite sheet. (Minimum value of 1.)
+     */
+    final int numGridColumns;
+    /**
+     * How many milliseconds each animation frame is displayed for. (Minimum
+     * value of 1.)
+     */
+    final long frameDurationMs;
+    /**
+     * Whether the animation should loop.
+     */
+    final boolean isLooping;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a new AnimationMetadata object.
+     *
+     * @param fileName Name of the sprite sheet file.
+     * @param numGridRows Number of rows in the sprite sheet's grid. (Minimum
+     * value of 1.)
+     * @param numGridColumns Number of columns in the sprite sheet's grid.
+     * (Minimum value of 1.)
+     * @param frameDurationMs The duration the animation's frames in
+     * milliseconds. (Minimum value of 1).
+     * @param isLooping Whether the animation should loop.
+     * @throws IllegalArgumentException If the file name is {@code null} or
+     * blank.
+     */
+    AnimationMetadata(final String fileName, final int numGridRows, final int numGridColumns, final long frameDurationMs, final boolean isLooping) throws IllegalArgumentException {
+        if (fileName == null || fileName.trim().isBlank()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: File name cannot be null nor blank.",
+                    this.getClass().getName()
+            ));
+        }
+        this.fileName = fileName;
+        this.numGridRows = Math.max(numGridRows, 1);
+        this.numGridColumns = Math.max(numGridColumns, 1);
+        this.frameDurationMs = Math.max(frameDurationMs, 1);
+        this.isLooping = isLooping;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the key the animation is registered under: the sprite sheet's
+     * file name without its extension (i.e., "bullet-1" instead of
+     * "bullet-1.png").
+     *
+     * @return The animation key.
+     */
+    String getAnimationKey() {
+        int start = fileName.lastIndexOf('/') + 1;
+        int end = fileName.lastIndexOf('.');
+        return end > start ? fileName.substring(start, end) : fileName.substring(start);
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        AnimationMetadata that = (AnimationMetadata) obj;
+        return fileName.equals(that.fileName)
+                && numGridRows == that.numGridRows
+                && numGridColumns == that.numGridColumns
+                && frameDurationMs == that.frameDurationMs
+                && isLooping == that.isLooping;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                fileName,
+                numGridRows,
+                numGridColumns,
+                frameDurationMs,
+                isLooping
+        );
+    }
+}
@@ -1,17 +1,47 @@
 package com.rikuthin.graphics.animations;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 /**
  * Represents a reusable animation template containing a sequence of frames.
  * This class is shared among multiple entities, ensuring memory efficiency.
+ * <p>
+ * The template precomputes the cumulative display time of its frames, so the
+ * frame shown at any elapsed time is found by index arithmetic (when every
+ * frame has the same duration) or a binary search (otherwise). Looping
+ * templates also precompute a phase table mapping each {@link AnimationClock}
+ * tick within one loop to the frame shown at that tick, so instances can look
+ * up their current frame instead of tracking time.
  */
 public class AnimationTemplate {
 
     // ----- INSTANCE VARIABLES -----
     private final List<AnimationFrame> frames;
     private final boolean isLooping;
+    /**
+     * The time (in milliseconds, from the start of the animation) at which
+     * each frame stops being displayed.
+     */
+    private final long[] frameEndTimesMs;
+    /**
+     * The total display time of all frames (in milliseconds).
+     */
+    private final long totalDurationMs;
+    /**
+     * The shared frame duration (in milliseconds) if every frame has the same
+     * duration; {@code 0} otherwise.
+     */
+    private final long uniformFrameDurationMs;
+    /**
+     * The frame index displayed at each tick of one loop of the animation.
+     */
+    private final int[] phaseTable;
+    /**
+     * The first tick (within one loop) at which each frame is displayed.
+     */
+    private final int[] frameStartTicks;
 
     /**
      * Constructs an AnimationTemplate with a list of frames and a looping flag.
@@ -29,6 +59,23 @@ public class AnimationTemplate {
 
         this.frames = frames;
         this.isLooping = isLooping;
+        this.frameEndTimesMs = new long[frames.size()];
+
+        long endTimeMs = 0;
+        long sharedDurationMs = frames.get(0).getDisplayDurationMs();
+        for (int i = 0; i < frames.size(); i++) {
+            long durationMs = frames.get(i).getDisplayDurationMs();
+            endTimeMs += durationMs;
+            frameEndTimesMs[i] = endTimeMs;
+            if (durationMs != sharedDurationMs) {
+                sharedDurationMs = 0;
+            }
+        }
+        this.totalDurationMs = endTimeMs;
+        this.uniformFrameDurationMs = sharedDurationMs;
+
+        this.phaseTable = buildPhaseTable();
+        this.frameStartTicks = buildFrameStartTicks();
     }
 
     // ----- GETTERS -----
@@ -50,6 +97,136 @@ public class AnimationTemplate {
         return isLooping;
     }
 
+    /**
+     * Returns the total display time of all frames.
+     *
+     * @return The total duration in milliseconds.
+     */
+    public long getTotalDurationMs() {
+        return totalDurationMs;
+    }
+
+    /**
+     * Returns whether every frame is displayed for the same duration.
+     *
+     * @return {@code true} if frame durations are uniform, {@code false}
+     * otherwise.
+     */
+    public boolean hasUniformFrameDuration() {
+        return uniformFrameDurationMs > 0;
+    }
+
+    /**
+     * Returns the time (from the start of the animation) at which a frame is
+     * first displayed.
+     *
+     * @param frameIndex The frame index.
+     * @return The frame's start time in milliseconds.
+     */
+    public long getFrameStartTimeMs(final int frameIndex) {
+        return frameIndex <= 0 ? 0 : frameEndTimesMs[frameIndex - 1];
+    }
+
+    /**
+     * Returns the index of the frame displayed after the given time has
+     * elapsed since the animation started.
+     * <p>
+     * Looping animations wrap around; one-shot animations stay on their last
+     * frame once finished. Runs in constant time for uniform durations and
+     * logarithmic time otherwise, regardless of how much time has elapsed.
+     *
+     * @param elapsedMs The elapsed time in milliseconds.
+     * @return The frame index.
+     */
+    public final int getFrameIndexAt(long elapsedMs) {
+        if (elapsedMs <= 0) {
+            return 0;
+        }
+
+        if (elapsedMs >= totalDurationMs) {
+            if (!isLooping) {
+                return frameEndTimesMs.length - 1;
+            }
+            elapsedMs %= totalDurationMs;
+        }
+
+        if (uniformFrameDurationMs > 0) {
+            return (int) (elapsedMs / uniformFrameDurationMs);
+        }
+
+        // End times are exclusive: an exact match belongs to the next frame
+        int index = Arrays.binarySearch(frameEndTimesMs, elapsedMs);
+        return index >= 0 ? index + 1 : -(index + 1);
+    }
+
+    /**
+     * Returns how many {@link AnimationClock} ticks one loop of the animation
+     * lasts.
+     *
+     * @return The loop period in ticks.
+     */
+    public int getPeriodTicks() {
+        return phaseTable.length;
+    }
+
+    /**
+     * Returns the index of the frame displayed at the given tick within one
+     * loop of the animation.
+     *
+     * @param phaseTick The tick within the loop, in the range [0,
+     * {@link #getPeriodTicks()}).
+     * @return The frame index.
+     */
+    public int getFrameIndexAtPhase(final int phaseTick) {
+        return phaseTable[phaseTick];
+    }
+
+    /**
+     * Returns the first tick (within one loop) at which the given frame is
+     * displayed.
+     *
+     * @param frameIndex The frame index.
+     * @return The tick within the loop.
+     */
+    public int getFrameStartTick(final int frameIndex) {
+        return frameStartTicks[frameIndex];
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Builds the table of frame indices for every tick of one loop by sampling
+     * {@link #getFrameIndexAt(long)} at each tick.
+     *
+     * @return The phase table.
+     */
+    private int[] buildPhaseTable() {
+        int periodTicks = (int) Math.max(1, Math.round((double) totalDurationMs / AnimationClock.TICK_DURATION_MS));
+        int[] table = new int[periodTicks];
+
+        for (int tick = 0; tick < periodTicks; tick++) {
+            table[tick] = getFrameIndexAt(tick * AnimationClock.TICK_DURATION_MS);
+        }
+        return table;
+    }
+
+    /**
+     * Finds the first tick (within one loop) at which each frame is displayed.
+     * Frames shorter than a tick that never appear in the phase table start at
+     * the tick their display time falls within.
+     *
+     * @return The start tick of each frame.
+     */
+    private int[] buildFrameStartTicks() {
+        int[] startTicks = new int[frameEndTimesMs.length];
+
+        for (int i = 0; i < startTicks.length; i++) {
+            long startTimeMs = i == 0 ? 0 : frameEndTimesMs[i - 1];
+            long tick = (startTimeMs + AnimationClock.TICK_DURATION_MS - 1) / AnimationClock.TICK_DURATION_MS;
+            startTicks[i] = (int) Math.min(tick, phaseTable.length - 1);
+        }
+        return startTicks;
+    }
+
     // ----- OVERRIDDEN METHODS -----
     @Override
     public boolean equals(Object obj) {
@@ -0,0 +1,220 @@
+package com.rikuthin.graphics.animations;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * On-disk cache of decoded and sliced sprite sheet frames.
+ * <p>
+ * The first time a sheet is loaded, its frames are written to a binary cache
+ * file as premultiplied ARGB pixels, together with a hash of the source image
+ * and its grid size. Later launches memory-map the cache file and copy the
+ * pixels straight into the frames' {@link DataBufferInt} rasters, skipping PNG
+ * decoding and slicing altogether. A cache file whose hash no longer matches
+ * its source is ignored and rewritten.
+ * <p>
+ * Cache file layout (big-endian):
+ * <pre>
+ * int   magic, int version, long sourceHash,
+ * int   numRows, int numColumns, int frameWidth, int frameHeight,
+ * int[] pixels (numRows * numColumns * frameWidth * frameHeight)
+ * </pre>
+ * The cache lives in the directory named by the {@value #DIRECTORY_PROPERTY}
+ * system property, or a folder in the system's temporary directory by
+ * default.
+ */
+public final class SpriteCache {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * System property naming the directory to store cache files in.
+     */
+    public static final String DIRECTORY_PROPERTY = "sprites.cache.dir";
+    /**
+     * Identifies a sprite cache file ("SPRC").
+     */
+    private static final int MAGIC = 0x53505243;
+    /**
+     * The version of the cache file layout. Bump whenever it changes.
+     */
+    private static final int VERSION = 1;
+    /**
+     * The size of the header in bytes.
+     */
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 * 4;
+    /**
+     * The file extension of cache files.
+     */
+    private static final String FILE_EXTENSION = ".sprites";
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SpriteCache() {
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the directory cache files are stored in.
+     *
+     * @return The cache directory.
+     */
+    public static Path getDirectory() {
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        if (directory != null && !directory.isBlank()) {
+            return Path.of(directory);
+        }
+        return Path.of(System.getProperty("java.io.tmpdir"), "untitled_danmaku", "sprite-cache");
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Computes the hash identifying the source of a sprite sheet's cached
+     * frames: its checksum in the high 32 bits and its length in the low 32.
+     *
+     * @param sourceBytes The sprite sheet's encoded bytes.
+     * @return The source hash.
+     */
+    public static long hash(final byte[] sourceBytes) {
+        CRC32C crc = new CRC32C();
+        crc.update(sourceBytes);
+        return (crc.getValue() << 32) | (sourceBytes.length & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Reads a sprite sheet's frames from the cache.
+     *
+     * @param sheetPath The path the sprite sheet was loaded from.
+     * @param sourceHash The sheet's current {@link #hash(byte[])}.
+     * @param numRows The number of rows in the sheet's grid.
+     * @param numColumns The number of columns in the sheet's grid.
+     * @return The frames in row-major order as {@code TYPE_INT_ARGB_PRE}
+     * images, or {@code null} if there is no valid, up-to-date cache file.
+     */
+    public static BufferedImage[] read(final String sheetPath, final long sourceHash, final int numRows, final int numColumns) {
+        Path cacheFile = getCacheFile(sheetPath);
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                return null;
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt() != MAGIC
+                    || buffer.getInt() != VERSION
+                    || buffer.getLong() != sourceHash
+                    || buffer.getInt() != numRows
+                    || buffer.getInt() != numColumns) {
+                return null;
+            }
+
+            int frameWidth = buffer.getInt();
+            int frameHeight = buffer.getInt();
+            int numFrames = numRows * numColumns;
+            int pixelsPerFrame = frameWidth * frameHeight;
+            if (frameWidth <= 0 || frameHeight <= 0
+                    || size != HEADER_BYTES + (long) numFrames * pixelsPerFrame * Integer.BYTES) {
+                return null;
+            }
+
+            // Copy through the raster (rather than grabbing the backing array)
+            // so the frames stay eligible for hardware acceleration
+            IntBuffer pixels = buffer.asIntBuffer();
+            int[] scratch = new int[pixelsPerFrame];
+            BufferedImage[] frames = new BufferedImage[numFrames];
+            for (int i = 0; i < numFrames; i++) {
+                pixels.get(scratch);
+                frames[i] = new BufferedImage(frameWidth, frameHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+                frames[i].getRaster().setDataElements(0, 0, frameWidth, frameHeight, scratch);
+            }
+            return frames;
+        } catch (IOException e) {
+            System.err.println(String.format(
+                    "SpriteCache: Failed to read cache for <'%s'> - %s",
+                    sheetPath,
+                    e.getMessage()
+            ));
+            return null;
+        }
+    }
+
+    /**
+     * Writes a sprite sheet's frames to the cache. The file is written under a
+     * temporary name and then moved into place, so readers never see a
+     * partially written cache. Failures are reported and otherwise ignored.
+     *
+     * @param sheetPath The path the sprite sheet was loaded from.
+     * @param sourceHash The sheet's {@link #hash(byte[])}.
+     * @param numRows The number of rows in the sheet's grid.
+     * @param numColumns The number of columns in the sheet's grid.
+     * @param frames The frames in row-major order, all the same size and of
+     * type {@code TYPE_INT_ARGB_PRE}.
+     */
+    public static void write(final String sheetPath, final long sourceHash, final int numRows, final int numColumns, final BufferedImage[] frames) {
+        int frameWidth = frames[0].getWidth();
+        int frameHeight = frames[0].getHeight();
+        int pixelsPerFrame = frameWidth * frameHeight;
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + frames.length * pixelsPerFrame * Integer.BYTES);
+        buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(sourceHash)
+                .putInt(numRows)
+                .putInt(numColumns)
+                .putInt(frameWidth)
+                .putInt(frameHeight);
+
+        IntBuffer pixels = buffer.asIntBuffer();
+        int[] scratch = new int[pixelsPerFrame];
+        for (BufferedImage frame : frames) {
+            frame.getRaster().getDataElements(0, 0, frameWidth, frameHeight, scratch);
+            pixels.put(scratch);
+        }
+        buffer.rewind();
+
+        Path cacheFile = getCacheFile(sheetPath);
+        try {
+            Files.createDirectories(cacheFile.getParent());
+            Path tempFile = Files.createTempFile(cacheFile.getParent(), cacheFile.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println(String.format(
+                    "SpriteCache: Failed to write cache for <'%s'> - %s",
+                    sheetPath,
+                    e.getMessage()
+            ));
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Returns the cache file for a sprite sheet.
+     *
+     * @param sheetPath The path the sprite sheet was loaded from.
+     * @return The cache file's path.
+     */
+    private static Path getCacheFile(final String sheetPath) {
+        String name = sheetPath.replaceAll("[^A-Za-z0-9.-]", "_");
+        return getDirectory().resolve(name + FILE_EXTENSION);
+    }
+}
@@ -0,0 +1,200 @@
+package com.rikuthin.graphics.particles;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Preset particle emitters used by {@link managers.ParticleManager}.
+ * <p>
+ * Each effect describes how many particles a single burst produces, their
+ * speed and lifetime ranges, and their appearance. Appearance is baked into a
+ * small set of pre-rendered sprites (one per fade level) when the enum is first
+ * loaded, so drawing a particle is a single image blit with no per-pixel work
+ * or composite changes.
+ */
+public enum ParticleEffect {
+    /**
+     * A large burst of embers when an enemy is defeated.
+     */
+    ENEMY_DEATH(48, 1.5f, 6.0f, 20, 45, 0.93f, 6, new Color(255, 190, 90)),
+    /**
+     * A small puff of sparks when an enemy bullet is cancelled.
+     */
+    BULLET_CANCEL(6, 0.5f, 2.5f, 10, 20, 0.90f, 4, new Color(170, 220, 255)),
+    /**
+     * A sharp burst of red sparks when the player is hit.
+     */
+    PLAYER_HIT(24, 2.0f, 7.0f, 15, 30, 0.88f, 5, new Color(255, 70, 90)),
+    /**
+     * A single slowly drifting score item left behind by each bullet cleared
+     * by a bomb.
+     */
+    SCORE_ITEM(1, 0.2f, 1.0f, 30, 50, 0.95f, 5, new Color(255, 215, 90));
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * How many pre-rendered fade levels each effect has. A particle picks the
+     * level matching its remaining lifetime.
+     */
+    public static final int FADE_LEVELS = 4;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * How many particles a single burst emits.
+     */
+    private final int count;
+    /**
+     * The minimum initial speed of a particle (in pixels per tick).
+     */
+    private final float minSpeed;
+    /**
+     * The maximum initial speed of a particle (in pixels per tick).
+     */
+    private final float maxSpeed;
+    /**
+     * The minimum lifetime of a particle (in ticks).
+     */
+    private final int minLifetimeTicks;
+    /**
+     * The maximum lifetime of a particle (in ticks).
+     */
+    private final int maxLifetimeTicks;
+    /**
+     * The factor a particle's velocity is multiplied by every tick.
+     */
+    private final float drag;
+    /**
+     * The width and height of the particle sprite (in pixels).
+     */
+    private final int size;
+    /**
+     * The pre-rendered sprites, indexed by fade level (0 = faintest).
+     */
+    private final BufferedImage[] sprites;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a particle effect preset and pre-renders its sprites.
+     *
+     * @param count Particles per burst.
+     * @param minSpeed Minimum initial speed (pixels per tick).
+     * @param maxSpeed Maximum initial speed (pixels per tick).
+     * @param minLifetimeTicks Minimum lifetime (ticks).
+     * @param maxLifetimeTicks Maximum lifetime (ticks).
+     * @param drag Per-tick velocity multiplier.
+     * @param size Sprite width and height (pixels).
+     * @param colour Base colour of the particle.
+     */
+    ParticleEffect(final int count, final float minSpeed, final float maxSpeed, final int minLifetimeTicks,
+            final int maxLifetimeTicks, final float drag, final int size, final Color colour) {
+        this.count = count;
+        this.minSpeed = minSpeed;
+        this.maxSpeed = maxSpeed;
+        this.minLifetimeTicks = minLifetimeTicks;
+        this.maxLifetimeTicks = maxLifetimeTicks;
+        this.drag = drag;
+        this.size = size;
+        this.sprites = createSprites(size, colour);
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns how many particles a single burst emits.
+     *
+     * @return The particle count.
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the minimum initial speed of a particle.
+     *
+     * @return The minimum speed in pixels per tick.
+     */
+    public float getMinSpeed() {
+        return minSpeed;
+    }
+
+    /**
+     * Returns the maximum initial speed of a particle.
+     *
+     * @return The maximum speed in pixels per tick.
+     */
+    public float getMaxSpeed() {
+        return maxSpeed;
+    }
+
+    /**
+     * Returns the minimum lifetime of a particle.
+     *
+     * @return The minimum lifetime in ticks.
+     */
+    public int getMinLifetimeTicks() {
+        return minLifetimeTicks;
+    }
+
+    /**
+     * Returns the maximum lifetime of a particle.
+     *
+     * @return The maximum lifetime in ticks.
+     */
+    public int getMaxLifetimeTicks() {
+        return maxLifetimeTicks;
+    }
+
+    /**
+     * Returns the factor a particle's velocity is multiplied by every tick.
+     *
+     * @return The drag factor.
+     */
+    public float getDrag() {
+        return drag;
+    }
+
+    /**
+     * Returns the width and height of the particle sprite.
+     *
+     * @return The sprite size in pixels.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the pre-rendered sprite for the given fade level.
+     *
+     * @param fadeLevel The fade level, from 0 (faintest) to
+     * {@link #FADE_LEVELS} - 1 (fully opaque).
+     * @return The sprite image.
+     */
+    public BufferedImage getSprite(final int fadeLevel) {
+        return sprites[fadeLevel];
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Renders one soft round sprite per fade level.
+     *
+     * @param size The sprite width and height.
+     * @param colour The base colour.
+     * @return The sprites, ordered from faintest to most opaque.
+     */
+    private static BufferedImage[] createSprites(final int size, final Color colour) {
+        BufferedImage[] images = new BufferedImage[FADE_LEVELS];
+
+        for (int level = 0; level < FADE_LEVELS; level++) {
+            int alpha = 255 * (level + 1) / FADE_LEVELS;
+            BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2d = image.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2d.setColor(new Color(colour.getRed(), colour.getGreen(), colour.getBlue(), alpha));
+            g2d.fillOval(0, 0, size, size);
+            g2d.dispose();
+            images[level] = image;
+        }
+        return images;
+    }
+}
@@ -12,6 +12,7 @@ import com.rikuthin.graphics.GameFrame;
 import com.rikuthin.graphics.screens.subpanels.GamePanel;
 import com.rikuthin.graphics.screens.subpanels.InfoPanel;
 
+import managers.AnimationManager;
 import managers.GameManager;
 import managers.SoundManager;
 
@@ -23,6 +24,10 @@ public final class GameplayScreen extends Screen {
 
     // ----- STATIC VARIABLES -----
     private static final int BASE_SPEED = 5;
+    private static final int IDLE_ANIMATION = AnimationManager.getInstance().intern("player-idle");
+    private static final int WALK_UP_ANIMATION = AnimationManager.getInstance().intern("player-walk-up");
+    private static final int WALK_UP_LEFT_ANIMATION = AnimationManager.getInstance().intern("player-walk-up-left");
+    private static final int WALK_UP_RIGHT_ANIMATION = AnimationManager.getInstance().intern("player-walk-up-right");
 
     // INSTANCE VARIABLES -----
     private final transient GameManager gameManager;
@@ -119,38 +124,43 @@ public final class GameplayScreen extends Screen {
                 int speed = keyStates.getOrDefault(KeyEvent.VK_SHIFT, false) ? BASE_SPEED / 2 : BASE_SPEED;
                 int velocityX = 0;
                 int velocityY = 0;
-                String animationKey = "player-idle";
+                int animation = IDLE_ANIMATION;
 
                 if (keyStates.getOrDefault(KeyEvent.VK_W, false) || keyStates.getOrDefault(KeyEvent.VK_UP, false)) {
                     velocityY = speed;
-                    animationKey = "player-walk-up";
+                    animation = WALK_UP_ANIMATION;
                 }
                 if (keyStates.getOrDefault(KeyEvent.VK_S, false) || keyStates.getOrDefault(KeyEvent.VK_DOWN, false)) {
                     velocityY = -speed;
-                    animationKey = "player-walk-up";
+                    animation = WALK_UP_ANIMATION;
                 }
                 if (keyStates.getOrDefault(KeyEvent.VK_A, false) || keyStates.getOrDefault(KeyEvent.VK_LEFT, false)) {
                     velocityX = -speed;
-                    animationKey = "player-walk-up-left";
+                    animation = WALK_UP_LEFT_ANIMATION;
                 }
                 if (keyStates.getOrDefault(KeyEvent.VK_D, false) || keyStates.getOrDefault(KeyEvent.VK_RIGHT, false)) {
                     velocityX = speed;
-                    animationKey = "player-walk-up-right";
+                    animation = WALK_UP_RIGHT_ANIMATION;
                 }
 
                 player.setVelocityX(velocityX);
                 player.setVelocityY(velocityY);
-                player.setAnimation((velocityX == 0 && velocityY == 0) ? "player-idle" : animationKey);
+                player.setAnimation((velocityX == 0 && velocityY == 0) ? IDLE_ANIMATION : animation);
             }
 
             @Override
             public void keyPressed(KeyEvent e) {
+                boolean wasPressed = keyStates.getOrDefault(e.getKeyCode(), false);
                 keyStates.put(e.getKeyCode(), true);
                 updateMovement();
 
                 if (e.getKeyCode() == KeyEvent.VK_SPACE) {
                     gameManager.getPlayer().getBulletSpawner().setIsSpawning(true);
                 }
+                if (e.getKeyCode() == KeyEvent.VK_X && !wasPressed && gameManager.isRunning()) {
+                    // Ignore auto-repeat so holding the key only uses one bomb
+                    gameManager.useBomb();
+                }
             }
 
             @Override
@@ -0,0 +1,108 @@
+package com.rikuthin.graphics.screens;
+
+import java.awt.Color;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+
+import com.rikuthin.graphics.GameFrame;
+import com.rikuthin.graphics.UIConstants;
+
+/**
+ * Lightweight screen shown while assets are loaded in the background. Draws a
+ * title and a progress bar, or the reason loading failed; it loads no assets
+ * of its own.
+ */
+public final class LoadingScreen extends Screen {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * Serialisation version, declared because {@link javax.swing.JPanel} is
+     * serialisable.
+     */
+    private static final long serialVersionUID = 1L;
+    private static final int BAR_WIDTH = 400;
+    private static final int BAR_HEIGHT = 20;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * How many assets have finished loading.
+     */
+    private int loadedCount;
+    /**
+     * The total number of assets being loaded.
+     */
+    private int totalCount;
+    /**
+     * Why loading failed, or {@code null} while it has not.
+     */
+    private String failureMessage;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Constructs the loading screen.
+     *
+     * @param gameFrame The parent {@link GameFrame} to which this screen
+     * belongs.
+     */
+    public LoadingScreen(GameFrame gameFrame) {
+        super(gameFrame);
+        setBackground(new Color(87, 73, 100));
+        loadedCount = 0;
+        totalCount = 0;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Updates the displayed progress. Must be called on the EDT.
+     *
+     * @param loadedCount How many assets have finished loading.
+     * @param totalCount The total number of assets.
+     */
+    public void setProgress(final int loadedCount, final int totalCount) {
+        this.loadedCount = Math.max(loadedCount, 0);
+        this.totalCount = Math.max(totalCount, 0);
+        repaint();
+    }
+
+    /**
+     * Replaces the progress bar with the reason loading failed. Must be called
+     * on the EDT.
+     *
+     * @param failureMessage The message to display.
+     */
+    public void setFailureMessage(final String failureMessage) {
+        this.failureMessage = failureMessage;
+        repaint();
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    @Override
+    public void update() {
+        // Progress is pushed through setProgress(); nothing to do per frame.
+    }
+
+    @Override
+    public void render(Graphics2D g2d) {
+        int width = getWidth();
+        int height = getHeight();
+        int barX = (width - BAR_WIDTH) / 2;
+        int barY = height / 2;
+
+        g2d.setFont(UIConstants.TITLE_FONT);
+        g2d.setColor(Color.WHITE);
+        FontMetrics metrics = g2d.getFontMetrics();
+        String title = "Loading...";
+        g2d.drawString(title, (width - metrics.stringWidth(title)) / 2, barY - 40);
+
+        if (failureMessage != null) {
+            g2d.setFont(UIConstants.BODY_FONT);
+            metrics = g2d.getFontMetrics();
+            g2d.drawString(failureMessage, (width - metrics.stringWidth(failureMessage)) / 2, barY + BAR_HEIGHT);
+            return;
+        }
+
+        int filledWidth = totalCount > 0 ? BAR_WIDTH * Math.min(loadedCount, totalCount) / totalCount : 0;
+        g2d.fillRect(barX, barY, filledWidth, BAR_HEIGHT);
+        g2d.drawRect(barX, barY, BAR_WIDTH, BAR_HEIGHT);
+    }
+}
@@ -62,4 +62,17 @@ public abstract class Screen extends JPanel implements Updateable, Renderable {
             safeRender(g2d);
         }
     }
+
+    /**
+     * Paints the screen and its child components, then draws any active
+     * transition (fade, cross-fade or dimming) over the top.
+     */
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+
+        if (gameFrame != null && g instanceof Graphics2D g2d) {
+            gameFrame.getTransitionManager().safeRender(g2d);
+        }
+    }
 }
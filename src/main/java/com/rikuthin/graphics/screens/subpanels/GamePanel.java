@@ -5,9 +5,9 @@ import java.awt.Graphics2D;
 import java.util.Set;
 
 import com.rikuthin.entities.Player;
-import com.rikuthin.entities.bullets.Bullet;
 import com.rikuthin.entities.enemies.Enemy;
 
+import managers.BulletManager;
 import managers.GameManager;
 
 /**
@@ -48,11 +48,11 @@ public class GamePanel extends Subpanel {
             }
         }
 
-        Set<Bullet> bullets = gameManager.getBulletManager().getBullets();
-        if (bullets != null) {
-            for (Bullet b : bullets) {
-                b.safeRender(g2d);
-            }
+        BulletManager bulletManager = gameManager.getBulletManager();
+        for (int i = 0; i < bulletManager.getBulletCount(); i++) {
+            bulletManager.getBullet(i).safeRender(g2d);
         }
+
+        gameManager.getParticleManager().safeRender(g2d);
     }
 }
@@ -12,6 +12,7 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JTextArea;
 
+import com.rikuthin.entities.Player;
 import com.rikuthin.graphics.UIConstants;
 import com.rikuthin.utility.ButtonUtil;
 
@@ -31,8 +32,10 @@ public final class InfoPanel extends Subpanel {
     private final JLabel gameplayTimerLabel;
     private final JLabel highscoreLabel;
     private final JLabel scoreLabel;
+    private final JLabel grazeLabel;
     private final JPanel hpCounterPanel;
     private final JPanel bombCounterPanel;
+    private final JLabel bombCounterLabel;
     private final JTextArea infoTextArea;
 
     /**
@@ -77,6 +80,10 @@ public final class InfoPanel extends Subpanel {
         scoreLabel.setMaximumSize(scoreLabelSize);
         scoreLabel.setBackground(Color.WHITE);
 
+        grazeLabel = new JLabel();
+        grazeLabel.setFont(UIConstants.BODY_FONT);
+        updateGrazeDisplay(0);
+
         Dimension counterPanelSize = new Dimension(284, 80);
         hpCounterPanel = new JPanel(true);
         hpCounterPanel.setPreferredSize(counterPanelSize);
@@ -90,9 +97,14 @@ public final class InfoPanel extends Subpanel {
         bombCounterPanel.setMaximumSize(counterPanelSize);
         bombCounterPanel.setBackground(Color.WHITE);
 
+        bombCounterLabel = new JLabel();
+        bombCounterLabel.setFont(UIConstants.BODY_FONT);
+        bombCounterPanel.add(bombCounterLabel);
+        updateBombDisplay(Player.DEFAULT_BOMB_COUNT);
+
         StringBuilder sb = new StringBuilder("Controls:");
         sb.append(String.format("%n    - WSAD or arrow keys to move"));
-        sb.append(String.format("%n    - SPACE to use a bomb (destroys all enemy bullets on screen."));
+        sb.append(String.format("%n    - X to use a bomb (destroys all enemy bullets on screen)."));
         sb.append(String.format("%n%nGoal:"));
         sb.append(String.format("%n    - Shoot enemies to gain points."));
         sb.append(String.format("%n    - Don't get hit by enemy bullets."));
@@ -114,11 +126,13 @@ public final class InfoPanel extends Subpanel {
         // ----- Add to InfoPanel -----
         add(createVerticalStrut(20));
         add(topRow);
-        add(createVerticalStrut(200));
+        add(createVerticalStrut(160));
         add(highscoreLabel);
         add(createVerticalStrut(20));
         add(scoreLabel);
         add(createVerticalStrut(20));
+        add(grazeLabel);
+        add(createVerticalStrut(20));
         validate();
         add(hpCounterPanel);
         add(createVerticalStrut(20));
@@ -127,6 +141,24 @@ public final class InfoPanel extends Subpanel {
         add(infoTextArea);
     }
 
+    /**
+     * Updates the displayed number of bullets that have grazed the player.
+     *
+     * @param grazeCount The graze count.
+     */
+    public void updateGrazeDisplay(final int grazeCount) {
+        grazeLabel.setText(String.format("Graze: %d", grazeCount));
+    }
+
+    /**
+     * Updates the displayed number of bombs the player has left.
+     *
+     * @param bombCount The bomb count.
+     */
+    public void updateBombDisplay(final int bombCount) {
+        bombCounterLabel.setText(String.format("Bombs: %d", bombCount));
+    }
+
     //     score = 0;
     //     elapsedSeconds = 0;
     //     // Create the font used for the button and labels.
@@ -0,0 +1,59 @@
+package com.rikuthin.graphics.transitions;
+
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Cross-fades from a cached snapshot of the previous screen to whatever is
+ * currently being drawn underneath it.
+ * <p>
+ * The snapshot is captured once when the transition starts, so each frame only
+ * costs a single composited image blit.
+ */
+public class CrossFadeTransition extends Transition {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The cached snapshot of the outgoing screen.
+     */
+    private final BufferedImage outgoingLayer;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a new cross-fade.
+     *
+     * @param outgoingLayer A snapshot of the outgoing screen.
+     * @param durationTicks How many ticks the cross-fade takes.
+     */
+    public CrossFadeTransition(final BufferedImage outgoingLayer, final int durationTicks) {
+        super(durationTicks, false);
+
+        if (outgoingLayer == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Outgoing layer cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.outgoingLayer = outgoingLayer;
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Draws the outgoing snapshot with an opacity that falls as the transition
+     * progresses.
+     *
+     * @param g2d The graphics context to draw on.
+     */
+    @Override
+    public void render(final Graphics2D g2d) {
+        float alpha = 1.0f - getProgress();
+        if (alpha <= 0.0f) {
+            return;
+        }
+
+        Composite previous = applyAlpha(g2d, alpha);
+        g2d.drawImage(outgoingLayer, 0, 0, null);
+        g2d.setComposite(previous);
+    }
+}
@@ -0,0 +1,44 @@
+package com.rikuthin.graphics.transitions;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * Freezes a cached snapshot of a screen and gradually dims it (e.g., while the
+ * game is paused). The dimmed result is held until the transition is cleared.
+ */
+public class DimTransition extends FadeTransition {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The cached snapshot of the screen being dimmed.
+     */
+    private final BufferedImage frozenLayer;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a new dimming transition.
+     *
+     * @param frozenLayer A snapshot of the screen to dim.
+     * @param targetAlpha The final opacity of the dimming overlay in the range
+     * [0, 1].
+     * @param durationTicks How many ticks the dimming takes.
+     */
+    public DimTransition(final BufferedImage frozenLayer, final float targetAlpha, final int durationTicks) {
+        super(Color.BLACK, 0.0f, targetAlpha, frozenLayer.getWidth(), frozenLayer.getHeight(), durationTicks, true);
+        this.frozenLayer = frozenLayer;
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Draws the frozen snapshot followed by the dimming overlay.
+     *
+     * @param g2d The graphics context to draw on.
+     */
+    @Override
+    public void render(final Graphics2D g2d) {
+        g2d.drawImage(frozenLayer, 0, 0, null);
+        super.render(g2d);
+    }
+}
@@ -0,0 +1,121 @@
+package com.rikuthin.graphics.transitions;
+
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+
+/**
+ * Fades a solid colour overlay between two opacities.
+ * <p>
+ * A fade-in goes from an opaque overlay to a transparent one; a fade-out goes
+ * the other way.
+ */
+public class FadeTransition extends Transition {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The colour of the overlay.
+     */
+    protected final Color colour;
+    /**
+     * The overlay's opacity at the start of the transition.
+     */
+    protected final float startAlpha;
+    /**
+     * The overlay's opacity at the end of the transition.
+     */
+    protected final float endAlpha;
+    /**
+     * The width of the overlay.
+     */
+    protected final int width;
+    /**
+     * The height of the overlay.
+     */
+    protected final int height;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a new fade.
+     *
+     * @param colour The overlay colour.
+     * @param startAlpha The starting opacity in the range [0, 1].
+     * @param endAlpha The final opacity in the range [0, 1].
+     * @param width The overlay width.
+     * @param height The overlay height.
+     * @param durationTicks How many ticks the fade takes.
+     * @param isHeld Whether to keep rendering the final opacity once finished.
+     */
+    public FadeTransition(final Color colour, final float startAlpha, final float endAlpha, final int width,
+            final int height, final int durationTicks, final boolean isHeld) {
+        super(durationTicks, isHeld);
+
+        if (colour == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Colour cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.colour = colour;
+        this.startAlpha = startAlpha;
+        this.endAlpha = endAlpha;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Creates a fade-in from the given colour (opaque to transparent).
+     *
+     * @param colour The overlay colour.
+     * @param width The overlay width.
+     * @param height The overlay height.
+     * @param durationTicks How many ticks the fade takes.
+     * @return The new transition.
+     */
+    public static FadeTransition fadeIn(final Color colour, final int width, final int height, final int durationTicks) {
+        return new FadeTransition(colour, 1.0f, 0.0f, width, height, durationTicks, false);
+    }
+
+    /**
+     * Creates a fade-out to the given colour (transparent to opaque). The
+     * final opaque overlay is held until the transition is replaced.
+     *
+     * @param colour The overlay colour.
+     * @param width The overlay width.
+     * @param height The overlay height.
+     * @param durationTicks How many ticks the fade takes.
+     * @return The new transition.
+     */
+    public static FadeTransition fadeOut(final Color colour, final int width, final int height, final int durationTicks) {
+        return new FadeTransition(colour, 0.0f, 1.0f, width, height, durationTicks, true);
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the overlay's current opacity.
+     *
+     * @return The opacity in the range [0, 1].
+     */
+    public float getCurrentAlpha() {
+        return startAlpha + (endAlpha - startAlpha) * getProgress();
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Draws the colour overlay at its current opacity.
+     *
+     * @param g2d The graphics context to draw on.
+     */
+    @Override
+    public void render(final Graphics2D g2d) {
+        float alpha = getCurrentAlpha();
+        if (alpha <= 0.0f) {
+            return;
+        }
+
+        Composite previous = applyAlpha(g2d, alpha);
+        g2d.setColor(colour);
+        g2d.fillRect(0, 0, width, height);
+        g2d.setComposite(previous);
+    }
+}
@@ -0,0 +1,102 @@
+package com.rikuthin.graphics.transitions;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+
+import com.rikuthin.interfaces.Renderable;
+import com.rikuthin.interfaces.Updateable;
+
+/**
+ * Base class for full-screen visual transitions (fades, cross-fades, dimming).
+ * <p>
+ * Transitions are driven by the game loop: each call to {@link #update()}
+ * advances the transition by one tick. Subclasses draw themselves as an
+ * overlay using {@link AlphaComposite} state rather than by rewriting pixels,
+ * so the cost of a transition does not depend on what is underneath it.
+ */
+public abstract class Transition implements Updateable, Renderable {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * How many ticks the transition takes to complete.
+     */
+    protected final int durationTicks;
+    /**
+     * How many ticks have elapsed since the transition started.
+     */
+    protected int elapsedTicks;
+    /**
+     * Whether the transition should keep rendering its final state after it
+     * has finished (e.g., a dimmed pause screen).
+     */
+    protected final boolean isHeld;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a new transition.
+     *
+     * @param durationTicks How many ticks the transition takes. (Minimum value:
+     * 1)
+     * @param isHeld Whether to keep rendering the final state once finished.
+     */
+    protected Transition(final int durationTicks, final boolean isHeld) {
+        this.durationTicks = Math.max(durationTicks, 1);
+        this.elapsedTicks = 0;
+        this.isHeld = isHeld;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns how far through the transition is.
+     *
+     * @return The progress in the range [0, 1].
+     */
+    public float getProgress() {
+        return (float) elapsedTicks / durationTicks;
+    }
+
+    /**
+     * Returns whether the transition has reached its final state.
+     *
+     * @return {@code true} if finished, {@code false} otherwise.
+     */
+    public boolean isFinished() {
+        return elapsedTicks >= durationTicks;
+    }
+
+    /**
+     * Returns whether the transition keeps rendering once finished.
+     *
+     * @return {@code true} if held, {@code false} otherwise.
+     */
+    public boolean isHeld() {
+        return isHeld;
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Advances the transition by one tick.
+     */
+    @Override
+    public void update() {
+        if (elapsedTicks < durationTicks) {
+            elapsedTicks++;
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Sets a source-over composite with the given opacity and returns the
+     * previous composite so it can be restored.
+     *
+     * @param g2d The graphics context.
+     * @param alpha The opacity in the range [0, 1].
+     * @return The composite that was active before the call.
+     */
+    protected static Composite applyAlpha(final Graphics2D g2d, final float alpha) {
+        Composite previous = g2d.getComposite();
+        g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, Math.clamp(alpha, 0.0f, 1.0f)));
+        return previous;
+    }
+}
@@ -0,0 +1,438 @@
+package com.rikuthin.scripting;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.rikuthin.entities.bullets.BulletPattern;
+import static com.rikuthin.scripting.ScriptParser.expect;
+import static com.rikuthin.scripting.ScriptParser.expectAtLeast;
+import static com.rikuthin.scripting.ScriptParser.operand;
+import static com.rikuthin.scripting.ScriptParser.parseNonNegativeInt;
+import com.rikuthin.utility.FastAngle;
+
+/**
+ * A compiled enemy attack script: a timed sequence of volleys that designers
+ * can write as plain text instead of Java.
+ * <p>
+ * Scripts are parsed once into a flat {@code int} instruction stream plus a
+ * pool of {@link BulletPattern}s, and are immutable, so every enemy running
+ * the same script shares it. Each enemy keeps its own position in the script
+ * in an {@link AttackScriptRunner}.
+ * <p>
+ * Each non-blank line is a pattern declaration, a label or an instruction:
+ * <pre>
+ * # Declare a pattern from BulletPattern's primitives.
+ * pattern rings ring 16 speeds 2.5 3.5
+ *
+ * start:
+ *     set r0 4         # r0 = 4
+ * volley:
+ *     aim              # target the player
+ *     fire rings       # fire one volley of a declared pattern
+ *     turn 7.5         # turn the spawner's patterns by 7.5 degrees
+ *     wait 30          # resume 30 ticks later
+ *     loop r0 volley   # r0 -= 1, then jump to volley if r0 &gt; 0
+ *     jump start
+ *     end              # stop the script
+ * </pre> Pattern declarations accept {@code ring <n>},
+ * {@code fan <n> <spread>}, {@code speeds <speed>...},
+ * {@code spiral <step>}, {@code direction <degrees>}, {@code aimed},
+ * {@code accelerate <a>}, {@code curve <degrees>}, {@code limits <min> <max>},
+ * {@code homing <degrees>} and {@code wave <amplitude> <period>}, in any
+ * order. There are {@value #REGISTER_COUNT} registers, {@code r0} to
+ * {@code r7}. Anything after a {@code #} is a comment, and a script that runs
+ * off its last line stops as if it ended with {@code end}.
+ */
+public final class AttackScript {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * Classpath folder where attack scripts are stored.
+     */
+    public static final String CLASSPATH_FOLDER = "/scripts/";
+    /**
+     * How many registers each runner has.
+     */
+    public static final int REGISTER_COUNT = 8;
+    /**
+     * Suspends the script: {@code WAIT ticks}.
+     */
+    static final int WAIT = 0;
+    /**
+     * Fires a volley: {@code FIRE pattern-index}.
+     */
+    static final int FIRE = 1;
+    /**
+     * Turns the spawner's patterns: {@code TURN binary-angle}.
+     */
+    static final int TURN = 2;
+    /**
+     * Targets the player: {@code AIM}.
+     */
+    static final int AIM = 3;
+    /**
+     * Sets a register: {@code SET register value}.
+     */
+    static final int SET = 4;
+    /**
+     * Counts a register down and jumps while it is positive:
+     * {@code LOOP register address}.
+     */
+    static final int LOOP = 5;
+    /**
+     * Jumps unconditionally: {@code JUMP address}.
+     */
+    static final int JUMP = 6;
+    /**
+     * Stops the script: {@code END}.
+     */
+    static final int END = 7;
+    /**
+     * Scripts already parsed from the classpath, keyed by file name.
+     */
+    private static final Map<String, AttackScript> CLASSPATH_CACHE = new ConcurrentHashMap<>();
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * Where the script was read from, used in error messages.
+     */
+    private final String sourceName;
+    /**
+     * The instruction stream: each opcode followed by its operands.
+     */
+    private final int[] code;
+    /**
+     * The declared patterns, indexed by {@code FIRE} operands.
+     */
+    private final BulletPattern[] patterns;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a script from its compiled parts.
+     *
+     * @param sourceName Where the script was read from.
+     * @param code The instruction stream.
+     * @param patterns The declared patterns.
+     */
+    private AttackScript(final String sourceName, final int[] code, final BulletPattern[] patterns) {
+        this.sourceName = sourceName;
+        this.code = code;
+        this.patterns = patterns;
+    }
+
+    // ----- STATIC METHODS -----
+    /**
+     * Returns a script bundled on the classpath, parsing it the first time it
+     * is requested.
+     *
+     * @param fileName The script's file name within {@link #CLASSPATH_FOLDER}.
+     * @return The script.
+     * @throws IOException If the script cannot be found, read or is
+     * malformed.
+     */
+    public static AttackScript fromClasspath(final String fileName) throws IOException {
+        return ScriptParser.fromClasspath(CLASSPATH_CACHE, CLASSPATH_FOLDER, fileName, "AttackScript", "script", AttackScript::parse);
+    }
+
+    /**
+     * Parses a script.
+     *
+     * @param reader The script's source.
+     * @param sourceName Where the script was read from, used in error
+     * messages.
+     * @return The compiled script.
+     * @throws IOException If the source cannot be read or a line is
+     * malformed.
+     */
+    public static AttackScript parse(final BufferedReader reader, final String sourceName) throws IOException {
+        Compiler compiler = new Compiler(sourceName);
+        ScriptParser.compileLines(reader, sourceName, "AttackScript", compiler::compileLine);
+
+        try {
+            return compiler.finish();
+        } catch (IllegalArgumentException e) {
+            throw new IOException(String.format("AttackScript: %s: %s", sourceName, e.getMessage()), e);
+        }
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns where the script was read from.
+     *
+     * @return The source name.
+     */
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    /**
+     * Returns the length of the instruction stream.
+     *
+     * @return The number of {@code int}s of code.
+     */
+    public int getCodeLength() {
+        return code.length;
+    }
+
+    /**
+     * Returns a word of the instruction stream.
+     *
+     * @param address The word's address.
+     * @return The opcode or operand.
+     */
+    int getCode(final int address) {
+        return code[address];
+    }
+
+    /**
+     * Returns a declared pattern.
+     *
+     * @param index The pattern's index.
+     * @return The pattern.
+     */
+    BulletPattern getPattern(final int index) {
+        return patterns[index];
+    }
+
+    // ----- HELPER CLASSES -----
+    /**
+     * Accumulates the instruction stream while a script is parsed, and
+     * resolves labels once every line has been read.
+     */
+    private static final class Compiler {
+
+        // ----- INSTANCE VARIABLES -----
+        /**
+         * Where the script is being read from.
+         */
+        private final String sourceName;
+        /**
+         * The instruction stream so far, with jump operands left as zero (0)
+         * until labels are resolved.
+         */
+        private final List<Integer> code = new ArrayList<>();
+        /**
+         * The patterns declared so far, in declaration order.
+         */
+        private final List<BulletPattern> patterns = new ArrayList<>();
+        /**
+         * The index of each declared pattern, keyed by name.
+         */
+        private final Map<String, Integer> patternIndices = new HashMap<>();
+        /**
+         * The address each declared label refers to, keyed by name.
+         */
+        private final Map<String, Integer> labelAddresses = new HashMap<>();
+        /**
+         * The label each jump operand refers to, keyed by the operand's
+         * address.
+         */
+        private final Map<Integer, String> unresolvedJumps = new HashMap<>();
+
+        // ----- CONSTRUCTORS -----
+        /**
+         * Creates a compiler for a script.
+         *
+         * @param sourceName Where the script is being read from.
+         */
+        private Compiler(final String sourceName) {
+            this.sourceName = sourceName;
+        }
+
+        // ----- BUSINESS LOGIC METHODS -----
+        /**
+         * Compiles one line.
+         *
+         * @param tokens The line's whitespace-separated tokens.
+         * @throws IllegalArgumentException If the line is malformed.
+         */
+        private void compileLine(final String[] tokens) throws IllegalArgumentException {
+            String keyword = tokens[0];
+            if (tokens.length == 1 && keyword.endsWith(":")) {
+                declareLabel(keyword.substring(0, keyword.length() - 1));
+                return;
+            }
+
+            switch (keyword) {
+                case "pattern" -> {
+                    expectAtLeast(tokens, 3, "pattern <name> <primitive>...");
+                    declarePattern(tokens);
+                }
+                case "wait" -> {
+                    expect(tokens, 2, "wait <ticks>");
+                    emit(WAIT, parseNonNegativeInt(tokens[1]));
+                }
+                case "fire" -> {
+                    expect(tokens, 2, "fire <pattern>");
+                    Integer index = patternIndices.get(tokens[1]);
+                    if (index == null) {
+                        throw new IllegalArgumentException("Undeclared pattern <'" + tokens[1] + "'>.");
+                    }
+                    emit(FIRE, index);
+                }
+                case "turn" -> {
+                    expect(tokens, 2, "turn <degrees>");
+                    emit(TURN, FastAngle.fromDegrees(Double.parseDouble(tokens[1])));
+                }
+                case "aim" -> {
+                    expect(tokens, 1, "aim");
+                    code.add(AIM);
+                }
+                case "set" -> {
+                    expect(tokens, 3, "set <register> <value>");
+                    emit(SET, parseRegister(tokens[1]));
+                    code.add(Integer.parseInt(tokens[2]));
+                }
+                case "loop" -> {
+                    expect(tokens, 3, "loop <register> <label>");
+                    emit(LOOP, parseRegister(tokens[1]));
+                    emitJumpTarget(tokens[2]);
+                }
+                case "jump" -> {
+                    expect(tokens, 2, "jump <label>");
+                    code.add(JUMP);
+                    emitJumpTarget(tokens[1]);
+                }
+                case "end" -> {
+                    expect(tokens, 1, "end");
+                    code.add(END);
+                }
+                default ->
+                    throw new IllegalArgumentException("Unknown instruction <'" + keyword + "'>.");
+            }
+        }
+
+        /**
+         * Resolves labels and returns the compiled script.
+         *
+         * @return The script.
+         * @throws IllegalArgumentException If a jump refers to an undeclared
+         * label.
+         */
+        private AttackScript finish() throws IllegalArgumentException {
+            code.add(END);
+
+            int[] compiled = new int[code.size()];
+            for (int i = 0; i < compiled.length; i++) {
+                compiled[i] = code.get(i);
+            }
+            for (Map.Entry<Integer, String> jump : unresolvedJumps.entrySet()) {
+                Integer address = labelAddresses.get(jump.getValue());
+                if (address == null) {
+                    throw new IllegalArgumentException("Undeclared label <'" + jump.getValue() + "'>.");
+                }
+                compiled[jump.getKey()] = address;
+            }
+            return new AttackScript(sourceName, compiled, patterns.toArray(BulletPattern[]::new));
+        }
+
+        // ----- HELPER METHODS -----
+        private void emit(final int opcode, final int operand) {
+            code.add(opcode);
+            code.add(operand);
+        }
+
+        private void emitJumpTarget(final String label) {
+            unresolvedJumps.put(code.size(), label);
+            code.add(0);
+        }
+
+        private void declareLabel(final String label) throws IllegalArgumentException {
+            if (label.isEmpty() || labelAddresses.putIfAbsent(label, code.size()) != null) {
+                throw new IllegalArgumentException("Blank or duplicate label <'" + label + "'>.");
+            }
+        }
+
+        /**
+         * Builds a pattern from a declaration's primitives.
+         *
+         * @param tokens The declaration's tokens.
+         * @throws IllegalArgumentException If a primitive is malformed.
+         */
+        private void declarePattern(final String[] tokens) throws IllegalArgumentException {
+            String name = tokens[1];
+            if (patternIndices.containsKey(name)) {
+                throw new IllegalArgumentException("Duplicate pattern <'" + name + "'>.");
+            }
+
+            BulletPattern.BulletPatternBuilder builder = new BulletPattern.BulletPatternBuilder();
+            int i = 2;
+            while (i < tokens.length) {
+                String primitive = tokens[i++];
+                switch (primitive) {
+                    case "ring" ->
+                        builder.ring(Integer.parseInt(operand(tokens, i++, primitive)));
+                    case "fan" -> {
+                        int count = Integer.parseInt(operand(tokens, i++, primitive));
+                        builder.fan(count, Double.parseDouble(operand(tokens, i++, primitive)));
+                    }
+                    case "speeds" -> {
+                        int first = i;
+                        while (i < tokens.length && isNumber(tokens[i])) {
+                            i++;
+                        }
+                        if (i == first) {
+                            throw new IllegalArgumentException("Expected at least one speed after <'speeds'>.");
+                        }
+                        double[] speeds = new double[i - first];
+                        for (int s = 0; s < speeds.length; s++) {
+                            speeds[s] = Double.parseDouble(tokens[first + s]);
+                        }
+                        builder.speeds(speeds);
+                    }
+                    case "spiral" ->
+                        builder.spiral(Double.parseDouble(operand(tokens, i++, primitive)));
+                    case "direction" ->
+                        builder.direction(Double.parseDouble(operand(tokens, i++, primitive)));
+                    case "aimed" ->
+                        builder.aimed();
+                    case "accelerate" ->
+                        builder.accelerate(Double.parseDouble(operand(tokens, i++, primitive)));
+                    case "curve" ->
+                        builder.curve(Double.parseDouble(operand(tokens, i++, primitive)));
+                    case "limits" -> {
+                        double minSpeed = Double.parseDouble(operand(tokens, i++, primitive));
+                        builder.speedLimits(minSpeed, Double.parseDouble(operand(tokens, i++, primitive)));
+                    }
+                    case "homing" ->
+                        builder.homing(Double.parseDouble(operand(tokens, i++, primitive)));
+                    case "wave" -> {
+                        double amplitude = Double.parseDouble(operand(tokens, i++, primitive));
+                        builder.wave(amplitude, Double.parseDouble(operand(tokens, i++, primitive)));
+                    }
+                    default ->
+                        throw new IllegalArgumentException("Unknown pattern primitive <'" + primitive + "'>.");
+                }
+            }
+
+            patternIndices.put(name, patterns.size());
+            patterns.add(builder.build());
+        }
+
+        private static boolean isNumber(final String token) {
+            try {
+                Double.parseDouble(token);
+                return true;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+
+        private static int parseRegister(final String token) throws IllegalArgumentException {
+            if (token.length() == 2 && token.charAt(0) == 'r') {
+                int register = token.charAt(1) - '0';
+                if (register >= 0 && register < REGISTER_COUNT) {
+                    return register;
+                }
+            }
+            throw new IllegalArgumentException(String.format(
+                    "Expected a register <r0> to <r%d> but found <'%s'>.", REGISTER_COUNT - 1, token
+            ));
+        }
+    }
+}
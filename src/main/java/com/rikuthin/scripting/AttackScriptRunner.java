@@ -0,0 +1,186 @@
+package com.rikuthin.scripting;
+
+import java.util.Arrays;
+
+import com.rikuthin.entities.Player;
+import com.rikuthin.entities.enemies.Enemy;
+
+import managers.GameManager;
+
+/**
+ * Runs an {@link AttackScript} for a single {@link Enemy}.
+ * <p>
+ * The runner holds everything that differs between enemies sharing a script:
+ * the program counter, the registers and the number of ticks left to wait. It
+ * is stepped once per game tick by {@link #update(Enemy)}, which executes
+ * instructions until the script waits or ends. Stepping only reads the
+ * compiled instruction stream and writes primitive fields, so it never
+ * allocates.
+ * <p>
+ * A script that loops without waiting would otherwise hang the game, so at
+ * most {@value #MAX_INSTRUCTIONS_PER_TICK} instructions are executed per tick;
+ * the rest carry over to the next tick.
+ */
+public final class AttackScriptRunner {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The most instructions executed in a single tick.
+     */
+    public static final int MAX_INSTRUCTIONS_PER_TICK = 256;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The script being run.
+     */
+    private final AttackScript script;
+    /**
+     * The script's registers.
+     */
+    private final int[] registers;
+    /**
+     * The address of the next instruction.
+     */
+    private int programCounter;
+    /**
+     * How many more ticks to wait before executing the next instruction.
+     */
+    private int waitTicks;
+    /**
+     * Whether the script has ended.
+     */
+    private boolean isHalted;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a runner positioned at the start of a script.
+     *
+     * @param script The script to run.
+     */
+    public AttackScriptRunner(final AttackScript script) {
+        if (script == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Script cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.script = script;
+        this.registers = new int[AttackScript.REGISTER_COUNT];
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the script being run.
+     *
+     * @return The script.
+     */
+    public AttackScript getScript() {
+        return script;
+    }
+
+    /**
+     * Returns the address of the next instruction.
+     *
+     * @return The program counter.
+     */
+    public int getProgramCounter() {
+        return programCounter;
+    }
+
+    /**
+     * Returns how many more ticks the script waits before continuing.
+     *
+     * @return The remaining wait in ticks.
+     */
+    public int getWaitTicks() {
+        return waitTicks;
+    }
+
+    /**
+     * Returns the value of a register.
+     *
+     * @param register The register's number.
+     * @return The register's value.
+     */
+    public int getRegister(final int register) {
+        return registers[register];
+    }
+
+    /**
+     * Returns whether the script has ended.
+     *
+     * @return {@code true} if ended, {@code false} otherwise.
+     */
+    public boolean isHalted() {
+        return isHalted;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Restarts the script from its first instruction with cleared registers.
+     */
+    public void reset() {
+        Arrays.fill(registers, 0);
+        programCounter = 0;
+        waitTicks = 0;
+        isHalted = false;
+    }
+
+    /**
+     * Advances the script by one tick on behalf of an enemy.
+     *
+     * @param enemy The enemy the script controls.
+     */
+    public void update(final Enemy enemy) {
+        if (isHalted) {
+            return;
+        }
+        if (waitTicks > 0 && --waitTicks > 0) {
+            return;
+        }
+
+        for (int executed = 0; executed < MAX_INSTRUCTIONS_PER_TICK; executed++) {
+            int pc = programCounter;
+            switch (script.getCode(pc)) {
+                case AttackScript.WAIT -> {
+                    programCounter = pc + 2;
+                    waitTicks = script.getCode(pc + 1);
+                    if (waitTicks > 0) {
+                        return;
+                    }
+                }
+                case AttackScript.FIRE -> {
+                    programCounter = pc + 2;
+                    enemy.fireVolley(script.getPattern(script.getCode(pc + 1)));
+                }
+                case AttackScript.TURN -> {
+                    programCounter = pc + 2;
+                    if (enemy.getBulletSpawner() != null) {
+                        enemy.getBulletSpawner().turnPattern(script.getCode(pc + 1));
+                    }
+                }
+                case AttackScript.AIM -> {
+                    programCounter = pc + 1;
+                    Player player = GameManager.getInstance().getPlayer();
+                    if (player != null) {
+                        enemy.aimAt(player.getCentreX(), player.getCentreY());
+                    }
+                }
+                case AttackScript.SET -> {
+                    programCounter = pc + 3;
+                    registers[script.getCode(pc + 1)] = script.getCode(pc + 2);
+                }
+                case AttackScript.LOOP -> {
+                    int register = script.getCode(pc + 1);
+                    programCounter = --registers[register] > 0 ? script.getCode(pc + 2) : pc + 3;
+                }
+                case AttackScript.JUMP ->
+                    programCounter = script.getCode(pc + 1);
+                default -> {
+                    isHalted = true;
+                    return;
+                }
+            }
+        }
+    }
+}
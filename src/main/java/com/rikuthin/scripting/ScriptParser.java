@@ -0,0 +1,220 @@
+package com.rikuthin.scripting;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * The line-based scaffolding shared by the game's plain-text formats,
+ * {@link AttackScript} and {@link Stage}.
+ * <p>
+ * Both formats are read a line at a time. Anything after a {@code #} is a
+ * comment, blank lines are skipped, and every other line is split on
+ * whitespace into tokens and handed to a {@link LineCompiler}. An
+ * {@link IllegalArgumentException} or {@link ArithmeticException} thrown
+ * while compiling a line is reported as an {@link IOException} naming the
+ * source and line number. The operand helpers throw
+ * {@link IllegalArgumentException}s with messages in the same form, so every
+ * format reports errors alike.
+ */
+final class ScriptParser {
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor to prevent instantiation. Utility class.
+     */
+    private ScriptParser() {
+    }
+
+    // ----- STATIC METHODS -----
+    /**
+     * Returns a source bundled on the classpath, parsing it the first time it
+     * is requested.
+     *
+     * @param <T> The type of compiled source.
+     * @param cache The sources already parsed, keyed by file name.
+     * @param folder The classpath folder the source is stored in.
+     * @param fileName The source's file name within the folder.
+     * @param owner The class name used in error messages.
+     * @param kind What the source is, used in error messages.
+     * @param parser Parses the source.
+     * @return The compiled source.
+     * @throws IOException If the source cannot be found, read or is
+     * malformed.
+     */
+    static <T> T fromClasspath(final Map<String, T> cache, final String folder, final String fileName,
+            final String owner, final String kind, final Parser<T> parser) throws IOException {
+        T compiled = cache.get(fileName);
+        if (compiled != null) {
+            return compiled;
+        }
+
+        String resource = folder + fileName;
+        InputStream stream = ScriptParser.class.getResourceAsStream(resource);
+        if (stream == null) {
+            throw new IOException(String.format("%s: Could not find %s: %s", owner, kind, resource));
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            compiled = parser.parse(reader, resource);
+        }
+        cache.putIfAbsent(fileName, compiled);
+        return cache.get(fileName);
+    }
+
+    /**
+     * Strips the comments from each line of a source and hands the tokens of
+     * every non-blank line to a compiler.
+     *
+     * @param reader The source.
+     * @param sourceName Where the source was read from, used in error
+     * messages.
+     * @param owner The class name used in error messages.
+     * @param compiler Compiles each line.
+     * @throws IOException If the source cannot be read or a line is
+     * malformed.
+     */
+    static void compileLines(final BufferedReader reader, final String sourceName, final String owner,
+            final LineCompiler compiler) throws IOException {
+        String line;
+        int lineNumber = 0;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            int commentStart = line.indexOf('#');
+            if (commentStart >= 0) {
+                line = line.substring(0, commentStart);
+            }
+            line = line.strip();
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            try {
+                compiler.compileLine(line.split("\\s+"));
+            } catch (IllegalArgumentException | ArithmeticException e) {
+                throw new IOException(String.format(
+                        "%s: %s:%d: %s",
+                        owner, sourceName, lineNumber, e.getMessage()
+                ), e);
+            }
+        }
+    }
+
+    /**
+     * Returns the operand at an index of a line, which must exist.
+     *
+     * @param tokens The line's tokens.
+     * @param index The operand's index.
+     * @param keyword The keyword the operand belongs to, used in error
+     * messages.
+     * @return The operand.
+     * @throws IllegalArgumentException If the line is too short.
+     */
+    static String operand(final String[] tokens, final int index, final String keyword) throws IllegalArgumentException {
+        if (index >= tokens.length) {
+            throw new IllegalArgumentException("Missing operand for <'" + keyword + "'>.");
+        }
+        return tokens[index];
+    }
+
+    /**
+     * Parses an integer that must be at least zero (0).
+     *
+     * @param token The token.
+     * @return The integer.
+     * @throws IllegalArgumentException If the token is not an integer or is
+     * negative.
+     */
+    static int parseNonNegativeInt(final String token) throws IllegalArgumentException {
+        int value = Integer.parseInt(token);
+        if (value < 0) {
+            throw new IllegalArgumentException("Expected a non-negative number but found <'" + token + "'>.");
+        }
+        return value;
+    }
+
+    /**
+     * Parses an integer that must be at least one (1).
+     *
+     * @param token The token.
+     * @return The integer.
+     * @throws IllegalArgumentException If the token is not an integer or is
+     * not positive.
+     */
+    static int parsePositiveInt(final String token) throws IllegalArgumentException {
+        int value = Integer.parseInt(token);
+        if (value <= 0) {
+            throw new IllegalArgumentException("Expected a positive number but found <'" + token + "'>.");
+        }
+        return value;
+    }
+
+    /**
+     * Checks that a line has exactly a number of tokens.
+     *
+     * @param tokens The line's tokens.
+     * @param count How many tokens the line must have.
+     * @param usage The line's expected form, used in error messages.
+     * @throws IllegalArgumentException If the line has a different number of
+     * tokens.
+     */
+    static void expect(final String[] tokens, final int count, final String usage) throws IllegalArgumentException {
+        if (tokens.length != count) {
+            throw new IllegalArgumentException("Expected <" + usage + "> but found <'" + String.join(" ", tokens) + "'>.");
+        }
+    }
+
+    /**
+     * Checks that a line has at least a number of tokens.
+     *
+     * @param tokens The line's tokens.
+     * @param count How many tokens the line must have at least.
+     * @param usage The line's expected form, used in error messages.
+     * @throws IllegalArgumentException If the line has fewer tokens.
+     */
+    static void expectAtLeast(final String[] tokens, final int count, final String usage) throws IllegalArgumentException {
+        if (tokens.length < count) {
+            throw new IllegalArgumentException("Expected <" + usage + "> but found <'" + String.join(" ", tokens) + "'>.");
+        }
+    }
+
+    // ----- HELPER INTERFACES -----
+    /**
+     * Compiles the lines of a source one at a time.
+     */
+    @FunctionalInterface
+    interface LineCompiler {
+
+        /**
+         * Compiles one line.
+         *
+         * @param tokens The line's whitespace-separated tokens.
+         * @throws IllegalArgumentException If the line is malformed.
+         */
+        void compileLine(String[] tokens) throws IllegalArgumentException;
+    }
+
+    /**
+     * Parses a whole source.
+     *
+     * @param <T> The type of compiled source.
+     */
+    @FunctionalInterface
+    interface Parser<T> {
+
+        /**
+         * Parses a source.
+         *
+         * @param reader The source.
+         * @param sourceName Where the source was read from, used in error
+         * messages.
+         * @return The compiled source.
+         * @throws IOException If the source cannot be read or is malformed.
+         */
+        T parse(BufferedReader reader, String sourceName) throws IOException;
+    }
+}
@@ -0,0 +1,748 @@
+package com.rikuthin.scripting;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.rikuthin.entities.enemies.EnemyType;
+import static com.rikuthin.scripting.ScriptParser.expect;
+import static com.rikuthin.scripting.ScriptParser.expectAtLeast;
+import static com.rikuthin.scripting.ScriptParser.operand;
+import static com.rikuthin.scripting.ScriptParser.parseNonNegativeInt;
+import static com.rikuthin.scripting.ScriptParser.parsePositiveInt;
+
+/**
+ * A compiled stage: the timeline of enemy waves that make up a level, written
+ * as plain text.
+ * <p>
+ * Every wave is expanded when the stage is parsed into one spawn event per
+ * enemy plus one steer event per change of velocity along the enemy's path,
+ * and the events are sorted by the tick they fall due. The stage is immutable
+ * and is played by a {@link StageRunner}, which only has to look at the
+ * events due on the current tick and can jump straight to any tick.
+ * <p>
+ * Each non-blank line is a formation or path declaration, or a timeline
+ * instruction:
+ * <pre>
+ * # Formations place a wave's enemies relative to its position.
+ * formation lone  point
+ * formation trio  line 3 120 0 stagger 20   # 3 enemies 120px apart, 20 ticks between spawns
+ * formation arrow vee 5 60 40                # a leader, then ranks of 2 each 60px wider and 40px further back
+ * formation halo  ring 6 100                 # 6 enemies on a circle of radius 100
+ *
+ * # Paths are velocity legs; every leg but the last lasts a number of ticks.
+ * path drift   move 1.5 0
+ * path descend move 0 -2 for 60 move 2 0
+ *
+ * at 0                                       # the clock is now tick 0
+ * wave red-mage trio 240 140 descend         # spawn a wave at (240, 140)
+ * wait 300                                   # the clock is now tick 300
+ * wave blue-mage lone 336 200 drift
+ * loop 0                                     # repeat from tick 0 once everything is done
+ * </pre> Positions are screen coordinates of the enemies' top-left corners,
+ * while path velocities are in pixels per tick with the y-axis pointing up,
+ * like every other velocity in the game. A wave's members spawn in the order
+ * the formation lists them, each {@code stagger} ticks after the last, and
+ * each follows the path from its own spawn. Enemies are named as in
+ * {@link EnemyType}. Anything after a {@code #} is a comment.
+ * <p>
+ * Without a {@code loop}, the stage ends after its last event. With one, the
+ * clock jumps back to the loop's tick once it reaches the {@code loop} line's
+ * time and every event has been dispatched.
+ */
+public final class Stage {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * Classpath folder where stages are stored.
+     */
+    public static final String CLASSPATH_FOLDER = "/stages/";
+    /**
+     * Returned by {@link #getLoopTick()} for stages that do not repeat.
+     */
+    public static final int NO_LOOP = -1;
+    /**
+     * Spawns an enemy in a slot, with an initial velocity.
+     */
+    static final int SPAWN = 0;
+    /**
+     * Changes the velocity of the enemy in a slot.
+     */
+    static final int STEER = 1;
+    /**
+     * Stages already parsed from the classpath, keyed by file name.
+     */
+    private static final Map<String, Stage> CLASSPATH_CACHE = new ConcurrentHashMap<>();
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * Where the stage was read from, used in error messages.
+     */
+    private final String sourceName;
+    /**
+     * The tick each event falls due, in ascending order.
+     */
+    private final int[] eventTicks;
+    /**
+     * Whether each event is a {@link #SPAWN} or a {@link #STEER}.
+     */
+    private final int[] eventKinds;
+    /**
+     * The slot of the enemy each event spawns or steers. Each enemy of each
+     * wave has its own slot, so steer events can find the enemy their wave
+     * spawned.
+     */
+    private final int[] eventSlots;
+    /**
+     * The type of enemy each spawn event creates, or {@code null} for steer
+     * events.
+     */
+    private final EnemyType[] eventEnemyTypes;
+    /**
+     * The x-coordinate each spawn event places its enemy at.
+     */
+    private final double[] eventXs;
+    /**
+     * The y-coordinate each spawn event places its enemy at.
+     */
+    private final double[] eventYs;
+    /**
+     * The x-axis velocity each event gives its enemy.
+     */
+    private final double[] eventVelocityXs;
+    /**
+     * The y-axis velocity each event gives its enemy.
+     */
+    private final double[] eventVelocityYs;
+    /**
+     * How many enemy slots the events refer to.
+     */
+    private final int slotCount;
+    /**
+     * The tick at which the stage ends or repeats.
+     */
+    private final int length;
+    /**
+     * The tick the stage repeats from, or {@link #NO_LOOP}.
+     */
+    private final int loopTick;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a stage from its compiled events, which must already be sorted
+     * by tick.
+     *
+     * @param sourceName Where the stage was read from.
+     * @param events The events.
+     * @param slotCount How many enemy slots the events refer to.
+     * @param length The tick at which the stage ends or repeats.
+     * @param loopTick The tick the stage repeats from, or {@link #NO_LOOP}.
+     */
+    private Stage(final String sourceName, final List<Event> events, final int slotCount, final int length, final int loopTick) {
+        this.sourceName = sourceName;
+        this.slotCount = slotCount;
+        this.length = length;
+        this.loopTick = loopTick;
+
+        int count = events.size();
+        this.eventTicks = new int[count];
+        this.eventKinds = new int[count];
+        this.eventSlots = new int[count];
+        this.eventEnemyTypes = new EnemyType[count];
+        this.eventXs = new double[count];
+        this.eventYs = new double[count];
+        this.eventVelocityXs = new double[count];
+        this.eventVelocityYs = new double[count];
+
+        for (int i = 0; i < count; i++) {
+            Event event = events.get(i);
+            eventTicks[i] = event.tick;
+            eventKinds[i] = event.kind;
+            eventSlots[i] = event.slot;
+            eventEnemyTypes[i] = event.enemyType;
+            eventXs[i] = event.x;
+            eventYs[i] = event.y;
+            eventVelocityXs[i] = event.velocityX;
+            eventVelocityYs[i] = event.velocityY;
+        }
+    }
+
+    // ----- STATIC METHODS -----
+    /**
+     * Returns a stage bundled on the classpath, parsing it the first time it
+     * is requested.
+     *
+     * @param fileName The stage's file name within {@link #CLASSPATH_FOLDER}.
+     * @return The stage.
+     * @throws IOException If the stage cannot be found, read or is malformed.
+     */
+    public static Stage fromClasspath(final String fileName) throws IOException {
+        return ScriptParser.fromClasspath(CLASSPATH_CACHE, CLASSPATH_FOLDER, fileName, "Stage", "stage", Stage::parse);
+    }
+
+    /**
+     * Parses a stage.
+     *
+     * @param reader The stage's source.
+     * @param sourceName Where the stage was read from, used in error messages.
+     * @return The compiled stage.
+     * @throws IOException If the source cannot be read or a line is malformed.
+     */
+    public static Stage parse(final BufferedReader reader, final String sourceName) throws IOException {
+        Compiler compiler = new Compiler(sourceName);
+        ScriptParser.compileLines(reader, sourceName, "Stage", compiler::compileLine);
+        return compiler.finish();
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns where the stage was read from.
+     *
+     * @return The source name.
+     */
+    public String getSourceName() {
+        return sourceName;
+    }
+
+    /**
+     * Returns how many events the stage has.
+     *
+     * @return The number of events.
+     */
+    public int getEventCount() {
+        return eventTicks.length;
+    }
+
+    /**
+     * Returns how many enemy slots the stage's events refer to.
+     *
+     * @return The number of slots.
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Returns the tick at which the stage ends or repeats.
+     *
+     * @return The length in ticks.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the tick the stage repeats from.
+     *
+     * @return The tick, or {@link #NO_LOOP} if the stage does not repeat.
+     */
+    public int getLoopTick() {
+        return loopTick;
+    }
+
+    /**
+     * Returns the tick an event falls due.
+     *
+     * @param event The event's index.
+     * @return The tick.
+     */
+    public int getEventTick(final int event) {
+        return eventTicks[event];
+    }
+
+    int getEventKind(final int event) {
+        return eventKinds[event];
+    }
+
+    int getEventSlot(final int event) {
+        return eventSlots[event];
+    }
+
+    EnemyType getEventEnemyType(final int event) {
+        return eventEnemyTypes[event];
+    }
+
+    double getEventX(final int event) {
+        return eventXs[event];
+    }
+
+    double getEventY(final int event) {
+        return eventYs[event];
+    }
+
+    double getEventVelocityX(final int event) {
+        return eventVelocityXs[event];
+    }
+
+    double getEventVelocityY(final int event) {
+        return eventVelocityYs[event];
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Returns the first event due on or after a tick.
+     *
+     * @param tick The tick.
+     * @return The event's index, or {@link #getEventCount()} if every event
+     * is due earlier.
+     */
+    public int findFirstEvent(final int tick) {
+        int low = 0;
+        int high = eventTicks.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (eventTicks[middle] < tick) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // ----- HELPER CLASSES -----
+    /**
+     * An event awaiting sorting.
+     */
+    private static final class Event {
+
+        // ----- INSTANCE VARIABLES -----
+        /**
+         * The tick the event falls due.
+         */
+        private final int tick;
+        /**
+         * Whether the event is a {@link #SPAWN} or a {@link #STEER}.
+         */
+        private final int kind;
+        /**
+         * The slot of the enemy the event spawns or steers.
+         */
+        private final int slot;
+        /**
+         * The type of enemy a spawn event creates, or {@code null}.
+         */
+        private final EnemyType enemyType;
+        /**
+         * The x-coordinate a spawn event places its enemy at.
+         */
+        private final double x;
+        /**
+         * The y-coordinate a spawn event places its enemy at.
+         */
+        private final double y;
+        /**
+         * The x-axis velocity the event gives its enemy.
+         */
+        private final double velocityX;
+        /**
+         * The y-axis velocity the event gives its enemy.
+         */
+        private final double velocityY;
+
+        // ----- CONSTRUCTORS -----
+        /**
+         * Creates an event.
+         *
+         * @param tick The tick the event falls due.
+         * @param kind Whether the event is a {@link #SPAWN} or a
+         * {@link #STEER}.
+         * @param slot The slot of the enemy the event spawns or steers.
+         * @param enemyType The type of enemy a spawn event creates.
+         * @param x The x-coordinate a spawn event places its enemy at.
+         * @param y The y-coordinate a spawn event places its enemy at.
+         * @param velocityX The x-axis velocity the event gives its enemy.
+         * @param velocityY The y-axis velocity the event gives its enemy.
+         */
+        private Event(final int tick, final int kind, final int slot, final EnemyType enemyType,
+                final double x, final double y, final double velocityX, final double velocityY) {
+            this.tick = tick;
+            this.kind = kind;
+            this.slot = slot;
+            this.enemyType = enemyType;
+            this.x = x;
+            this.y = y;
+            this.velocityX = velocityX;
+            this.velocityY = velocityY;
+        }
+    }
+
+    /**
+     * The offsets of a formation's members from the wave's position, and the
+     * delay between their spawns.
+     */
+    private static final class Formation {
+
+        // ----- INSTANCE VARIABLES -----
+        /**
+         * How far right of the wave's position each member spawns.
+         */
+        private final double[] offsetXs;
+        /**
+         * How far down from the wave's position each member spawns.
+         */
+        private final double[] offsetYs;
+        /**
+         * How many ticks after the previous member each member spawns.
+         */
+        private final int staggerTicks;
+
+        // ----- CONSTRUCTORS -----
+        /**
+         * Creates a formation.
+         *
+         * @param offsetXs How far right of the wave's position each member
+         * spawns.
+         * @param offsetYs How far down from the wave's position each member
+         * spawns.
+         * @param staggerTicks How many ticks after the previous member each
+         * member spawns.
+         */
+        private Formation(final double[] offsetXs, final double[] offsetYs, final int staggerTicks) {
+            this.offsetXs = offsetXs;
+            this.offsetYs = offsetYs;
+            this.staggerTicks = staggerTicks;
+        }
+    }
+
+    /**
+     * A path's velocity legs. Every leg but the last lasts
+     * {@code legTicks[leg]} ticks; the last lasts forever.
+     */
+    private static final class Path {
+
+        // ----- INSTANCE VARIABLES -----
+        /**
+         * The x-axis velocity of each leg.
+         */
+        private final double[] velocityXs;
+        /**
+         * The y-axis velocity of each leg.
+         */
+        private final double[] velocityYs;
+        /**
+         * How many ticks each leg but the last lasts.
+         */
+        private final int[] legTicks;
+
+        // ----- CONSTRUCTORS -----
+        /**
+         * Creates a path.
+         *
+         * @param velocityXs The x-axis velocity of each leg.
+         * @param velocityYs The y-axis velocity of each leg.
+         * @param legTicks How many ticks each leg but the last lasts.
+         */
+        private Path(final double[] velocityXs, final double[] velocityYs, final int[] legTicks) {
+            this.velocityXs = velocityXs;
+            this.velocityYs = velocityYs;
+            this.legTicks = legTicks;
+        }
+    }
+
+    /**
+     * Expands waves into events while a stage is parsed, and sorts them once
+     * every line has been read.
+     */
+    private static final class Compiler {
+
+        // ----- INSTANCE VARIABLES -----
+        /**
+         * Where the stage is being read from.
+         */
+        private final String sourceName;
+        /**
+         * The events so far, in the order they were written.
+         */
+        private final List<Event> events = new ArrayList<>();
+        /**
+         * The formations declared so far, keyed by name.
+         */
+        private final Map<String, Formation> formations = new HashMap<>();
+        /**
+         * The paths declared so far, keyed by name.
+         */
+        private final Map<String, Path> paths = new HashMap<>();
+        /**
+         * The tick that waves are currently being placed at.
+         */
+        private int clock;
+        /**
+         * The latest tick of any event so far.
+         */
+        private int lastEventTick = -1;
+        /**
+         * How many enemy slots the waves so far have used.
+         */
+        private int slotCount;
+        /**
+         * The tick at which the stage ends or repeats, or -1 until a
+         * {@code loop} line sets it.
+         */
+        private int length = -1;
+        /**
+         * The tick the stage repeats from, or {@link #NO_LOOP}.
+         */
+        private int loopTick = NO_LOOP;
+
+        // ----- CONSTRUCTORS -----
+        /**
+         * Creates a compiler for a stage.
+         *
+         * @param sourceName Where the stage is being read from.
+         */
+        private Compiler(final String sourceName) {
+            this.sourceName = sourceName;
+        }
+
+        // ----- BUSINESS LOGIC METHODS -----
+        /**
+         * Compiles one line.
+         *
+         * @param tokens The line's whitespace-separated tokens.
+         * @throws IllegalArgumentException If the line is malformed.
+         */
+        private void compileLine(final String[] tokens) throws IllegalArgumentException {
+            if (length >= 0) {
+                throw new IllegalArgumentException("Nothing may follow <'loop'>.");
+            }
+
+            switch (tokens[0]) {
+                case "formation" -> {
+                    expectAtLeast(tokens, 3, "formation <name> <shape>...");
+                    declare(formations, tokens[1], parseFormation(tokens), "formation");
+                }
+                case "path" -> {
+                    expectAtLeast(tokens, 3, "path <name> move <vx> <vy> [for <ticks>]...");
+                    declare(paths, tokens[1], parsePath(tokens), "path");
+                }
+                case "at" -> {
+                    expect(tokens, 2, "at <tick>");
+                    clock = parseNonNegativeInt(tokens[1]);
+                }
+                case "wait" -> {
+                    expect(tokens, 2, "wait <ticks>");
+                    clock = Math.addExact(clock, parseNonNegativeInt(tokens[1]));
+                }
+                case "wave" -> {
+                    expect(tokens, 6, "wave <enemy> <formation> <x> <y> <path>");
+                    addWave(
+                            EnemyType.fromName(tokens[1]),
+                            lookUp(formations, tokens[2], "formation"),
+                            Double.parseDouble(tokens[3]),
+                            Double.parseDouble(tokens[4]),
+                            lookUp(paths, tokens[5], "path")
+                    );
+                }
+                case "loop" -> {
+                    expect(tokens, 2, "loop <tick>");
+                    loopTick = parseNonNegativeInt(tokens[1]);
+                    length = Math.max(clock, lastEventTick + 1);
+                    if (loopTick >= length) {
+                        throw new IllegalArgumentException(String.format(
+                                "Cannot loop back to tick %d from tick %d.", loopTick, length
+                        ));
+                    }
+                }
+                default ->
+                    throw new IllegalArgumentException("Unknown instruction <'" + tokens[0] + "'>.");
+            }
+        }
+
+        /**
+         * Sorts the events and returns the compiled stage.
+         *
+         * @return The stage.
+         */
+        private Stage finish() {
+            if (length < 0) {
+                length = lastEventTick + 1;
+            }
+
+            // A stable sort, so events due on the same tick keep their written order
+            events.sort(Comparator.comparingInt(event -> event.tick));
+            return new Stage(sourceName, events, slotCount, length, loopTick);
+        }
+
+        // ----- HELPER METHODS -----
+        /**
+         * Adds a spawn event for each member of a wave, and a steer event for
+         * each later leg of each member's path.
+         */
+        private void addWave(final EnemyType enemyType, final Formation formation, final double x, final double y, final Path path) {
+            for (int member = 0; member < formation.offsetXs.length; member++) {
+                int slot = slotCount++;
+                int tick = Math.addExact(clock, Math.multiplyExact(member, formation.staggerTicks));
+                addEvent(new Event(tick, SPAWN, slot, enemyType,
+                        x + formation.offsetXs[member], y + formation.offsetYs[member],
+                        path.velocityXs[0], path.velocityYs[0]));
+
+                for (int leg = 1; leg < path.velocityXs.length; leg++) {
+                    tick = Math.addExact(tick, path.legTicks[leg - 1]);
+                    addEvent(new Event(tick, STEER, slot, null, 0, 0, path.velocityXs[leg], path.velocityYs[leg]));
+                }
+            }
+        }
+
+        /**
+         * Adds an event and moves the latest event tick up to it.
+         *
+         * @param event The event.
+         */
+        private void addEvent(final Event event) {
+            events.add(event);
+            lastEventTick = Math.max(lastEventTick, event.tick);
+        }
+
+        /**
+         * Builds a formation from a declaration's shape.
+         *
+         * @param tokens The declaration's tokens.
+         * @return The formation.
+         * @throws IllegalArgumentException If the shape is malformed.
+         */
+        private static Formation parseFormation(final String[] tokens) throws IllegalArgumentException {
+            String shape = tokens[2];
+            int i = 3;
+            double[] offsetXs;
+            double[] offsetYs;
+
+            switch (shape) {
+                case "point" -> {
+                    offsetXs = new double[1];
+                    offsetYs = new double[1];
+                }
+                case "line" -> {
+                    int count = parsePositiveInt(operand(tokens, i++, shape));
+                    double stepX = Double.parseDouble(operand(tokens, i++, shape));
+                    double stepY = Double.parseDouble(operand(tokens, i++, shape));
+                    offsetXs = new double[count];
+                    offsetYs = new double[count];
+                    for (int member = 0; member < count; member++) {
+                        offsetXs[member] = member * stepX;
+                        offsetYs[member] = member * stepY;
+                    }
+                }
+                case "vee" -> {
+                    int count = parsePositiveInt(operand(tokens, i++, shape));
+                    double spreadX = Double.parseDouble(operand(tokens, i++, shape));
+                    double depthY = Double.parseDouble(operand(tokens, i++, shape));
+                    offsetXs = new double[count];
+                    offsetYs = new double[count];
+                    for (int member = 1; member < count; member++) {
+                        int rank = (member + 1) / 2;
+                        offsetXs[member] = (member % 2 == 1 ? -rank : rank) * spreadX;
+                        offsetYs[member] = -rank * depthY;
+                    }
+                }
+                case "ring" -> {
+                    int count = parsePositiveInt(operand(tokens, i++, shape));
+                    double radius = Double.parseDouble(operand(tokens, i++, shape));
+                    offsetXs = new double[count];
+                    offsetYs = new double[count];
+                    for (int member = 0; member < count; member++) {
+                        double angle = 2 * Math.PI * member / count;
+                        offsetXs[member] = radius * Math.cos(angle);
+                        offsetYs[member] = radius * Math.sin(angle);
+                    }
+                }
+                default ->
+                    throw new IllegalArgumentException("Unknown formation shape <'" + shape + "'>.");
+            }
+
+            int staggerTicks = 0;
+            if (i < tokens.length) {
+                if (!tokens[i].equals("stagger") || i + 2 != tokens.length) {
+                    throw new IllegalArgumentException("Expected <stagger <ticks>> but found <'" + tokens[i] + "'>.");
+                }
+                staggerTicks = parseNonNegativeInt(tokens[i + 1]);
+            }
+            return new Formation(offsetXs, offsetYs, staggerTicks);
+        }
+
+        /**
+         * Builds a path from a declaration's legs.
+         *
+         * @param tokens The declaration's tokens.
+         * @return The path.
+         * @throws IllegalArgumentException If a leg is malformed, or a leg
+         * other than the last has no duration.
+         */
+        private static Path parsePath(final String[] tokens) throws IllegalArgumentException {
+            List<double[]> legs = new ArrayList<>();
+            List<Integer> legTicks = new ArrayList<>();
+            int i = 2;
+
+            while (i < tokens.length) {
+                if (legTicks.size() < legs.size()) {
+                    throw new IllegalArgumentException("Only the last leg of a path can last forever.");
+                }
+                if (!tokens[i++].equals("move")) {
+                    throw new IllegalArgumentException("Expected <move <vx> <vy>> but found <'" + tokens[i - 1] + "'>.");
+                }
+                double velocityX = Double.parseDouble(operand(tokens, i++, "move"));
+                double velocityY = Double.parseDouble(operand(tokens, i++, "move"));
+                legs.add(new double[]{velocityX, velocityY});
+
+                if (i < tokens.length && tokens[i].equals("for")) {
+                    legTicks.add(parsePositiveInt(operand(tokens, i + 1, "for")));
+                    i += 2;
+                }
+            }
+            if (legTicks.size() == legs.size()) {
+                throw new IllegalArgumentException("The last leg of a path cannot have a duration.");
+            }
+
+            double[] velocityXs = new double[legs.size()];
+            double[] velocityYs = new double[legs.size()];
+            int[] ticks = new int[legTicks.size()];
+            for (int leg = 0; leg < velocityXs.length; leg++) {
+                velocityXs[leg] = legs.get(leg)[0];
+                velocityYs[leg] = legs.get(leg)[1];
+            }
+            for (int leg = 0; leg < ticks.length; leg++) {
+                ticks[leg] = legTicks.get(leg);
+            }
+            return new Path(velocityXs, velocityYs, ticks);
+        }
+
+        /**
+         * Declares a named formation or path.
+         *
+         * @param <T> The type of declaration.
+         * @param declarations The declarations so far, keyed by name.
+         * @param name The new declaration's name.
+         * @param value The new declaration.
+         * @param kind What is declared, used in error messages.
+         * @throws IllegalArgumentException If the name is already declared.
+         */
+        private static <T> void declare(final Map<String, T> declarations, final String name, final T value, final String kind) throws IllegalArgumentException {
+            if (declarations.putIfAbsent(name, value) != null) {
+                throw new IllegalArgumentException("Duplicate " + kind + " <'" + name + "'>.");
+            }
+        }
+
+        /**
+         * Returns a declared formation or path.
+         *
+         * @param <T> The type of declaration.
+         * @param declarations The declarations so far, keyed by name.
+         * @param name The declaration's name.
+         * @param kind What is looked up, used in error messages.
+         * @return The declaration.
+         * @throws IllegalArgumentException If the name is undeclared.
+         */
+        private static <T> T lookUp(final Map<String, T> declarations, final String name, final String kind) throws IllegalArgumentException {
+            T value = declarations.get(name);
+            if (value == null) {
+                throw new IllegalArgumentException("Undeclared " + kind + " <'" + name + "'>.");
+            }
+            return value;
+        }
+    }
+}
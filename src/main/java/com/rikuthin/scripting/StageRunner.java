@@ -0,0 +1,161 @@
+package com.rikuthin.scripting;
+
+import java.util.Arrays;
+
+import com.rikuthin.entities.enemies.Enemy;
+
+import managers.EnemyManager;
+
+/**
+ * Plays a {@link Stage}, spawning and steering its enemies through an
+ * {@link EnemyManager}.
+ * <p>
+ * The runner keeps the stage's clock, a cursor to the next event due and the
+ * enemy each of the stage's slots spawned. Because the stage's events are
+ * sorted by tick, each tick only compares the next event's tick with the
+ * clock, so a tick with nothing due costs a single comparison however long
+ * the stage is. {@link #seek(int)} moves the clock and cursor to any tick with
+ * a binary search, so a stage can be started part-way through, e.g. to test
+ * a late wave.
+ */
+public final class StageRunner {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The stage being played.
+     */
+    private final Stage stage;
+    /**
+     * The enemy spawned in each of the stage's slots, or {@code null} if the
+     * slot has not spawned since the last seek or its spawn was skipped.
+     */
+    private final Enemy[] slotEnemies;
+    /**
+     * The stage's clock: the tick the next update plays.
+     */
+    private int tick;
+    /**
+     * The index of the next event to dispatch.
+     */
+    private int cursor;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a runner positioned at the start of a stage.
+     *
+     * @param stage The stage to play.
+     */
+    public StageRunner(final Stage stage) {
+        if (stage == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Stage cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+        this.stage = stage;
+        this.slotEnemies = new Enemy[stage.getSlotCount()];
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the stage being played.
+     *
+     * @return The stage.
+     */
+    public Stage getStage() {
+        return stage;
+    }
+
+    /**
+     * Returns the tick the next update plays.
+     *
+     * @return The stage's clock.
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the index of the next event to dispatch.
+     *
+     * @return The cursor.
+     */
+    public int getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Returns whether the stage has dispatched every event and does not
+     * repeat.
+     *
+     * @return {@code true} if finished, {@code false} otherwise.
+     */
+    public boolean isFinished() {
+        return stage.getLoopTick() == Stage.NO_LOOP && cursor >= stage.getEventCount();
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Moves the stage's clock to a tick. Events due earlier are skipped, and
+     * enemies spawned before the seek are no longer steered by the stage.
+     *
+     * @param tick The tick the next update plays.
+     */
+    public void seek(final int tick) {
+        if (tick < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Tick cannot be less than zero (0).",
+                    this.getClass().getName()
+            ));
+        }
+        this.tick = tick;
+        this.cursor = stage.findFirstEvent(tick);
+        Arrays.fill(slotEnemies, null);
+    }
+
+    /**
+     * Dispatches the events due on the current tick, then advances the clock,
+     * jumping back to the loop's tick at the end of a repeating stage.
+     *
+     * @param enemyManager The manager that spawns the stage's enemies.
+     */
+    public void update(final EnemyManager enemyManager) {
+        int eventCount = stage.getEventCount();
+        while (cursor < eventCount && stage.getEventTick(cursor) <= tick) {
+            dispatch(cursor++, enemyManager);
+        }
+
+        tick++;
+        if (stage.getLoopTick() != Stage.NO_LOOP && tick >= stage.getLength()) {
+            seek(stage.getLoopTick());
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Spawns or steers the enemy an event refers to.
+     *
+     * @param event The event's index.
+     * @param enemyManager The manager that spawns the stage's enemies.
+     */
+    private void dispatch(final int event, final EnemyManager enemyManager) {
+        int slot = stage.getEventSlot(event);
+
+        if (stage.getEventKind(event) == Stage.SPAWN) {
+            slotEnemies[slot] = enemyManager.spawnEnemy(
+                    stage.getEventEnemyType(event),
+                    stage.getEventX(event),
+                    stage.getEventY(event),
+                    stage.getEventVelocityX(event),
+                    stage.getEventVelocityY(event)
+            );
+            return;
+        }
+
+        Enemy enemy = slotEnemies[slot];
+        if (enemy != null && enemy.getCurrentHitPoints() > 0) {
+            enemy.setVelocityX(stage.getEventVelocityX(event));
+            enemy.setVelocityY(stage.getEventVelocityY(event));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.rikuthin.utility;
+
+/**
+ * Table-driven trigonometry on binary angles, for aiming and steering many
+ * bullets per frame.
+ * <p>
+ * A binary angle is an {@code int} where a full turn is 2<sup>32</sup>, so
+ * adding and subtracting angles wraps around for free and needs no
+ * normalising. As with {@link com.rikuthin.entities.MobileEntity}'s
+ * velocities, 0 points right and a quarter turn points up the screen.
+ * <p>
+ * {@link #sin(int)} and {@link #cos(int)} interpolate linearly between
+ * {@value #SINE_TABLE_SIZE} precomputed samples per turn, which keeps their
+ * error below 3e-7. {@link #atan2(double, double)} reduces its arguments to
+ * the first octant and interpolates a table of {@value #ATAN_TABLE_SIZE}
+ * arctangent samples, with an error below 1e-6 radians. None of them
+ * allocate.
+ */
+public final class FastAngle {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * A quarter turn, as a binary angle.
+     */
+    public static final int QUARTER_TURN = 1 << 30;
+    /**
+     * Half a turn, as a binary angle. Equal to {@link Integer#MIN_VALUE}.
+     */
+    public static final int HALF_TURN = 1 << 31;
+    /**
+     * How many sine samples the table holds per turn.
+     */
+    public static final int SINE_TABLE_SIZE = 1 << 12;
+    /**
+     * How many arctangent samples the table holds over [0, 1].
+     */
+    public static final int ATAN_TABLE_SIZE = 1 << 10;
+    /**
+     * How many low bits of a binary angle lie between two sine samples.
+     */
+    private static final int SINE_FRACTION_BITS = 32 - Integer.numberOfTrailingZeros(SINE_TABLE_SIZE);
+    /**
+     * Scales the low bits of a binary angle to a fraction of a sine step.
+     */
+    private static final double SINE_FRACTION_SCALE = 1.0 / (1 << SINE_FRACTION_BITS);
+    /**
+     * How many binary angle units make up one radian.
+     */
+    private static final double UNITS_PER_RADIAN = 4294967296.0 / (2 * Math.PI);
+    /**
+     * The sine of each sample angle, with one extra sample closing the turn
+     * so that interpolation never wraps.
+     */
+    private static final double[] SINE_TABLE = new double[SINE_TABLE_SIZE + 1];
+    /**
+     * The arctangent of each sample in [0, 1], as binary angle units, with
+     * one extra sample at 1.
+     */
+    private static final double[] ATAN_TABLE = new double[ATAN_TABLE_SIZE + 1];
+
+    static {
+        for (int i = 0; i <= SINE_TABLE_SIZE; i++) {
+            SINE_TABLE[i] = Math.sin(2 * Math.PI * i / SINE_TABLE_SIZE);
+        }
+        for (int i = 0; i <= ATAN_TABLE_SIZE; i++) {
+            ATAN_TABLE[i] = Math.atan((double) i / ATAN_TABLE_SIZE) * UNITS_PER_RADIAN;
+        }
+    }
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor to prevent instantiation. Utility class.
+     */
+    private FastAngle() {
+    }
+
+    // ----- STATIC METHODS -----
+    /**
+     * Converts an angle in degrees to a binary angle.
+     *
+     * @param degrees The angle in degrees.
+     * @return The binary angle.
+     */
+    public static int fromDegrees(final double degrees) {
+        return (int) (long) Math.floor(degrees * (4294967296.0 / 360.0));
+    }
+
+    /**
+     * Converts an angle in radians to a binary angle.
+     *
+     * @param radians The angle in radians.
+     * @return The binary angle.
+     */
+    public static int fromRadians(final double radians) {
+        return (int) (long) Math.floor(radians * UNITS_PER_RADIAN);
+    }
+
+    /**
+     * Converts a binary angle to degrees.
+     *
+     * @param angle The binary angle.
+     * @return The angle in degrees, in the range [-180, 180).
+     */
+    public static double toDegrees(final int angle) {
+        return angle * (360.0 / 4294967296.0);
+    }
+
+    /**
+     * Converts a binary angle to radians.
+     *
+     * @param angle The binary angle.
+     * @return The angle in radians, in the range [-&pi;, &pi;).
+     */
+    public static double toRadians(final int angle) {
+        return angle / UNITS_PER_RADIAN;
+    }
+
+    /**
+     * Returns the sine of a binary angle.
+     *
+     * @param angle The binary angle.
+     * @return The sine.
+     */
+    public static double sin(final int angle) {
+        int index = angle >>> SINE_FRACTION_BITS;
+        double fraction = (angle & ((1 << SINE_FRACTION_BITS) - 1)) * SINE_FRACTION_SCALE;
+        double start = SINE_TABLE[index];
+        return start + (SINE_TABLE[index + 1] - start) * fraction;
+    }
+
+    /**
+     * Returns the cosine of a binary angle.
+     *
+     * @param angle The binary angle.
+     * @return The cosine.
+     */
+    public static double cos(final int angle) {
+        return sin(angle + QUARTER_TURN);
+    }
+
+    /**
+     * Returns the binary angle of the vector ({@code x}, {@code y}), like
+     * {@link Math#atan2(double, double)}.
+     *
+     * @param y The vector's y-component (positive is up the screen).
+     * @param x The vector's x-component (positive is right).
+     * @return The binary angle, or 0 for the zero vector.
+     */
+    public static int atan2(final double y, final double x) {
+        double absX = Math.abs(x);
+        double absY = Math.abs(y);
+        if (absX == 0 && absY == 0) {
+            return 0;
+        }
+
+        // Reduce to the first octant, where the ratio lies in [0, 1]
+        double angle = absX >= absY
+                ? atanUnit(absY / absX)
+                : QUARTER_TURN - atanUnit(absX / absY);
+        if (x < 0) {
+            angle = 2.0 * QUARTER_TURN - angle;
+        }
+
+        int binaryAngle = (int) (long) Math.rint(angle);
+        return y < 0 ? -binaryAngle : binaryAngle;
+    }
+
+    /**
+     * Returns the arctangent of a ratio in [0, 1], in binary angle units.
+     *
+     * @param ratio The ratio.
+     * @return The arctangent.
+     */
+    private static double atanUnit(final double ratio) {
+        double position = ratio * ATAN_TABLE_SIZE;
+        int index = Math.min((int) position, ATAN_TABLE_SIZE - 1);
+        double start = ATAN_TABLE[index];
+        return start + (ATAN_TABLE[index + 1] - start) * (position - index);
+    }
+}
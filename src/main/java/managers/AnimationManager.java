@@ -1,5 +1,7 @@
 package managers;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -9,12 +11,39 @@ import com.rikuthin.graphics.animations.AnimationTemplate;
  * Singleton manager responsible for storing and retrieving shared animation
  * templates. Ensures animations are only loaded once and reused across
  * entities.
+ * <p>
+ * Every animation key is interned to an integer handle, which indexes
+ * straight into the stored templates. Handles are stable for the lifetime of
+ * the game and can be interned before the animation itself is loaded, so
+ * callers can resolve them once (e.g., into constants) and then switch
+ * animations without any string hashing.
+ * <p>
+ * The registry is thread-safe. Its contents are published as an immutable
+ * {@link Snapshot} through a volatile reference: reads never lock and always
+ * see a consistent set of animations, while writes copy the current snapshot,
+ * modify the copy and publish it in a single step. Writes are rare (loading
+ * and hot reloading), so copying is cheap in practice; use
+ * {@link #addAnimations(Collection)} to register many animations with a
+ * single copy.
  */
 public class AnimationManager {
 
     // ----- STATIC VARIABLES -----
+    /**
+     * The handle representing "no animation".
+     */
+    public static final int NO_ANIMATION = -1;
     private static final AnimationManager INSTANCE = new AnimationManager();
-    private static final Map<String, AnimationTemplate> animations = new HashMap<>();
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The currently published registry contents.
+     */
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), new String[0], new AnimationTemplate[0], 0);
+    /**
+     * Serialises writers. Readers never take this lock.
+     */
+    private final Object writeLock = new Object();
 
     // ----- CONSTRUCTORS ------
     /**
@@ -33,6 +62,17 @@ public class AnimationManager {
         return INSTANCE;
     }
 
+    /**
+     * Retrieves the current immutable contents of the registry. Callers making
+     * several related lookups should read the snapshot once and use it
+     * throughout for a consistent view.
+     *
+     * @return The current snapshot.
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
     /**
      * Retrieves an animation template by its key.
      *
@@ -41,27 +81,395 @@ public class AnimationManager {
      * found.
      */
     public AnimationTemplate getAnimation(String key) {
-        return animations.get(key);
+        return snapshot.getAnimation(key);
+    }
+
+    /**
+     * Retrieves an animation template by its handle.
+     *
+     * @param handle The animation's handle.
+     * @return The corresponding {@link AnimationTemplate}, or null if the
+     * handle is invalid or its animation is not loaded.
+     */
+    public AnimationTemplate getAnimation(int handle) {
+        return snapshot.getAnimation(handle);
+    }
+
+    /**
+     * Retrieves the handle of an already interned key.
+     *
+     * @param key The unique identifier for the animation.
+     * @return The handle, or {@link #NO_ANIMATION} if the key has not been
+     * interned.
+     */
+    public int getHandle(String key) {
+        return snapshot.getHandle(key);
+    }
+
+    /**
+     * Retrieves the key a handle was interned from.
+     *
+     * @param handle The animation's handle.
+     * @return The key, or {@code null} if the handle is invalid.
+     */
+    public String getKey(int handle) {
+        return snapshot.getKey(handle);
     }
 
     /**
      * Retrieves all stored animations.
      *
-     * @return The map of animations.
+     * @return An immutable map of every loaded animation by key.
      */
     public Map<String, AnimationTemplate> getAllAnimations() {
-        return animations;
+        return snapshot.getAllAnimations();
+    }
+
+    /**
+     * Retrieves the current revision of the stored animations. The revision
+     * changes whenever a template is replaced.
+     *
+     * @return The revision.
+     */
+    public int getRevision() {
+        return snapshot.revision;
     }
 
     // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Returns the handle for a key, assigning a new one if the key has not
+     * been seen before. The animation does not need to be loaded yet.
+     *
+     * @param key The unique identifier for the animation.
+     * @return The key's handle.
+     */
+    public int intern(String key) {
+        validateKey(key);
+
+        int handle = snapshot.getHandle(key);
+        if (handle != NO_ANIMATION) {
+            return handle;
+        }
+
+        synchronized (writeLock) {
+            Builder builder = new Builder(snapshot);
+            handle = builder.intern(key);
+            snapshot = builder.build(false);
+            return handle;
+        }
+    }
+
     /**
      * Adds a new animation template to the manager. If an animation with the
      * given key already exists, it is not replaced.
      *
      * @param key The unique identifier for the animation.
      * @param animation The AnimationTemplate to store.
+     * @return The animation's handle.
      */
-    public void addAnimation(String key, AnimationTemplate animation) {
-        animations.putIfAbsent(key, animation);
+    public int addAnimation(String key, AnimationTemplate animation) {
+        validateKey(key);
+        validateAnimation(animation);
+
+        synchronized (writeLock) {
+            Builder builder = new Builder(snapshot);
+            int handle = builder.add(key, animation, false);
+            snapshot = builder.build(false);
+            return handle;
+        }
+    }
+
+    /**
+     * Adds a batch of animation templates with a single copy of the registry.
+     * Animations whose key already has a template are not replaced. Safe to
+     * call from any thread, e.g., as parallel loaders finish.
+     *
+     * @param animations The keys and templates to store.
+     */
+    public void addAnimations(Collection<Map.Entry<String, AnimationTemplate>> animations) {
+        for (Map.Entry<String, AnimationTemplate> animation : animations) {
+            validateKey(animation.getKey());
+            validateAnimation(animation.getValue());
+        }
+
+        synchronized (writeLock) {
+            Builder builder = new Builder(snapshot);
+            for (Map.Entry<String, AnimationTemplate> animation : animations) {
+                builder.add(animation.getKey(), animation.getValue(), false);
+            }
+            snapshot = builder.build(false);
+        }
+    }
+
+    /**
+     * Replaces the animation template stored under the given key (or adds it
+     * if absent), e.g., when its sprite sheet is reloaded. Entities playing
+     * the old template switch to the new one on their next update. Safe to
+     * call from any thread.
+     *
+     * @param key The unique identifier for the animation.
+     * @param animation The new AnimationTemplate.
+     * @return The animation's handle.
+     */
+    public int replaceAnimation(String key, AnimationTemplate animation) {
+        validateKey(key);
+        validateAnimation(animation);
+
+        synchronized (writeLock) {
+            Builder builder = new Builder(snapshot);
+            int handle = builder.add(key, animation, true);
+            snapshot = builder.build(true);
+            return handle;
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Ensures a key is usable.
+     *
+     * @param key The key to check.
+     * @throws IllegalArgumentException If the key is {@code null} or blank.
+     */
+    private void validateKey(String key) throws IllegalArgumentException {
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Key cannot be null nor blank.",
+                    this.getClass().getName()
+            ));
+        }
+    }
+
+    /**
+     * Ensures an animation is usable.
+     *
+     * @param animation The animation to check.
+     * @throws IllegalArgumentException If the animation is {@code null}.
+     */
+    private void validateAnimation(AnimationTemplate animation) throws IllegalArgumentException {
+        if (animation == null) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Animation cannot be null.",
+                    this.getClass().getName()
+            ));
+        }
+    }
+
+    // ----- PUBLIC INNER CLASSES -----
+    /**
+     * An immutable view of the registry at one point in time.
+     */
+    public static final class Snapshot {
+
+        /**
+         * Maps each interned key to its handle.
+         */
+        private final Map<String, Integer> handles;
+        /**
+         * The key of each handle, indexed by handle.
+         */
+        private final String[] keys;
+        /**
+         * The template of each handle (or {@code null} if not loaded yet),
+         * indexed by handle.
+         */
+        private final AnimationTemplate[] animations;
+        /**
+         * Every loaded template by key.
+         */
+        private final Map<String, AnimationTemplate> animationsByKey;
+        /**
+         * The revision of the registry this snapshot was taken at.
+         */
+        private final int revision;
+
+        /**
+         * Creates a snapshot. The arrays must not be modified afterwards.
+         *
+         * @param handles Maps each interned key to its handle.
+         * @param keys The key of each handle.
+         * @param animations The template of each handle.
+         * @param revision The registry revision.
+         */
+        private Snapshot(final Map<String, Integer> handles, final String[] keys, final AnimationTemplate[] animations, final int revision) {
+            this.handles = Map.copyOf(handles);
+            this.keys = keys;
+            this.animations = animations;
+            this.revision = revision;
+
+            Map<String, AnimationTemplate> loaded = new HashMap<>();
+            for (int handle = 0; handle < keys.length; handle++) {
+                if (animations[handle] != null) {
+                    loaded.put(keys[handle], animations[handle]);
+                }
+            }
+            this.animationsByKey = Map.copyOf(loaded);
+        }
+
+        /**
+         * Retrieves an animation template by its key.
+         *
+         * @param key The unique identifier for the animation.
+         * @return The template, or {@code null} if not found.
+         */
+        public AnimationTemplate getAnimation(final String key) {
+            return getAnimation(getHandle(key));
+        }
+
+        /**
+         * Retrieves an animation template by its handle.
+         *
+         * @param handle The animation's handle.
+         * @return The template, or {@code null} if the handle is invalid or
+         * its animation is not loaded.
+         */
+        public AnimationTemplate getAnimation(final int handle) {
+            if (handle < 0 || handle >= animations.length) {
+                return null;
+            }
+            return animations[handle];
+        }
+
+        /**
+         * Retrieves the handle of an interned key.
+         *
+         * @param key The unique identifier for the animation.
+         * @return The handle, or {@link #NO_ANIMATION} if the key has not
+         * been interned.
+         */
+        public int getHandle(final String key) {
+            if (key == null) {
+                return NO_ANIMATION;
+            }
+            Integer handle = handles.get(key);
+            return handle != null ? handle : NO_ANIMATION;
+        }
+
+        /**
+         * Retrieves the key a handle was interned from.
+         *
+         * @param handle The animation's handle.
+         * @return The key, or {@code null} if the handle is invalid.
+         */
+        public String getKey(final int handle) {
+            if (handle < 0 || handle >= keys.length) {
+                return null;
+            }
+            return keys[handle];
+        }
+
+        /**
+         * Retrieves all loaded animations.
+         *
+         * @return An immutable map of every loaded animation by key.
+         */
+        public Map<String, AnimationTemplate> getAllAnimations() {
+            return animationsByKey;
+        }
+
+        /**
+         * Retrieves the revision this snapshot was taken at.
+         *
+         * @return The revision.
+         */
+        public int getRevision() {
+            return revision;
+        }
+    }
+
+    // ----- PRIVATE INNER CLASSES -----
+    /**
+     * Mutable working copy of a {@link Snapshot}, used by writers.
+     */
+    private static final class Builder {
+
+        /**
+         * Maps each interned key to its handle.
+         */
+        private final Map<String, Integer> handles;
+        /**
+         * The key of each handle (with spare capacity).
+         */
+        private String[] keys;
+        /**
+         * The template of each handle (with spare capacity).
+         */
+        private AnimationTemplate[] animations;
+        /**
+         * The number of interned handles.
+         */
+        private int handleCount;
+        /**
+         * The revision of the copied snapshot.
+         */
+        private final int revision;
+
+        /**
+         * Creates a working copy of a snapshot.
+         *
+         * @param snapshot The snapshot to copy.
+         */
+        private Builder(final Snapshot snapshot) {
+            this.handles = new HashMap<>(snapshot.handles);
+            this.handleCount = snapshot.keys.length;
+            this.keys = Arrays.copyOf(snapshot.keys, handleCount);
+            this.animations = Arrays.copyOf(snapshot.animations, handleCount);
+            this.revision = snapshot.revision;
+        }
+
+        /**
+         * Returns the handle for a key, assigning a new one if needed.
+         *
+         * @param key The key.
+         * @return The key's handle.
+         */
+        private int intern(final String key) {
+            Integer existing = handles.get(key);
+            if (existing != null) {
+                return existing;
+            }
+
+            if (handleCount == keys.length) {
+                int capacity = Math.max(16, handleCount * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                animations = Arrays.copyOf(animations, capacity);
+            }
+
+            int handle = handleCount++;
+            keys[handle] = key;
+            handles.put(key, handle);
+            return handle;
+        }
+
+        /**
+         * Stores a template under a key.
+         *
+         * @param key The key.
+         * @param animation The template.
+         * @param replace Whether to replace an existing template.
+         * @return The key's handle.
+         */
+        private int add(final String key, final AnimationTemplate animation, final boolean replace) {
+            int handle = intern(key);
+            if (replace || animations[handle] == null) {
+                animations[handle] = animation;
+            }
+            return handle;
+        }
+
+        /**
+         * Publishes the working copy as a new snapshot.
+         *
+         * @param isReplacement Whether existing templates were replaced (which
+         * bumps the revision).
+         * @return The new snapshot.
+         */
+        private Snapshot build(final boolean isReplacement) {
+            return new Snapshot(
+                    handles,
+                    Arrays.copyOf(keys, handleCount),
+                    Arrays.copyOf(animations, handleCount),
+                    isReplacement ? revision + 1 : revision
+            );
+        }
     }
 }
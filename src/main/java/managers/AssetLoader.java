@@ -0,0 +1,233 @@
+package managers;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import javax.swing.SwingUtilities;
+
+import com.rikuthin.graphics.animations.AnimationHotReloader;
+import com.rikuthin.graphics.animations.AnimationLoader;
+import com.rikuthin.graphics.animations.AnimationManifest;
+import com.rikuthin.graphics.animations.AnimationTemplate;
+
+/**
+ * Singleton service that loads the game's assets (sprite sheets and audio
+ * clips) in parallel on virtual threads.
+ * <p>
+ * Loading never blocks the Event Dispatch Thread (EDT): decoding happens on
+ * the loader's executor and loaded animations are registered with the
+ * thread-safe {@link AnimationManager} in a single batch from there, while
+ * progress updates and completion are handed back to the EDT. When the
+ * animation manifest is read from a directory, that directory is watched
+ * afterwards and changed animations are reloaded while the game runs.
+ */
+public class AssetLoader {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * Singleton instance of {@link AssetLoader}.
+     */
+    private static AssetLoader instance;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * Executor running one virtual thread per decoding task.
+     */
+    private final ExecutorService executor;
+    /**
+     * Watches the animation directory for changes, if enabled.
+     */
+    private AnimationHotReloader animationHotReloader;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Private constructor to enforce the singleton pattern.
+     */
+    private AssetLoader() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    // ----- SINGLETON GETTER -----
+    /**
+     * Returns the singleton instance of the {@link AssetLoader}.
+     *
+     * @return The single instance of {@link AssetLoader}.
+     */
+    public static AssetLoader getInstance() {
+        if (instance == null) {
+            instance = new AssetLoader();
+        }
+        return instance;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the executor used for asset decoding.
+     *
+     * @return The executor.
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Starts loading every default animation and audio clip in parallel.
+     * <p>
+     * {@code onProgress} is invoked on the EDT with the number of completed
+     * assets and the total number of assets each time an asset finishes
+     * (whether it loaded successfully or not). Loaded animations are added to
+     * {@link AnimationManager} before the returned future completes. The
+     * animation manifest is read on the loader's executor too, so this method
+     * returns without doing any I/O on the calling thread. Assets that fail to
+     * load are reported and skipped. If the animation manifest was read from a
+     * directory, hot reloading of that directory starts once loading finishes.
+     * If registering the animations or starting hot reloading fails, the
+     * failure is reported and the returned future completes exceptionally
+     * with it.
+     *
+     * @param onProgress Receives {@code (completed, total)} progress updates.
+     * May be {@code null}.
+     * @return A future that completes (on the EDT) once every asset has been
+     * processed, or completes exceptionally if the loaded assets could not be
+     * put to use.
+     */
+    public CompletableFuture<Void> loadDefaultAssets(final BiConsumer<Integer, Integer> onProgress) {
+        List<CompletableFuture<Void>> clipFutures = SoundManager.getInstance().loadDefaultClipsAsync(executor);
+        CompletableFuture<Void> finished = new CompletableFuture<>();
+
+        CompletableFuture.supplyAsync(this::loadAnimationManifest, executor)
+                .thenCompose(manifest -> loadAnimations(manifest, clipFutures, onProgress))
+                .whenComplete((ignored, e) -> {
+                    if (e == null) {
+                        SwingUtilities.invokeLater(() -> finished.complete(null));
+                        return;
+                    }
+
+                    Throwable failure = e.getCause() != null ? e.getCause() : e;
+                    System.err.println(String.format(
+                            "%s: Failed to finish loading assets - %s",
+                            this.getClass().getName(),
+                            failure
+                    ));
+                    SwingUtilities.invokeLater(() -> finished.completeExceptionally(failure));
+                });
+
+        return finished;
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Decodes the manifest's animations in parallel, reports progress across
+     * them and the audio clips, and once every asset has been processed
+     * registers the loaded animations and starts hot reloading.
+     *
+     * @param manifest The animation manifest (may be {@code null}).
+     * @param clipFutures The audio clips already being loaded.
+     * @param onProgress Receives {@code (completed, total)} progress updates.
+     * May be {@code null}.
+     * @return A future that completes once the loaded animations are
+     * registered.
+     */
+    private CompletableFuture<Void> loadAnimations(final AnimationManifest manifest,
+            final List<CompletableFuture<Void>> clipFutures, final BiConsumer<Integer, Integer> onProgress) {
+        List<CompletableFuture<Map.Entry<String, AnimationTemplate>>> animationFutures = manifest != null
+                ? AnimationLoader.loadAnimationsAsync(manifest, executor)
+                : List.of();
+
+        List<CompletableFuture<?>> allFutures = new ArrayList<>(animationFutures);
+        allFutures.addAll(clipFutures);
+
+        final int total = allFutures.size();
+        final AtomicInteger completed = new AtomicInteger(0);
+
+        for (CompletableFuture<?> future : allFutures) {
+            future.whenComplete((result, e) -> {
+                if (e != null) {
+                    System.err.println(String.format(
+                            "%s: Failed to load asset - %s",
+                            this.getClass().getName(),
+                            e.getCause() != null ? e.getCause().getMessage() : e.getMessage()
+                    ));
+                }
+
+                int done = completed.incrementAndGet();
+                if (onProgress != null) {
+                    SwingUtilities.invokeLater(() -> onProgress.accept(done, total));
+                }
+            });
+        }
+
+        return CompletableFuture.allOf(allFutures.toArray(CompletableFuture[]::new)).handle((ignored, e) -> {
+            // Failed assets were already reported and are skipped
+            registerAnimations(animationFutures);
+            startAnimationHotReload(manifest);
+            return null;
+        });
+    }
+
+    /**
+     * Reads the default animation manifest.
+     *
+     * @return The manifest, or {@code null} if it could not be read.
+     */
+    private AnimationManifest loadAnimationManifest() {
+        try {
+            return AnimationManifest.loadDefault();
+        } catch (IOException e) {
+            System.err.println(String.format(
+                    "%s: Failed to load animation manifest - %s",
+                    this.getClass().getName(),
+                    e.getMessage()
+            ));
+            return null;
+        }
+    }
+
+    /**
+     * Starts watching the animation manifest's directory, if it was read from
+     * one and is not already being watched.
+     *
+     * @param manifest The loaded manifest (may be {@code null}).
+     */
+    private void startAnimationHotReload(final AnimationManifest manifest) {
+        if (manifest == null || !manifest.isWatchable() || animationHotReloader != null) {
+            return;
+        }
+
+        try {
+            animationHotReloader = new AnimationHotReloader(manifest);
+            animationHotReloader.start(executor);
+        } catch (IOException e) {
+            System.err.println(String.format(
+                    "%s: Failed to watch animations - %s",
+                    this.getClass().getName(),
+                    e.getMessage()
+            ));
+        }
+    }
+
+    /**
+     * Adds every successfully loaded animation to {@link AnimationManager} in
+     * a single batch.
+     *
+     * @param animationFutures The completed animation futures.
+     */
+    private static void registerAnimations(final List<CompletableFuture<Map.Entry<String, AnimationTemplate>>> animationFutures) {
+        List<Map.Entry<String, AnimationTemplate>> animations = new ArrayList<>(animationFutures.size());
+
+        for (CompletableFuture<Map.Entry<String, AnimationTemplate>> future : animationFutures) {
+            if (!future.isCompletedExceptionally()) {
+                animations.add(future.join());
+            }
+        }
+        AnimationManager.getInstance().addAnimations(animations);
+    }
+}
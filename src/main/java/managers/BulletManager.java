@@ -1,18 +1,229 @@
 package managers;
 
+import java.awt.Rectangle;
 import java.lang.StackWalker.StackFrame;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
 
+import com.rikuthin.collisions.Collisions;
+import com.rikuthin.collisions.SpatialGrid;
+import com.rikuthin.entities.Entity;
+import com.rikuthin.entities.Player;
 import com.rikuthin.entities.bullets.Bullet;
+import com.rikuthin.entities.bullets.BulletPattern;
+import com.rikuthin.entities.enemies.Enemy;
+import com.rikuthin.graphics.particles.ParticleEffect;
+import com.rikuthin.graphics.screens.subpanels.GamePanel;
 import com.rikuthin.interfaces.Updateable;
+import com.rikuthin.utility.FastAngle;
+import com.rikuthin.utility.Kinematics;
 
+/**
+ * Stores, updates and removes every active {@link Bullet}.
+ * <p>
+ * Bullets are stored densely: the active bullets occupy the first
+ * {@link #getBulletCount()} slots of an array, in the order they were spawned.
+ * Removing bullets compacts the array in a single pass and parks the removed
+ * bullets in the slots past the end, where spawners reuse them instead of
+ * allocating new ones. Spawners reserve a contiguous range of slots for a
+ * whole burst with {@link #reserveBullets(int)}, so filling a burst is one
+ * pass over adjacent slots. At most {@value #MAX_BULLETS_EMITTED_PER_TICK}
+ * bullets can be reserved between two updates, which bounds the cost of
+ * spawning in any one tick.
+ * <p>
+ * Bullets fired from a {@link BulletPattern} with kinematics (acceleration,
+ * curving, speed limits or homing) are steered before they move. Their
+ * kinematics are copied into primitive arrays parallel to the bullet slots,
+ * and every steered bullet is turned and sped up in one loop over those
+ * arrays, so steering is the same arithmetic for every bullet rather than a
+ * call to a different method per kind of bullet.
+ * <p>
+ * Bullets from a pattern that neither curves nor homes follow closed-form
+ * paths instead, and are not integrated at all. Their spawn tick, origin and
+ * motion parameters are recorded in further arrays, and each update places
+ * them where the path says they are at their age, so they never drift and
+ * their cost does not depend on how long they have flown. When they will
+ * have left the screen is also worked out once, when they spawn, so culling
+ * them is a comparison of ticks rather than a bounds test.
+ * <p>
+ * Above {@link #getParallelThreshold()} active bullets, updating switches to
+ * a parallel mode: the slots are split into chunks of
+ * {@value #PARALLEL_CHUNK_SIZE}, and each chunk's bullets are steered, moved,
+ * animated and checked for leaving the screen on the common
+ * {@link ForkJoinPool}. Each bullet is only touched by the worker owning its
+ * chunk, and the chunks only read shared state, so they need no locking. The
+ * bullets that left are then removed and the survivors indexed in one
+ * sequential compaction pass, as that pass moves bullets between chunks.
+ */
 public class BulletManager implements Updateable {
+    // ----- STATIC VARIABLES -----
+    /**
+     * The most bullets that can be reserved between two updates.
+     */
+    public static final int MAX_BULLETS_EMITTED_PER_TICK = 1024;
+    /**
+     * The initial number of bullet slots.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+    /**
+     * The cell size, in pixels, of the grid indexing hostile bullets. A few
+     * bullet widths, so that a query around the player visits a handful of
+     * cells.
+     */
+    private static final int HOSTILE_BULLET_GRID_CELL_SIZE = 32;
+    /**
+     * Steering flag marking a bullet whose velocity changes every tick.
+     */
+    private static final int STEERED_FLAG = 1;
+    /**
+     * Steering flag marking a bullet that turns towards the nearest enemy.
+     */
+    private static final int HOMES_ON_ENEMIES_FLAG = 2;
+    /**
+     * Steering flag marking a bullet that turns towards the player.
+     */
+    private static final int HOMES_ON_PLAYER_FLAG = 4;
+    /**
+     * Steering flag marking a bullet that follows a closed-form path.
+     */
+    private static final int ANALYTIC_FLAG = 8;
+    /**
+     * The system property that overrides the default parallel threshold.
+     */
+    public static final String PARALLEL_THRESHOLD_PROPERTY = "bullets.parallel.threshold";
+    /**
+     * The fewest active bullets updated in parallel, unless overridden. Below
+     * this, handing chunks to other threads costs more than it saves.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+    /**
+     * How many bullet slots each parallel task updates.
+     */
+    public static final int PARALLEL_CHUNK_SIZE = 512;
+
     // ----- INSTANCE VARIABLES -----
     /**
-     * Stores references to all active bullets on screen.
+     * The active bullets, followed by removed bullets kept for reuse and then
+     * empty slots.
+     */
+    private Bullet[] bullets;
+    /**
+     * How many of the first slots of {@link #bullets} hold active bullets.
+     */
+    private int bulletCount;
+    /**
+     * The steering flags of the bullet in each slot, or zero (0) if it flies
+     * straight at a constant speed.
+     */
+    private int[] steeringFlags;
+    /**
+     * How much the speed of the bullet in each slot changes every tick.
+     */
+    private double[] accelerations;
+    /**
+     * How far the bullet in each slot turns every tick, as a
+     * {@link FastAngle} binary angle.
+     */
+    private int[] angularVelocities;
+    /**
+     * The slowest the bullet in each slot can go.
+     */
+    private double[] minSpeeds;
+    /**
+     * The fastest the bullet in each slot can go.
+     */
+    private double[] maxSpeeds;
+    /**
+     * How far the bullet in each slot can turn towards its target every tick,
+     * as a {@link FastAngle} binary angle.
+     */
+    private int[] homingRates;
+    /**
+     * The tick each analytic bullet spawned on.
+     */
+    private long[] spawnTicks;
+    /**
+     * The tick from which each analytic bullet is off the screen for good, or
+     * {@link Kinematics#NEVER}.
+     */
+    private long[] expiryTicks;
+    /**
+     * The x-coordinate each analytic bullet spawned at.
+     */
+    private double[] originXs;
+    /**
+     * The y-coordinate each analytic bullet spawned at.
+     */
+    private double[] originYs;
+    /**
+     * The x-component of each analytic bullet's heading, as a unit vector
+     * with Cartesian coordinates.
+     */
+    private double[] directionXs;
+    /**
+     * The y-component of each analytic bullet's heading, as a unit vector
+     * with Cartesian coordinates.
+     */
+    private double[] directionYs;
+    /**
+     * The speed each analytic bullet spawned with.
+     */
+    private double[] initialSpeeds;
+    /**
+     * How far each analytic bullet sways to either side of its heading.
+     */
+    private double[] waveAmplitudes;
+    /**
+     * How far through a sway each analytic bullet moves every tick, as a
+     * {@link FastAngle} binary angle.
+     */
+    private int[] waveFrequencies;
+    /**
+     * Whether the bullet in each slot left the screen during the current
+     * update.
+     */
+    private boolean[] expired;
+    /**
+     * The fewest active bullets updated in parallel.
+     */
+    private int parallelThreshold = Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, DEFAULT_PARALLEL_THRESHOLD);
+    /**
+     * The tasks that update each chunk in parallel, reused every update so
+     * that the parallel mode does not allocate once enough exist.
+     */
+    private BulletChunk[] chunks = new BulletChunk[0];
+    /**
+     * How many bullets have been reserved since the last update.
+     */
+    private int emittedThisTick;
+    /**
+     * How many times the bullets have been updated since the last clear.
      */
-    private HashSet<Bullet> bullets;
+    private long tick;
+    /**
+     * A read-only view of the active bullets.
+     */
+    private final List<Bullet> bulletView = new AbstractList<>() {
+        @Override
+        public Bullet get(final int index) {
+            return getBullet(index);
+        }
+
+        @Override
+        public int size() {
+            return bulletCount;
+        }
+    };
+    /**
+     * Indexes the bullets not fired by the player by position. Rebuilt during
+     * every update.
+     */
+    private final SpatialGrid<Bullet> hostileBulletGrid = new SpatialGrid<>(HOSTILE_BULLET_GRID_CELL_SIZE);
 
     // ----- CONSTRUCTORS -----
     public BulletManager() {
@@ -21,13 +232,98 @@ public class BulletManager implements Updateable {
 
     // ----- GETTERS -----
     /**
-     * Returns all active {@link Bullet} instances.
+     * Returns a read-only view of the active {@link Bullet} instances, in the
+     * order they were spawned. Prefer {@link #getBulletCount()} and
+     * {@link #getBullet(int)} on hot paths, which do not allocate an
+     * iterator.
      *
      * @return The bullets.
      */
-    public Set<Bullet> getBullets() {
+    public List<Bullet> getBullets() {
         ensureRunning("getBullets");
-        return bullets;
+        return bulletView;
+    }
+
+    /**
+     * Returns how many bullets are active.
+     *
+     * @return The bullet count.
+     */
+    public int getBulletCount() {
+        return bulletCount;
+    }
+
+    /**
+     * Returns an active bullet. Within a range just reserved with
+     * {@link #reserveBullets(int)}, returns the removed bullet parked in the
+     * slot for reuse, or {@code null} if the slot has never held one.
+     *
+     * @param index The bullet's slot, from zero (0) to the bullet count.
+     * @return The bullet.
+     */
+    public Bullet getBullet(final int index) {
+        return bullets[Objects.checkIndex(index, bulletCount)];
+    }
+
+    /**
+     * Returns how many more bullets can be reserved before the next update.
+     *
+     * @return The remaining emission budget.
+     */
+    public int getRemainingEmissionBudget() {
+        return MAX_BULLETS_EMITTED_PER_TICK - emittedThisTick;
+    }
+
+    /**
+     * Returns how many times the bullets have been updated since the last
+     * clear. Spawners use it to pace their emission in ticks.
+     *
+     * @return The tick count.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the spatial index of the active bullets not fired by the player,
+     * as of the last update.
+     * <p>
+     * Bullets removed after the update (e.g. by hitting the player) remain in
+     * the index until the next update.
+     *
+     * @return The grid.
+     */
+    public SpatialGrid<Bullet> getHostileBulletGrid() {
+        ensureRunning("getHostileBulletGrid");
+        return hostileBulletGrid;
+    }
+
+    /**
+     * Returns the fewest active bullets that are updated in parallel.
+     *
+     * @return The parallel threshold.
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    // ----- SETTERS -----
+    /**
+     * Sets the fewest active bullets that are updated in parallel. Defaults to
+     * the {@value #PARALLEL_THRESHOLD_PROPERTY} system property, or
+     * {@value #DEFAULT_PARALLEL_THRESHOLD} if it is not set.
+     *
+     * @param parallelThreshold The parallel threshold. Use
+     * {@link Integer#MAX_VALUE} to always update sequentially.
+     */
+    public void setParallelThreshold(final int parallelThreshold) {
+        if (parallelThreshold < 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Parallel threshold cannot be less than zero (0).",
+                    this.getClass().getName()
+            ));
+        }
+        this.parallelThreshold = parallelThreshold;
     }
 
     // ----- BUSINESS LOGIC METHODS -----
@@ -43,11 +339,32 @@ public class BulletManager implements Updateable {
      * Clears old bullet data.
      */
     public void clear() {
-        bullets = new HashSet<>();
+        bullets = new Bullet[INITIAL_CAPACITY];
+        steeringFlags = new int[INITIAL_CAPACITY];
+        accelerations = new double[INITIAL_CAPACITY];
+        angularVelocities = new int[INITIAL_CAPACITY];
+        minSpeeds = new double[INITIAL_CAPACITY];
+        maxSpeeds = new double[INITIAL_CAPACITY];
+        homingRates = new int[INITIAL_CAPACITY];
+        spawnTicks = new long[INITIAL_CAPACITY];
+        expiryTicks = new long[INITIAL_CAPACITY];
+        originXs = new double[INITIAL_CAPACITY];
+        originYs = new double[INITIAL_CAPACITY];
+        directionXs = new double[INITIAL_CAPACITY];
+        directionYs = new double[INITIAL_CAPACITY];
+        initialSpeeds = new double[INITIAL_CAPACITY];
+        waveAmplitudes = new double[INITIAL_CAPACITY];
+        waveFrequencies = new int[INITIAL_CAPACITY];
+        expired = new boolean[INITIAL_CAPACITY];
+        bulletCount = 0;
+        emittedThisTick = 0;
+        tick = 0;
+        hostileBulletGrid.clear(0, 0);
     }
 
     /**
-     * Adds a new {@link Bullet} instance to the managed list.
+     * Adds a new {@link Bullet} instance to the managed list. Single bullets
+     * added this way do not count towards the emission budget.
      *
      * @param bullet The new bullet.
      */
@@ -55,8 +372,181 @@ public class BulletManager implements Updateable {
         ensureRunning("addBullet");
 
         if (bullet != null) {
-            bullets.add(bullet);
+            ensureCapacity(bulletCount + 1);
+            steeringFlags[bulletCount] = 0;
+            bullets[bulletCount++] = bullet;
+        }
+    }
+
+    /**
+     * Reserves a contiguous range of slots at the end of the active bullets
+     * for a burst, as far as this tick's emission budget allows.
+     * <p>
+     * The reserved slots count as active straight away, so the caller must
+     * fill every one of them before anything else reads the bullets: each
+     * slot either holds a removed bullet to reset with its new state (see
+     * {@link #getBullet(int)}), or is empty and needs a new bullet (see
+     * {@link #placeBullet(int, Bullet)}). The reserved bullets fly straight
+     * unless given kinematics with
+     * {@link #setBulletKinematics(int, BulletPattern)}.
+     *
+     * @param count How many slots to reserve.
+     * @return The first reserved slot. The range ends at the new bullet
+     * count, and is empty if the budget has run out.
+     */
+    public int reserveBullets(final int count) {
+        ensureRunning("reserveBullets");
+
+        int start = bulletCount;
+        int granted = Math.clamp(count, 0, getRemainingEmissionBudget());
+        ensureCapacity(bulletCount + granted);
+        Arrays.fill(steeringFlags, start, start + granted, 0);
+        bulletCount += granted;
+        emittedThisTick += granted;
+        return start;
+    }
+
+    /**
+     * Puts a new bullet into an empty slot of a reserved range.
+     *
+     * @param index The slot.
+     * @param bullet The bullet.
+     */
+    public void placeBullet(final int index, final Bullet bullet) {
+        bullets[Objects.checkIndex(index, bulletCount)] = Objects.requireNonNull(bullet);
+    }
+
+    /**
+     * Gives the bullet in a slot the kinematics of the pattern that fired it,
+     * from its current position and velocity.
+     * <p>
+     * If the pattern is analytic, the bullet follows its closed-form path from
+     * here on, and is culled at the tick it is predicted to leave the screen.
+     * Otherwise it is steered: a bullet fired by the player homes on the
+     * nearest enemy, and any other bullet homes on the player.
+     *
+     * @param index The slot.
+     * @param pattern The pattern, or {@code null} to make the bullet fly
+     * straight at a constant speed, integrated every tick.
+     */
+    public void setBulletKinematics(final int index, final BulletPattern pattern) {
+        Objects.checkIndex(index, bulletCount);
+        if (pattern == null) {
+            steeringFlags[index] = 0;
+            return;
         }
+
+        accelerations[index] = pattern.getAcceleration();
+        minSpeeds[index] = pattern.getMinSpeed();
+        maxSpeeds[index] = pattern.getMaxSpeed();
+
+        Bullet bullet = bullets[index];
+        if (pattern.isAnalytic()) {
+            double vx = bullet.getVelocityX();
+            double vy = bullet.getVelocityY();
+            double speed = Math.sqrt(vx * vx + vy * vy);
+
+            steeringFlags[index] = ANALYTIC_FLAG;
+            spawnTicks[index] = tick;
+            originXs[index] = bullet.getX();
+            originYs[index] = bullet.getY();
+            directionXs[index] = speed > 0 ? vx / speed : 0;
+            directionYs[index] = speed > 0 ? vy / speed : 0;
+            initialSpeeds[index] = speed;
+            waveAmplitudes[index] = pattern.getWaveAmplitude();
+            waveFrequencies[index] = pattern.getWaveFrequency();
+            expiryTicks[index] = predictExpiryTick(index, bullet);
+            return;
+        }
+
+        int flags = STEERED_FLAG;
+        if (pattern.getHomingRate() != 0) {
+            flags |= bullet.getOwner() instanceof Player ? HOMES_ON_ENEMIES_FLAG : HOMES_ON_PLAYER_FLAG;
+        }
+        steeringFlags[index] = flags;
+        angularVelocities[index] = pattern.getAngularVelocity();
+        homingRates[index] = pattern.getHomingRate();
+    }
+
+    /**
+     * Removes every active bullet matching a filter in a single pass, keeping
+     * the rest in order. Removed bullets are parked past the end for reuse.
+     *
+     * @param filter Returns {@code true} for the bullets to remove.
+     * @return How many bullets were removed.
+     */
+    public int removeBullets(final Predicate<? super Bullet> filter) {
+        int kept = 0;
+        for (int i = 0; i < bulletCount; i++) {
+            Bullet bullet = bullets[i];
+            if (filter.test(bullet)) {
+                continue;
+            }
+            // Swap rather than overwrite, so removed bullets gather past the end
+            if (i != kept) {
+                swapSlots(i, kept);
+            }
+            kept++;
+        }
+
+        int removed = bulletCount - kept;
+        bulletCount = kept;
+        return removed;
+    }
+
+    /**
+     * Cancels every active bullet not fired by the player, e.g. when the
+     * player uses a bomb.
+     *
+     * @param effect The effect to emit where each cancelled bullet was, or
+     * {@code null} for none.
+     * @return How many bullets were cancelled.
+     */
+    public int cancelHostileBullets(final ParticleEffect effect) {
+        ensureRunning("cancelHostileBullets");
+        return cancelHostileBullets(
+                Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+                0, 0, Double.POSITIVE_INFINITY,
+                effect
+        );
+    }
+
+    /**
+     * Cancels the active bullets not fired by the player whose hitboxes
+     * overlap a circle.
+     *
+     * @param centreX The circle's centre x-coordinate.
+     * @param centreY The circle's centre y-coordinate.
+     * @param radius The circle's radius.
+     * @param effect The effect to emit where each cancelled bullet was, or
+     * {@code null} for none.
+     * @return How many bullets were cancelled.
+     */
+    public int cancelHostileBulletsInRadius(final double centreX, final double centreY, final double radius, final ParticleEffect effect) {
+        ensureRunning("cancelHostileBulletsInRadius");
+        return cancelHostileBullets(
+                centreX - radius, centreY - radius, centreX + radius, centreY + radius,
+                centreX, centreY, radius,
+                effect
+        );
+    }
+
+    /**
+     * Cancels the active bullets not fired by the player whose hitboxes
+     * overlap a rectangular region.
+     *
+     * @param region The region.
+     * @param effect The effect to emit where each cancelled bullet was, or
+     * {@code null} for none.
+     * @return How many bullets were cancelled.
+     */
+    public int cancelHostileBulletsInRegion(final Rectangle region, final ParticleEffect effect) {
+        ensureRunning("cancelHostileBulletsInRegion");
+        return cancelHostileBullets(
+                region.getMinX(), region.getMinY(), region.getMaxX(), region.getMaxY(),
+                0, 0, Double.POSITIVE_INFINITY,
+                effect
+        );
     }
 
     // ----- OVERRIDDEN METHODS -----
@@ -85,18 +575,410 @@ public class BulletManager implements Updateable {
     }
 
     /**
-     * Updates the list of managed bullets and removes any defeated bullets.
+     * Removes the bullets not fired by the player whose hitboxes overlap both
+     * a box and a circle, in a single pass over the active bullets without
+     * allocating per bullet.
+     * <p>
+     * The hostile bullet grid is not updated; cancelled bullets leave it at
+     * the next update.
+     *
+     * @param left The box's left edge.
+     * @param top The box's top edge.
+     * @param right The box's right edge.
+     * @param bottom The box's bottom edge.
+     * @param centreX The circle's centre x-coordinate.
+     * @param centreY The circle's centre y-coordinate.
+     * @param radius The circle's radius, or {@link Double#POSITIVE_INFINITY}
+     * to only test the box.
+     * @param effect The effect to emit where each cancelled bullet was, or
+     * {@code null} for none.
+     * @return How many bullets were cancelled.
+     */
+    private int cancelHostileBullets(final double left, final double top, final double right, final double bottom,
+            final double centreX, final double centreY, final double radius, final ParticleEffect effect) {
+        ParticleManager particleManager = GameManager.getInstance().getParticleManager();
+        boolean testCircle = radius != Double.POSITIVE_INFINITY;
+
+        return removeBullets(bullet -> {
+            if (bullet.getOwner() instanceof Player) {
+                return false;
+            }
+
+            Rectangle hitbox = bullet.getHitbox();
+            double hitboxRight = hitbox.x + hitbox.width;
+            double hitboxBottom = hitbox.y + hitbox.height;
+            if (!Collisions.boxBox(left, top, right, bottom, hitbox.x, hitbox.y, hitboxRight, hitboxBottom)
+                    || (testCircle && !Collisions.circleBox(centreX, centreY, radius, hitbox.x, hitbox.y, hitboxRight, hitboxBottom))) {
+                return false;
+            }
+
+            if (effect != null) {
+                particleManager.emit(effect, hitbox.getCenterX(), hitbox.getCenterY());
+            }
+            return true;
+        });
+    }
+
+    /**
+     * Updates the list of managed bullets, removes any defeated bullets and
+     * re-indexes the hostile bullets that remain. Also starts a new tick of
+     * the emission budget.
      */
     private void updateBullets() {
         ensureRunning("updateBullets");
 
-        if (bullets.isEmpty()) {
+        tick++;
+        emittedThisTick = 0;
+
+        GamePanel gamePanel = GameManager.getInstance().getGamePanel();
+        hostileBulletGrid.clear(gamePanel.getWidth(), gamePanel.getHeight());
+
+        if (bulletCount == 0) {
             return;
         }
 
-        bullets.removeIf(bullet -> {
-            bullet.update();
-            return bullet.isFullyOutsidePanel();
-        });
+        Player player = GameManager.getInstance().getPlayer();
+        SpatialGrid<Enemy> enemyGrid = GameManager.getInstance().getEnemyManager().getEnemyGrid();
+        if (bulletCount >= parallelThreshold && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            updateBulletsInParallel(player, enemyGrid);
+            return;
+        }
+
+        steerBullets(0, bulletCount, player, enemyGrid);
+        moveBullets(0, bulletCount);
+        removeExpiredBullets();
+    }
+
+    /**
+     * Updates the bullets in chunks on the common {@link ForkJoinPool}, then
+     * removes those that left the screen and indexes the hostile survivors.
+     * The calling thread updates the first chunk itself while the pool's
+     * workers take the rest.
+     *
+     * @param player The player, for bullets homing on them.
+     * @param enemyGrid The enemy index, for bullets homing on enemies.
+     */
+    private void updateBulletsInParallel(final Player player, final SpatialGrid<Enemy> enemyGrid) {
+        int chunkCount = (bulletCount + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+        if (chunks.length < chunkCount) {
+            int oldLength = chunks.length;
+            chunks = Arrays.copyOf(chunks, chunkCount);
+            for (int c = oldLength; c < chunkCount; c++) {
+                chunks[c] = new BulletChunk();
+            }
+        }
+
+        for (int c = 0; c < chunkCount; c++) {
+            int start = c * PARALLEL_CHUNK_SIZE;
+            chunks[c].prepare(start, Math.min(start + PARALLEL_CHUNK_SIZE, bulletCount), player, enemyGrid);
+        }
+        for (int c = chunkCount - 1; c > 0; c--) {
+            chunks[c].fork();
+        }
+        chunks[0].invoke();
+        for (int c = 1; c < chunkCount; c++) {
+            chunks[c].join();
+        }
+        removeExpiredBullets();
+    }
+
+    /**
+     * Removes the bullets that left the screen during this update, keeping
+     * the rest in order, and indexes the hostile survivors.
+     */
+    private void removeExpiredBullets() {
+        int kept = 0;
+        for (int i = 0; i < bulletCount; i++) {
+            if (expired[i]) {
+                continue;
+            }
+            Bullet bullet = bullets[i];
+            if (!(bullet.getOwner() instanceof Player)) {
+                hostileBulletGrid.insert(bullet);
+            }
+            if (i != kept) {
+                swapSlots(i, kept);
+            }
+            kept++;
+        }
+        bulletCount = kept;
+    }
+
+    /**
+     * Turns and speeds up the steered bullets in a range of slots, in one
+     * pass over the kinematics arrays.
+     * <p>
+     * A bullet turns by its angular velocity plus, if it homes, the signed
+     * difference between its heading and its target's bearing clamped to its
+     * homing rate. Binary angles wrap around, so subtracting them gives the
+     * shorter way round directly. Its speed then changes by its acceleration,
+     * within its speed limits.
+     *
+     * @param start The first slot.
+     * @param end The slot after the last.
+     * @param player The player, for bullets homing on them.
+     * @param enemyGrid The enemy index, for bullets homing on enemies.
+     */
+    private void steerBullets(final int start, final int end, final Player player, final SpatialGrid<Enemy> enemyGrid) {
+        for (int i = start; i < end; i++) {
+            int flags = steeringFlags[i];
+            if ((flags & STEERED_FLAG) == 0) {
+                continue;
+            }
+
+            Bullet bullet = bullets[i];
+            double vx = bullet.getVelocityX();
+            double vy = bullet.getVelocityY();
+            int turn = angularVelocities[i];
+
+            if ((flags & (HOMES_ON_ENEMIES_FLAG | HOMES_ON_PLAYER_FLAG)) != 0) {
+                double x = bullet.getCentreX();
+                double y = bullet.getCentreY();
+                Entity target = (flags & HOMES_ON_ENEMIES_FLAG) != 0
+                        ? enemyGrid.findNearest(x, y, Double.POSITIVE_INFINITY)
+                        : player;
+                if (target != null) {
+                    // Inverted for Cartesian velocities
+                    int bearing = FastAngle.atan2(y - target.getCentreY(), target.getCentreX() - x);
+                    int offset = bearing - FastAngle.atan2(vy, vx);
+                    turn += Math.clamp(offset, -homingRates[i], homingRates[i]);
+                }
+            }
+
+            double speed = Math.sqrt(vx * vx + vy * vy);
+            double newSpeed = Math.clamp(speed + accelerations[i], minSpeeds[i], maxSpeeds[i]);
+            double scale = speed > 0 ? newSpeed / speed : 0;
+            double cos = FastAngle.cos(turn) * scale;
+            double sin = FastAngle.sin(turn) * scale;
+            bullet.setVelocityX(vx * cos - vy * sin);
+            bullet.setVelocityY(vx * sin + vy * cos);
+        }
+    }
+
+    /**
+     * Moves the bullets in a range of slots and records which have left the
+     * screen. Integrated bullets move by their velocity. Analytic bullets are
+     * placed where their path puts them at their age, swaying perpendicular
+     * to their heading if they wave, and expire at their predicted tick.
+     *
+     * @param start The first slot.
+     * @param end The slot after the last.
+     */
+    private void moveBullets(final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            Bullet bullet = bullets[i];
+            if ((steeringFlags[i] & ANALYTIC_FLAG) == 0) {
+                bullet.update();
+                expired[i] = bullet.isFullyOutsidePanel();
+                continue;
+            }
+
+            expired[i] = tick >= expiryTicks[i];
+            if (expired[i]) {
+                continue;
+            }
+
+            long age = tick - spawnTicks[i];
+            double distance = Kinematics.distanceTravelled(age, initialSpeeds[i], accelerations[i], minSpeeds[i], maxSpeeds[i]);
+            double sway = waveAmplitudes[i] != 0 ? waveAmplitudes[i] * FastAngle.sin((int) (age * waveFrequencies[i])) : 0;
+            double dx = directionXs[i];
+            double dy = directionYs[i];
+            bullet.updateAt(
+                    originXs[i] + distance * dx - sway * dy,
+                    originYs[i] - (distance * dy + sway * dx) // Inverted for screen coordinates
+            );
+        }
+    }
+
+    /**
+     * Predicts the first tick on which an analytic bullet is fully off the
+     * screen, however far it sways: the soonest it travels far enough along
+     * its heading to clear the edge it is heading for on either axis.
+     *
+     * @param index The bullet's slot, with its path recorded.
+     * @param bullet The bullet.
+     * @return The tick, or {@link Kinematics#NEVER} if the bullet stops or
+     * does not move.
+     */
+    private long predictExpiryTick(final int index, final Bullet bullet) {
+        GamePanel gamePanel = GameManager.getInstance().getGamePanel();
+        double margin = Math.abs(waveAmplitudes[index]);
+        double screenX = directionXs[index];
+        double screenY = -directionYs[index]; // Inverted for screen coordinates
+
+        double distance = Double.POSITIVE_INFINITY;
+        if (screenX > 0) {
+            distance = Math.min(distance, (gamePanel.getWidth() + margin - originXs[index]) / screenX);
+        } else if (screenX < 0) {
+            distance = Math.min(distance, (originXs[index] + bullet.getSpriteWidth() + margin) / -screenX);
+        }
+        if (screenY > 0) {
+            distance = Math.min(distance, (gamePanel.getHeight() + margin - originYs[index]) / screenY);
+        } else if (screenY < 0) {
+            distance = Math.min(distance, (originYs[index] + bullet.getSpriteHeight() + margin) / -screenY);
+        }
+        if (distance == Double.POSITIVE_INFINITY) {
+            return Kinematics.NEVER;
+        }
+
+        long ticks = Kinematics.ticksToTravel(distance, initialSpeeds[index], accelerations[index], minSpeeds[index], maxSpeeds[index]);
+        return ticks == Kinematics.NEVER ? Kinematics.NEVER : tick + ticks;
+    }
+
+    /**
+     * Swaps the bullets in two slots, along with their kinematics.
+     *
+     * @param first The first slot.
+     * @param second The second slot.
+     */
+    private void swapSlots(final int first, final int second) {
+        Bullet bullet = bullets[first];
+        bullets[first] = bullets[second];
+        bullets[second] = bullet;
+
+        int flags = steeringFlags[first];
+        steeringFlags[first] = steeringFlags[second];
+        steeringFlags[second] = flags;
+
+        // Only steered and analytic bullets' kinematics are ever read
+        if ((steeringFlags[first] | flags) == 0) {
+            return;
+        }
+        swap(accelerations, first, second);
+        swap(angularVelocities, first, second);
+        swap(minSpeeds, first, second);
+        swap(maxSpeeds, first, second);
+        swap(homingRates, first, second);
+        swap(spawnTicks, first, second);
+        swap(expiryTicks, first, second);
+        swap(originXs, first, second);
+        swap(originYs, first, second);
+        swap(directionXs, first, second);
+        swap(directionYs, first, second);
+        swap(initialSpeeds, first, second);
+        swap(waveAmplitudes, first, second);
+        swap(waveFrequencies, first, second);
+    }
+
+    /**
+     * Grows the bullet slots to hold at least a given number of bullets.
+     *
+     * @param capacity The number of bullets.
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity > bullets.length) {
+            int newCapacity = Math.max(capacity, bullets.length * 2);
+            bullets = Arrays.copyOf(bullets, newCapacity);
+            steeringFlags = Arrays.copyOf(steeringFlags, newCapacity);
+            accelerations = Arrays.copyOf(accelerations, newCapacity);
+            angularVelocities = Arrays.copyOf(angularVelocities, newCapacity);
+            minSpeeds = Arrays.copyOf(minSpeeds, newCapacity);
+            maxSpeeds = Arrays.copyOf(maxSpeeds, newCapacity);
+            homingRates = Arrays.copyOf(homingRates, newCapacity);
+            spawnTicks = Arrays.copyOf(spawnTicks, newCapacity);
+            expiryTicks = Arrays.copyOf(expiryTicks, newCapacity);
+            originXs = Arrays.copyOf(originXs, newCapacity);
+            originYs = Arrays.copyOf(originYs, newCapacity);
+            directionXs = Arrays.copyOf(directionXs, newCapacity);
+            directionYs = Arrays.copyOf(directionYs, newCapacity);
+            initialSpeeds = Arrays.copyOf(initialSpeeds, newCapacity);
+            waveAmplitudes = Arrays.copyOf(waveAmplitudes, newCapacity);
+            waveFrequencies = Arrays.copyOf(waveFrequencies, newCapacity);
+            expired = new boolean[newCapacity];
+        }
+    }
+
+    // ----- STATIC METHODS -----
+    /**
+     * Swaps two elements of an array.
+     *
+     * @param array The array.
+     * @param first The first index.
+     * @param second The second index.
+     */
+    private static void swap(final double[] array, final int first, final int second) {
+        double element = array[first];
+        array[first] = array[second];
+        array[second] = element;
+    }
+
+    /**
+     * Swaps two elements of an array.
+     *
+     * @param array The array.
+     * @param first The first index.
+     * @param second The second index.
+     */
+    private static void swap(final int[] array, final int first, final int second) {
+        int element = array[first];
+        array[first] = array[second];
+        array[second] = element;
+    }
+
+    /**
+     * Swaps two elements of an array.
+     *
+     * @param array The array.
+     * @param first The first index.
+     * @param second The second index.
+     */
+    private static void swap(final long[] array, final int first, final int second) {
+        long element = array[first];
+        array[first] = array[second];
+        array[second] = element;
+    }
+
+    // ----- PRIVATE INNER CLASSES -----
+    /**
+     * Steers, moves and animates the bullets in one chunk of slots and records
+     * which of them left the screen. Reinitialised and reused every update.
+     */
+    @SuppressWarnings("serial")
+    private final class BulletChunk extends RecursiveAction {
+
+        // ----- INSTANCE VARIABLES -----
+        /**
+         * The first slot of the chunk.
+         */
+        private int start;
+        /**
+         * The slot after the last of the chunk.
+         */
+        private int end;
+        /**
+         * The player, for bullets homing on them.
+         */
+        private Player player;
+        /**
+         * The enemy index, for bullets homing on enemies.
+         */
+        private SpatialGrid<Enemy> enemyGrid;
+
+        // ----- BUSINESS LOGIC METHODS -----
+        /**
+         * Readies the task to update a range of slots.
+         *
+         * @param start The first slot.
+         * @param end The slot after the last.
+         * @param player The player, for bullets homing on them.
+         * @param enemyGrid The enemy index, for bullets homing on enemies.
+         */
+        private void prepare(final int start, final int end, final Player player, final SpatialGrid<Enemy> enemyGrid) {
+            reinitialize();
+            this.start = start;
+            this.end = end;
+            this.player = player;
+            this.enemyGrid = enemyGrid;
+        }
+
+        // ----- OVERRIDDEN METHODS -----
+        /**
+         * Updates the chunk's bullets.
+         */
+        @Override
+        protected void compute() {
+            steerBullets(start, end, player, enemyGrid);
+            moveBullets(start, end);
+        }
     }
 }
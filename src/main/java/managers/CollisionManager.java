@@ -0,0 +1,146 @@
+package managers;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.Arrays;
+import java.util.Set;
+
+import com.rikuthin.collisions.Collisions;
+import com.rikuthin.entities.Player;
+import com.rikuthin.entities.bullets.Bullet;
+import com.rikuthin.entities.enemies.Enemy;
+import com.rikuthin.graphics.particles.ParticleEffect;
+import com.rikuthin.interfaces.Updateable;
+
+/**
+ * Resolves collisions between bullets and the entities they can hit.
+ * <p>
+ * Bullets fired by the player are tested against every enemy; all other
+ * bullets are tested against the player. A bullet that hits deals its damage
+ * and is removed. With primitive collision shapes on both sides (see
+ * {@link com.rikuthin.collisions.CollisionShape}), each test is a hitbox
+ * intersection followed by a single squared-distance compare.
+ * <p>
+ * Tests are swept over each tick's movement (see
+ * {@link com.rikuthin.entities.Entity#timeOfImpact}), so bullets moving
+ * further per tick than their targets are wide still hit them.
+ */
+public class CollisionManager implements Updateable {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The enemies that can be hit this tick, gathered once per tick so that
+     * testing each bullet against them does not allocate an iterator. Reused
+     * across ticks and grown as needed.
+     */
+    private Enemy[] targets = new Enemy[0];
+    /**
+     * The number of entries of {@link #targets} in use this tick.
+     */
+    private int targetCount;
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Tests every active bullet for hits, applies their damage and removes the
+     * bullets that hit.
+     */
+    @Override
+    public void update() {
+        ensureRunning("update");
+
+        GameManager gameManager = GameManager.getInstance();
+        BulletManager bulletManager = gameManager.getBulletManager();
+        if (bulletManager.getBulletCount() == 0) {
+            return;
+        }
+
+        Player player = gameManager.getPlayer();
+        gatherTargets(gameManager.getEnemyManager().getEnemies());
+        ParticleManager particleManager = gameManager.getParticleManager();
+
+        bulletManager.removeBullets(bullet -> {
+            if (bullet.getOwner() instanceof Player) {
+                return hitsEnemy(bullet);
+            }
+
+            if (player == null || !player.isCollidable() || player.getCurrentHitPoints() == 0
+                    || bullet.timeOfImpact(player) == Collisions.NO_IMPACT) {
+                return false;
+            }
+
+            player.takeDamage(bullet.getDamage());
+            particleManager.emit(
+                    ParticleEffect.PLAYER_HIT,
+                    player.getHitbox().getCenterX(),
+                    player.getHitbox().getCenterY()
+            );
+            return true;
+        });
+
+        Arrays.fill(targets, 0, targetCount, null);
+    }
+
+    // ----- HELPER METHODS -----
+    private void ensureRunning(String methodName) {
+        if (!GameManager.getInstance().isRunning()) {
+            StackWalker walker = StackWalker.getInstance();
+            StackFrame caller = walker.walk(frames -> frames.skip(1).findFirst().orElse(null));
+
+            throw new IllegalStateException(String.format(
+                    "%s.%s: Cannot call %s() when GameManager is not in the RUNNING state.",
+                    caller != null ? caller.getClassName() : "UnknownClass",
+                    caller != null ? caller.getMethodName() : "UnknownMethod",
+                    methodName
+            ));
+        }
+    }
+
+    /**
+     * Gathers the enemies that can currently be hit into {@link #targets}.
+     *
+     * @param enemies The active enemies.
+     */
+    private void gatherTargets(final Set<Enemy> enemies) {
+        if (targets.length < enemies.size()) {
+            targets = new Enemy[enemies.size()];
+        }
+
+        targetCount = 0;
+        for (Enemy enemy : enemies) {
+            if (enemy.isCollidable() && enemy.getCurrentHitPoints() > 0) {
+                targets[targetCount++] = enemy;
+            }
+        }
+    }
+
+    /**
+     * Deals a player's bullet's damage to the first enemy along its path this
+     * tick.
+     *
+     * @param bullet The bullet.
+     * @return {@code true} if the bullet hit an enemy, {@code false}
+     * otherwise.
+     */
+    private boolean hitsEnemy(final Bullet bullet) {
+        Enemy target = null;
+        double earliestImpact = Collisions.NO_IMPACT;
+
+        for (int i = 0; i < targetCount; i++) {
+            Enemy enemy = targets[i];
+            if (enemy.getCurrentHitPoints() == 0) {
+                continue;
+            }
+
+            double impact = bullet.timeOfImpact(enemy);
+            if (impact < earliestImpact) {
+                earliestImpact = impact;
+                target = enemy;
+            }
+        }
+
+        if (target == null) {
+            return false;
+        }
+        target.takeDamage(bullet.getDamage());
+        return true;
+    }
+}
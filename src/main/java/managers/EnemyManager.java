@@ -1,54 +1,59 @@
 package managers;
 
-import java.awt.Point;
+import java.io.IOException;
 import java.lang.StackWalker.StackFrame;
 import java.util.HashSet;
-import java.util.Random;
 import java.util.Set;
 
+import com.rikuthin.collisions.SpatialGrid;
 import com.rikuthin.entities.Player;
-import com.rikuthin.entities.enemies.BlueMage;
 import com.rikuthin.entities.enemies.Enemy;
-import com.rikuthin.entities.enemies.MagentaMage;
-import com.rikuthin.entities.enemies.RedMage;
-import com.rikuthin.graphics.GameFrame;
+import com.rikuthin.entities.enemies.EnemyType;
+import com.rikuthin.graphics.particles.ParticleEffect;
 import com.rikuthin.graphics.screens.subpanels.GamePanel;
 import com.rikuthin.interfaces.Updateable;
+import com.rikuthin.scripting.Stage;
+import com.rikuthin.scripting.StageRunner;
 
+/**
+ * Manages the enemies on screen, spawning them as the current {@link Stage}
+ * dictates.
+ */
 public class EnemyManager implements Updateable {
 
     /**
-     * The maximum number of enemies that can exist simultaneously.
+     * The maximum number of enemies that can exist simultaneously. Stage
+     * spawns beyond it are skipped.
      */
-    private static final int MAX_ENEMY_COUNT = 10;
+    public static final int MAX_ENEMY_COUNT = 10;
     /**
-     * The cooldown duration (in milliseconds) before another {@link Enemy} can
-     * be created.
+     * The file name of the stage played by every new game.
      */
-    private static final long ENEMY_CREATION_COOLDOWN_MS = 5000; // 5 seconds
-
-    // ----- INSTANCE VARIABLES -----
+    public static final String STAGE_FILE_NAME = "stage-1.stage";
     /**
-     * Stores references to all active enemies on screen.
+     * The system property giving the tick new games start the stage from, to
+     * test later waves without playing through the earlier ones.
      */
-    private HashSet<Enemy> enemies;
+    public static final String STAGE_START_TICK_PROPERTY = "stage.start.tick";
     /**
-     * Random generator used by various methods.
+     * The cell size, in pixels, of the grid indexing enemies. Enemies are few
+     * and large, so coarse cells keep nearest-enemy searches to a few cells.
      */
-    private Random random;
+    private static final int ENEMY_GRID_CELL_SIZE = 64;
+
+    // ----- INSTANCE VARIABLES -----
     /**
-     * Tracks whether the cooldown timer is active.
+     * Stores references to all active enemies on screen.
      */
-    private boolean isOnCreationCooldown;
+    private HashSet<Enemy> enemies;
     /**
-     * The elapsed time (in milliseconds) since the enemy creation cooldown
-     * began.
+     * Plays the stage, or {@code null} if it could not be loaded.
      */
-    private long elapsedCreationCooldownMs;
+    private StageRunner stageRunner;
     /**
-     * The timestamp (in milliseconds) of the last update call.
+     * Indexes the surviving enemies by position. Rebuilt during every update.
      */
-    private long lastUpdateTime;
+    private final SpatialGrid<Enemy> enemyGrid = new SpatialGrid<>(ENEMY_GRID_CELL_SIZE);
 
     // ----- CONSTRUCTORS -----
     public EnemyManager() {
@@ -67,40 +72,24 @@ public class EnemyManager implements Updateable {
     }
 
     /**
-     * Checks if the enemy creation cooldown is currently active.
-     *
-     * @return {@code true} if the cooldown is active, otherwise {@code false}.
-     */
-    public boolean isOnCreationCooldown() {
-        return isOnCreationCooldown;
-    }
-
-    /**
-     * Gets the cooldown time in milliseconds before another enemy can be
-     * created.
+     * Returns the runner playing the stage.
      *
-     * @return The cooldown time.
+     * @return The stage runner, or {@code null} if the stage could not be
+     * loaded.
      */
-    public long getEnemyCreationCooldownMs() {
-        return ENEMY_CREATION_COOLDOWN_MS;
+    public StageRunner getStageRunner() {
+        return stageRunner;
     }
 
     /**
-     * Returns how many milliseconds of the enemy creation cooldown have passed.
+     * Returns the spatial index of the active enemies, as of the last update.
+     * Homing bullets use it to find their nearest target.
      *
-     * @return The elasped time.
+     * @return The grid.
      */
-    public long getElapsedCreationCooldownMs() {
-        return elapsedCreationCooldownMs;
-    }
-
-    /**
-     * Returns the last time the manager was updated in milliseconds.
-     *
-     * @return The last update time.
-     */
-    public long getLastUpdateTime() {
-        return lastUpdateTime;
+    public SpatialGrid<Enemy> getEnemyGrid() {
+        ensureRunning("getEnemyGrid");
+        return enemyGrid;
     }
 
     // ----- BUSINESS LOGIC METHODS -----
@@ -109,11 +98,8 @@ public class EnemyManager implements Updateable {
      * necessary objects to manage enemies and clears old enemy data.
      */
     public final void init() {
-        random = new Random();
         clear();
-        isOnCreationCooldown = false;
-        elapsedCreationCooldownMs = 0;
-        lastUpdateTime = 0;
+        setUpStage();
     }
 
     /**
@@ -121,6 +107,7 @@ public class EnemyManager implements Updateable {
      */
     public void clear() {
         enemies = new HashSet<>();
+        enemyGrid.clear(0, 0);
     }
 
     /**
@@ -131,12 +118,7 @@ public class EnemyManager implements Updateable {
      */
     public boolean canCreateEnemy() {
         ensureRunning("canCreateEnemy");
-
-        System.out.println("Enemies: " + enemies.size()
-                + " | Elapsed Cooldown Time: " + elapsedCreationCooldownMs
-                + " | On Cooldown: " + isOnCreationCooldown());
-
-        return enemies.size() < MAX_ENEMY_COUNT && !isOnCreationCooldown();
+        return enemies.size() < MAX_ENEMY_COUNT;
     }
 
     /**
@@ -146,7 +128,6 @@ public class EnemyManager implements Updateable {
      */
     public void addEnemy(final Enemy enemy) {
         ensureRunning("addEnemy");
-        updateEnemyCreationCooldownTimer();
 
         if (canCreateEnemy()) {
             enemies.add(enemy);
@@ -154,44 +135,36 @@ public class EnemyManager implements Updateable {
     }
 
     /**
-     * Creates a random {@link Enemy} (if allowed) and adds it to the managed
-     * list.
+     * Creates an {@link Enemy} (if allowed) aimed at the player and adds it to
+     * the managed list.
      *
-     * @param player The {@link Player} the {@link Enemy} will target.
-     */
-    public void createRandomEnemy(final Player player) {
-        ensureRunning("createRandomEnemy");
-        updateEnemyCreationCooldownTimer();
-
-        if (canCreateEnemy()) {
-            GamePanel gamePanel = GameManager.getInstance().getGamePanel();
-            Enemy newEnemy;
-            int enemyType = random.nextInt(3);
-
-            switch (enemyType) {
-                case 0 ->
-                    newEnemy = new RedMage.RedMageBuilder(gamePanel).build();
-                case 1 ->
-                    newEnemy = new BlueMage.BlueMageBuilder(gamePanel).build();
-                case 2 ->
-                    newEnemy = new MagentaMage.MagentaMageBuilder(gamePanel).build();
-                default ->
-                    throw new IllegalStateException("Switch-case recieved unexpected value: " + enemyType);
-            }
-
-            newEnemy.setPosition(getRandomSpawnPoint());
-            newEnemy.setTarget(player.getPosition());
-
-            int xMoveSpeed = random.nextInt(5);
-            boolean moveLeft = random.nextBoolean();
-
-            newEnemy.setVelocityX(moveLeft ? -xMoveSpeed : xMoveSpeed);
+     * @param type The type of enemy.
+     * @param x The enemy's x-coordinate.
+     * @param y The enemy's y-coordinate.
+     * @param velocityX The enemy's x-axis velocity.
+     * @param velocityY The enemy's y-axis velocity.
+     * @return The new enemy, or {@code null} if there are already
+     * {@link #MAX_ENEMY_COUNT} enemies.
+     */
+    public Enemy spawnEnemy(final EnemyType type, final double x, final double y, final double velocityX, final double velocityY) {
+        ensureRunning("spawnEnemy");
+
+        if (!canCreateEnemy()) {
+            return null;
+        }
 
-            enemies.add(newEnemy);
+        Enemy newEnemy = type.create(GameManager.getInstance().getGamePanel());
+        newEnemy.setPosition(x, y);
+        newEnemy.setVelocityX(velocityX);
+        newEnemy.setVelocityY(velocityY);
 
-            isOnCreationCooldown = true;
-            elapsedCreationCooldownMs = 0;
+        Player player = GameManager.getInstance().getPlayer();
+        if (player != null) {
+            newEnemy.aimAt(player.getCentreX(), player.getCentreY());
         }
+
+        enemies.add(newEnemy);
+        return newEnemy;
     }
 
     // ----- OVERRIDDEN METHODS -----
@@ -202,9 +175,9 @@ public class EnemyManager implements Updateable {
     public void update() {
         ensureRunning("update");
 
-        lastUpdateTime = System.currentTimeMillis();
-
-        createRandomEnemy(GameManager.getInstance().getPlayer());
+        if (stageRunner != null) {
+            stageRunner.update(this);
+        }
         updateEnemies();
     }
 
@@ -224,44 +197,54 @@ public class EnemyManager implements Updateable {
     }
 
     /**
-     * Updates the attack cooldown timer. This tracks how much time has passed
-     * since the last enemy was created.
+     * Loads the stage and starts it from the tick given by
+     * {@link #STAGE_START_TICK_PROPERTY}, if set. A stage that fails to load
+     * is reported and leaves the game without enemy waves.
      */
-    private void updateEnemyCreationCooldownTimer() {
-        if (isOnCreationCooldown) {
-            long currentTime = System.currentTimeMillis();
-            long deltaTime = currentTime - lastUpdateTime;
-
-            // Increment the cooldown timer
-            elapsedCreationCooldownMs += deltaTime;
-
-            // If the cooldown time is passed, reset the flag and elapsed time
-            if (elapsedCreationCooldownMs >= ENEMY_CREATION_COOLDOWN_MS) {
-                isOnCreationCooldown = false;
-                elapsedCreationCooldownMs = 0;
-            }
+    private void setUpStage() {
+        try {
+            stageRunner = new StageRunner(Stage.fromClasspath(STAGE_FILE_NAME));
+            stageRunner.seek(Math.max(Integer.getInteger(STAGE_START_TICK_PROPERTY, 0), 0));
+        } catch (IOException e) {
+            stageRunner = null;
+            System.err.println(String.format(
+                    "%s: Failed to load stage - %s",
+                    this.getClass().getName(),
+                    e.getMessage()
+            ));
         }
     }
 
     /**
-     * Updates the list of managed enemies and removes any defeated enemies.
+     * Updates the list of managed enemies, removes any defeated enemies and
+     * re-indexes the enemies that remain.
      */
     private void updateEnemies() {
         ensureRunning("updateEnemies");
 
+        GamePanel gamePanel = GameManager.getInstance().getGamePanel();
+        enemyGrid.clear(gamePanel.getWidth(), gamePanel.getHeight());
+
         if (enemies.isEmpty()) {
             return;
         }
 
+        ParticleManager particleManager = GameManager.getInstance().getParticleManager();
+
         enemies.removeIf(enemy -> {
             enemy.update();
-            return enemy.getCurrentHitPoints() <= 0;
-        });
-    }
 
-    private Point getRandomSpawnPoint() {
-        int x = random.nextInt(GameFrame.FRAME_HEIGHT);
-        int y = random.nextInt(GameFrame.FRAME_HEIGHT * 1 / 5, GameFrame.FRAME_HEIGHT * 3 / 5);
-        return new Point(x, y);
+            if (enemy.getCurrentHitPoints() > 0) {
+                enemyGrid.insert(enemy);
+                return false;
+            }
+
+            particleManager.emit(
+                    ParticleEffect.ENEMY_DEATH,
+                    enemy.getX() + enemy.getSpriteWidth() / 2.0,
+                    enemy.getY() + enemy.getSpriteHeight() / 2.0
+            );
+            return true;
+        });
     }
 }
@@ -9,10 +9,13 @@ import java.util.stream.Stream;
 
 import javax.swing.Timer;
 
+import com.rikuthin.collisions.CircleShape;
 import com.rikuthin.entities.Player;
+import com.rikuthin.entities.bullets.BulletPattern;
 import com.rikuthin.entities.bullets.BulletSpawner;
 import com.rikuthin.graphics.GameFrame;
 import com.rikuthin.graphics.dialogue.PauseMenuDialogue;
+import com.rikuthin.graphics.particles.ParticleEffect;
 import com.rikuthin.graphics.screens.subpanels.GamePanel;
 import com.rikuthin.graphics.screens.subpanels.InfoPanel;
 import com.rikuthin.interfaces.Updateable;
@@ -73,6 +76,15 @@ public class GameManager implements Updateable {
      * {@link GameManager} exists throughout the lifetime of the application.
      */
     private static GameManager instance;
+    /**
+     * The player's shots: single bullets straight up the screen that bend
+     * towards the nearest enemy.
+     */
+    private static final BulletPattern PLAYER_SHOT_PATTERN = new BulletPattern.BulletPatternBuilder()
+            .direction(90)
+            .speeds(20)
+            .homing(3)
+            .build();
 
     // ----- INSTANCE VARIABLES -----
     /**
@@ -87,6 +99,20 @@ public class GameManager implements Updateable {
      * and updating their movement over time.
      */
     private final BulletManager bulletManager;
+    /**
+     * Manages all short-lived visual particles (explosions, sparks, etc.).
+     * This instance owns the particle storage and is updated and rendered once
+     * per frame alongside the other managers.
+     */
+    private final ParticleManager particleManager;
+    /**
+     * Resolves collisions between bullets and the entities they can hit.
+     */
+    private final CollisionManager collisionManager;
+    /**
+     * Counts enemy bullets grazing the player.
+     */
+    private final GrazeManager grazeManager;
     /**
      * Represents the current state of the game. This determines what actions  
      * can be performed at any given time and helps enforce state-based logic.  
@@ -118,6 +144,9 @@ public class GameManager implements Updateable {
         currentState = GameState.NOT_INITIALIZED;
         enemyManager = new EnemyManager();
         bulletManager = new BulletManager();
+        particleManager = new ParticleManager();
+        collisionManager = new CollisionManager();
+        grazeManager = new GrazeManager();
     }
 
     // ----- GETTERS -----
@@ -137,6 +166,15 @@ public class GameManager implements Updateable {
         return gamePanel;
     }
 
+    /**
+     * Returns the panel that displays the player's status.
+     *
+     * @return The info panel.
+     */
+    public InfoPanel getInfoPanel() {
+        return infoPanel;
+    }
+
     /**
      * Returns the current active {@link Player}.
      *
@@ -157,6 +195,37 @@ public class GameManager implements Updateable {
         return bulletManager;
     }
 
+    /**
+     * Returns the manager of the game's particle effects.
+     *
+     * @return The particle manager.
+     */
+    public ParticleManager getParticleManager() {
+        ensureRunning("getParticleManager");
+        return particleManager;
+    }
+
+    /**
+     * Returns the manager that resolves collisions between bullets and
+     * entities.
+     *
+     * @return The collision manager.
+     */
+    public CollisionManager getCollisionManager() {
+        ensureRunning("getCollisionManager");
+        return collisionManager;
+    }
+
+    /**
+     * Returns the manager that counts bullets grazing the player.
+     *
+     * @return The graze manager.
+     */
+    public GrazeManager getGrazeManager() {
+        ensureRunning("getGrazeManager");
+        return grazeManager;
+    }
+
     // ----- BUSINESS LOGIC METHODS -----
     /**
      * Returns whether the game is currently initializing.
@@ -219,6 +288,8 @@ public class GameManager implements Updateable {
         initialisePlayer();
         enemyManager.init();
         bulletManager.init();
+        particleManager.init();
+        grazeManager.init();
         setGamePaused(false);
 
         // Initialization complete. Begin running.
@@ -236,6 +307,8 @@ public class GameManager implements Updateable {
             player = null;
             enemyManager.clear();
             bulletManager.clear();
+            particleManager.clear();
+            grazeManager.clear();
         }
     }
 
@@ -249,6 +322,20 @@ public class GameManager implements Updateable {
         setGamePaused(true);
     }
 
+    /**
+     * Uses one of the player's bombs, if they have any left, cancelling every
+     * enemy bullet on screen and leaving score items in their place.
+     */
+    public void useBomb() {
+        ensureRunning("useBomb");
+
+        if (player == null || !player.useBomb()) {
+            return;
+        }
+        bulletManager.cancelHostileBullets(ParticleEffect.SCORE_ITEM);
+        infoPanel.updateBombDisplay(player.getBombCount());
+    }
+
     // ----- OVERRIDDEN METHODS -----
     /**
      * Updates all managed objects and the current game state.
@@ -262,6 +349,9 @@ public class GameManager implements Updateable {
         }
         enemyManager.update();
         bulletManager.update();
+        grazeManager.update();
+        collisionManager.update();
+        particleManager.update();
     }
 
     // ----- HELPER METHODS -----
@@ -319,6 +409,10 @@ public class GameManager implements Updateable {
                 .maxHitPoints(20)
                 .currentHitPoints(20)
                 .build();
+        player.setCollisionShape(CircleShape.centredIn(
+                player.getCurrentAnimation().getCurrentFrame().getOpaqueBounds(),
+                Player.HITBOX_RADIUS
+        ));
 
         // Trying to do this dynamically wasn't working, so hard-coding for now
         int x = (GameFrame.FRAME_HEIGHT / 2) - (player.getSpriteWidth() / 2);
@@ -326,16 +420,14 @@ public class GameManager implements Updateable {
 
         player.setPosition(new Point(x, y));
 
-        HashSet<String> playerBulletAnimationKeys = Stream.of("player-bullet").collect(Collectors.toCollection(HashSet::new));
-
-        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(gamePanel, player)
+        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(player)
                 .bulletDamage(1)
-                .bulletVelocityY(20)
-                .bulletAnimationKeys(playerBulletAnimationKeys)
+                .bulletPattern(PLAYER_SHOT_PATTERN)
                 .currentBulletAnimationKey("player-bullet")
                 .build();
 
         player.setBulletSpawner(spawner);
+        infoPanel.updateBombDisplay(player.getBombCount());
     }
 
     /**
@@ -362,16 +454,38 @@ public class GameManager implements Updateable {
      * @param paused Whether the game should be paused.
      */
     private void setGamePaused(boolean paused) {
+        TransitionManager transitionManager = getTransitionManager();
+
         if (paused) {
+            // Capture the frozen frame while everything still renders normally
+            if (transitionManager != null) {
+                transitionManager.dim(gamePanel.getParent());
+            }
             currentState = GameState.PAUSED;
             stopGameplayTimer();
             showPauseMenu();
         } else {
+            if (transitionManager != null) {
+                transitionManager.clearDim();
+            }
             currentState = GameState.RUNNING;
             startGameplayTimer();
         }
     }
 
+    /**
+     * Returns the {@link TransitionManager} of the window displaying the game.
+     *
+     * @return The transition manager, or {@code null} if the game panel is not
+     * currently inside a {@link GameFrame}.
+     */
+    private TransitionManager getTransitionManager() {
+        if (gamePanel != null && gamePanel.getTopLevelAncestor() instanceof GameFrame gameFrame) {
+            return gameFrame.getTransitionManager();
+        }
+        return null;
+    }
+
     /**
      * Starts the current gameplay timer.
      */
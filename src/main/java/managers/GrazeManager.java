@@ -0,0 +1,120 @@
+package managers;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.ArrayList;
+
+import com.rikuthin.entities.Player;
+import com.rikuthin.entities.bullets.Bullet;
+import com.rikuthin.graphics.screens.subpanels.InfoPanel;
+import com.rikuthin.interfaces.Updateable;
+
+/**
+ * Detects enemy bullets grazing the player (passing within
+ * {@link Player#GRAZE_RADIUS} of the centre of the player's hitbox) and
+ * reports the running graze count to the {@link InfoPanel}.
+ * <p>
+ * Only the bullets near the player are examined: the candidates come from a
+ * radius query on {@link BulletManager#getHostileBulletGrid()}, so the cost
+ * of a tick does not grow with the number of bullets elsewhere on screen.
+ * Each bullet is counted once per lifetime, using its grazed flag.
+ * <p>
+ * Runs after the bullets have moved and before collisions are resolved, so a
+ * bullet that hits the player also counts as a graze on its way in.
+ */
+public class GrazeManager implements Updateable {
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * How many bullets have grazed the player this game.
+     */
+    private int grazeCount;
+    /**
+     * Receives the bullets near the player each tick. Reused across ticks.
+     */
+    private final ArrayList<Bullet> nearbyBullets;
+
+    // ----- CONSTRUCTORS -----
+    public GrazeManager() {
+        nearbyBullets = new ArrayList<>();
+        init();
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns how many bullets have grazed the player this game.
+     *
+     * @return The graze count.
+     */
+    public int getGrazeCount() {
+        return grazeCount;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Initializes the GrazeManager for a new game by resetting the graze count.
+     */
+    public final void init() {
+        clear();
+    }
+
+    /**
+     * Clears old graze data.
+     */
+    public final void clear() {
+        grazeCount = 0;
+        nearbyBullets.clear();
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Counts the bullets grazing the player for the first time and updates
+     * the HUD if any did.
+     */
+    @Override
+    public void update() {
+        ensureRunning("update");
+
+        GameManager gameManager = GameManager.getInstance();
+        Player player = gameManager.getPlayer();
+        if (player == null || player.getCurrentHitPoints() == 0) {
+            return;
+        }
+
+        gameManager.getBulletManager().getHostileBulletGrid().queryCircle(
+                player.getHitbox().getCenterX(),
+                player.getHitbox().getCenterY(),
+                Player.GRAZE_RADIUS,
+                nearbyBullets
+        );
+
+        int newGrazes = 0;
+        for (int i = 0; i < nearbyBullets.size(); i++) {
+            Bullet bullet = nearbyBullets.get(i);
+            if (!bullet.isGrazed()) {
+                bullet.markGrazed();
+                newGrazes++;
+            }
+        }
+        nearbyBullets.clear();
+
+        if (newGrazes > 0) {
+            grazeCount += newGrazes;
+            gameManager.getInfoPanel().updateGrazeDisplay(grazeCount);
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    private void ensureRunning(String methodName) {
+        if (!GameManager.getInstance().isRunning()) {
+            StackWalker walker = StackWalker.getInstance();
+            StackFrame caller = walker.walk(frames -> frames.skip(1).findFirst().orElse(null));
+
+            throw new IllegalStateException(String.format(
+                    "%s.%s: Cannot call %s() when GameManager is not in the RUNNING state.",
+                    caller != null ? caller.getClassName() : "UnknownClass",
+                    caller != null ? caller.getMethodName() : "UnknownMethod",
+                    methodName
+            ));
+        }
+    }
+}
@@ -5,7 +5,9 @@ import java.awt.Image;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Files;
 
 import javax.imageio.ImageIO;
 import javax.swing.ImageIcon;
@@ -66,6 +68,33 @@ public class ImageManager {
         return bufferedImage;
     }
 
+    /**
+     * Reads the raw (undecoded) bytes of an image file, looking it up the same
+     * way as {@link #loadBufferedImage(String)}: first as a classpath
+     * resource, then as a regular file.
+     *
+     * @param filepath The file path (relative or absolute).
+     * @return The file's contents.
+     * @throws IOException If the file cannot be found or read.
+     */
+    public static byte[] loadBytes(final String filepath) throws IOException {
+        if (filepath == null || filepath.isEmpty()) {
+            throw new IOException("ImageManager: Must provide a file path.");
+        }
+
+        try (InputStream stream = ImageManager.class.getResourceAsStream(filepath)) {
+            if (stream != null) {
+                return stream.readAllBytes();
+            }
+        }
+
+        File file = new File(filepath);
+        if (!file.exists()) {
+            throw new IOException("ImageManager: File not found: " + filepath);
+        }
+        return Files.readAllBytes(file.toPath());
+    }
+
     /**
      * Makes a copy of the given BufferedImage.
      *
@@ -0,0 +1,329 @@
+package managers;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.lang.StackWalker.StackFrame;
+
+import com.rikuthin.graphics.particles.ParticleEffect;
+import com.rikuthin.interfaces.Renderable;
+import com.rikuthin.interfaces.Updateable;
+
+/**
+ * Manages short-lived visual particles (explosions, sparks, etc.).
+ * <p>
+ * Particle state is stored as parallel primitive arrays (structure of arrays)
+ * with a fixed capacity. New particles are allocated from a ring: when every
+ * slot is in use the oldest slot is overwritten, so emitting never allocates
+ * and never fails. Updating is a single loop over the arrays.
+ */
+public class ParticleManager implements Updateable, Renderable {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The default maximum number of live particles. Must be a power of two.
+     */
+    public static final int DEFAULT_CAPACITY = 1 << 15;
+    /**
+     * How many precomputed unit directions particles can be emitted along.
+     * Must be a power of two.
+     */
+    private static final int DIRECTION_COUNT = 256;
+    /**
+     * The x-components of the precomputed unit directions.
+     */
+    private static final float[] DIRECTION_X = new float[DIRECTION_COUNT];
+    /**
+     * The y-components of the precomputed unit directions.
+     */
+    private static final float[] DIRECTION_Y = new float[DIRECTION_COUNT];
+    /**
+     * Cached copy of {@link ParticleEffect#values()} (avoids cloning the array
+     * every lookup).
+     */
+    private static final ParticleEffect[] EFFECTS = ParticleEffect.values();
+
+    static {
+        for (int i = 0; i < DIRECTION_COUNT; i++) {
+            double radians = 2 * Math.PI * i / DIRECTION_COUNT;
+            DIRECTION_X[i] = (float) Math.cos(radians);
+            DIRECTION_Y[i] = (float) Math.sin(radians);
+        }
+    }
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The maximum number of live particles.
+     */
+    private final int capacity;
+    /**
+     * Bit mask used to wrap slot indices around the ring.
+     */
+    private final int indexMask;
+    /**
+     * The x-coordinate of each particle's centre.
+     */
+    private final float[] x;
+    /**
+     * The y-coordinate of each particle's centre.
+     */
+    private final float[] y;
+    /**
+     * The x-axis velocity of each particle (in screen coordinates).
+     */
+    private final float[] velocityX;
+    /**
+     * The y-axis velocity of each particle (in screen coordinates).
+     */
+    private final float[] velocityY;
+    /**
+     * How many ticks each particle has left to live. Slots with a value of 0
+     * are free.
+     */
+    private final int[] remainingTicks;
+    /**
+     * The total lifetime of each particle (in ticks).
+     */
+    private final int[] lifetimeTicks;
+    /**
+     * The {@link ParticleEffect} ordinal of each particle.
+     */
+    private final byte[] effects;
+    /**
+     * The next slot to allocate.
+     */
+    private int head;
+    /**
+     * One past the highest slot that may hold a live particle.
+     */
+    private int highWater;
+    /**
+     * How many particles are currently alive.
+     */
+    private int liveCount;
+    /**
+     * State of the xorshift generator used to randomise emitted particles.
+     */
+    private int randomState;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a particle manager with the {@link #DEFAULT_CAPACITY}.
+     */
+    public ParticleManager() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a particle manager with the given capacity.
+     *
+     * @param capacity The maximum number of live particles. Must be a positive
+     * power of two.
+     * @throws IllegalArgumentException if the capacity is not a positive power
+     * of two.
+     */
+    public ParticleManager(final int capacity) throws IllegalArgumentException {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(String.format(
+                    "%s: Capacity must be a positive power of two.",
+                    this.getClass().getName()
+            ));
+        }
+
+        this.capacity = capacity;
+        this.indexMask = capacity - 1;
+        this.x = new float[capacity];
+        this.y = new float[capacity];
+        this.velocityX = new float[capacity];
+        this.velocityY = new float[capacity];
+        this.remainingTicks = new int[capacity];
+        this.lifetimeTicks = new int[capacity];
+        this.effects = new byte[capacity];
+        init();
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns the maximum number of live particles.
+     *
+     * @return The capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns how many particles are currently alive.
+     *
+     * @return The live particle count.
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Initializes the ParticleManager for a new game. This method clears old
+     * particle data.
+     */
+    public final void init() {
+        randomState = (int) System.nanoTime() | 1;
+        clear();
+    }
+
+    /**
+     * Clears old particle data.
+     */
+    public final void clear() {
+        for (int i = 0; i < highWater; i++) {
+            remainingTicks[i] = 0;
+        }
+        head = 0;
+        highWater = 0;
+        liveCount = 0;
+    }
+
+    /**
+     * Emits a single burst of the given effect centred on the given point.
+     * <p>
+     * If there are not enough free slots, the oldest particles are replaced.
+     *
+     * @param effect The effect to emit.
+     * @param originX The x-coordinate of the burst's centre.
+     * @param originY The y-coordinate of the burst's centre.
+     */
+    public void emit(final ParticleEffect effect, final double originX, final double originY) {
+        ensureRunning("emit");
+
+        if (effect == null) {
+            return;
+        }
+
+        final int count = Math.min(effect.getCount(), capacity);
+        final float speedRange = effect.getMaxSpeed() - effect.getMinSpeed();
+        final int lifetimeRange = effect.getMaxLifetimeTicks() - effect.getMinLifetimeTicks() + 1;
+        final byte ordinal = (byte) effect.ordinal();
+
+        for (int n = 0; n < count; n++) {
+            final int i = head;
+            head = (head + 1) & indexMask;
+
+            if (remainingTicks[i] <= 0) {
+                liveCount++;
+            }
+            if (i >= highWater) {
+                highWater = i + 1;
+            }
+
+            final int direction = nextRandom() & (DIRECTION_COUNT - 1);
+            final float speed = effect.getMinSpeed() + speedRange * nextUnitFloat();
+            final int lifetime = effect.getMinLifetimeTicks() + Math.floorMod(nextRandom(), lifetimeRange);
+
+            x[i] = (float) originX;
+            y[i] = (float) originY;
+            velocityX[i] = DIRECTION_X[direction] * speed;
+            velocityY[i] = DIRECTION_Y[direction] * speed;
+            remainingTicks[i] = lifetime;
+            lifetimeTicks[i] = lifetime;
+            effects[i] = ordinal;
+        }
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Advances every live particle by one tick and frees expired ones.
+     */
+    @Override
+    public void update() {
+        ensureRunning("update");
+
+        if (liveCount == 0) {
+            head = 0;
+            highWater = 0;
+            return;
+        }
+
+        for (int i = 0; i < highWater; i++) {
+            int remaining = remainingTicks[i];
+            if (remaining <= 0) {
+                continue;
+            }
+
+            remaining--;
+            remainingTicks[i] = remaining;
+            if (remaining == 0) {
+                liveCount--;
+                continue;
+            }
+
+            final float drag = EFFECTS[effects[i]].getDrag();
+            x[i] += velocityX[i];
+            y[i] += velocityY[i];
+            velocityX[i] *= drag;
+            velocityY[i] *= drag;
+        }
+    }
+
+    /**
+     * Draws every live particle using its effect's pre-rendered sprites.
+     *
+     * @param g2d The graphics context to draw on.
+     */
+    @Override
+    public void render(final Graphics2D g2d) {
+        if (g2d == null || liveCount == 0) {
+            return;
+        }
+
+        for (int i = 0; i < highWater; i++) {
+            final int remaining = remainingTicks[i];
+            if (remaining <= 0) {
+                continue;
+            }
+
+            final ParticleEffect effect = EFFECTS[effects[i]];
+            final int fadeLevel = (remaining * ParticleEffect.FADE_LEVELS - 1) / lifetimeTicks[i];
+            final BufferedImage sprite = effect.getSprite(fadeLevel);
+            final int halfSize = effect.getSize() / 2;
+
+            g2d.drawImage(sprite, (int) x[i] - halfSize, (int) y[i] - halfSize, null);
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    private void ensureRunning(String methodName) {
+        if (!GameManager.getInstance().isRunning()) {
+            StackWalker walker = StackWalker.getInstance();
+            StackFrame caller = walker.walk(frames -> frames.skip(1).findFirst().orElse(null));
+
+            throw new IllegalStateException(String.format(
+                    "%s.%s: Cannot call %s() when GameManager is not in the RUNNING state.",
+                    caller != null ? caller.getClassName() : "UnknownClass",
+                    caller != null ? caller.getMethodName() : "UnknownMethod",
+                    methodName
+            ));
+        }
+    }
+
+    /**
+     * Advances the xorshift generator.
+     *
+     * @return The next pseudo-random integer.
+     */
+    private int nextRandom() {
+        int r = randomState;
+        r ^= r << 13;
+        r ^= r >>> 17;
+        r ^= r << 5;
+        randomState = r;
+        return r;
+    }
+
+    /**
+     * Returns a pseudo-random float in the range [0, 1).
+     *
+     * @return The random value.
+     */
+    private float nextUnitFloat() {
+        return (nextRandom() >>> 8) * 0x1.0p-24f;
+    }
+}
@@ -3,9 +3,12 @@ package managers;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import javax.sound.sampled.AudioFormat;
 import javax.sound.sampled.AudioInputStream;
@@ -38,7 +41,8 @@ public class SoundManager {
 
     // ----- INSTANCE VARIABLES -----
     /**
-     * Stores audio clips mapped by their unique keys.
+     * Stores audio clips mapped by their unique keys. Concurrent, as clips
+     * are loaded from background threads.
      */
     private final Map<String, Clip> clips;
 
@@ -52,17 +56,23 @@ public class SoundManager {
      * Private constructor to enforce the singleton pattern.
      */
     private SoundManager() {
-        clips = new HashMap<>();
+        clips = new ConcurrentHashMap<>();
         volume = 1.0f; // Default volume
-        loadDefaultClips();
     }
 
     /**
-     * Loads the default audio clips when the sound manager is initialized.
+     * Starts loading the default audio clips in parallel on the given
+     * executor. Each clip becomes available for playback as soon as its future
+     * completes.
+     *
+     * @param executor The executor used to decode the clips.
+     * @return One future per clip.
      */
-    private void loadDefaultClips() {
-        loadAndStoreClip("goblinsDance", "Goblins_Dance_(Battle).wav");
-        loadAndStoreClip("goblinsDen", "Goblins_Den_(Regular).wav");
+    public List<CompletableFuture<Void>> loadDefaultClipsAsync(final Executor executor) {
+        return List.of(
+                CompletableFuture.runAsync(() -> loadAndStoreClip("goblinsDance", "Goblins_Dance_(Battle).wav"), executor),
+                CompletableFuture.runAsync(() -> loadAndStoreClip("goblinsDen", "Goblins_Den_(Regular).wav"), executor)
+        );
     }
 
     // ----- SINGLETON GETTER -----
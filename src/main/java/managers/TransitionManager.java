@@ -0,0 +1,222 @@
+package managers;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import com.rikuthin.graphics.transitions.CrossFadeTransition;
+import com.rikuthin.graphics.transitions.DimTransition;
+import com.rikuthin.graphics.transitions.FadeTransition;
+import com.rikuthin.graphics.transitions.Transition;
+import com.rikuthin.interfaces.Renderable;
+import com.rikuthin.interfaces.Updateable;
+
+/**
+ * Manages full-screen transitions for a game window: fades, cross-fades
+ * between screens and dimming while the game is paused.
+ * <p>
+ * Snapshots of screens are painted into offscreen layers that are allocated
+ * once and reused, and every transition is drawn with composite state, so the
+ * per-frame cost is constant regardless of what is on screen.
+ */
+public class TransitionManager implements Updateable, Renderable {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * How many ticks a screen cross-fade takes.
+     */
+    public static final int CROSS_FADE_TICKS = 20;
+    /**
+     * How many ticks a fade in or out takes.
+     */
+    public static final int FADE_TICKS = 30;
+    /**
+     * How many ticks it takes to dim the screen when pausing.
+     */
+    public static final int DIM_TICKS = 10;
+    /**
+     * The opacity of the dimming overlay while paused.
+     */
+    public static final float DIM_ALPHA = 0.5f;
+
+    // ----- INSTANCE VARIABLES -----
+    /**
+     * The width of the transition layers.
+     */
+    private final int width;
+    /**
+     * The height of the transition layers.
+     */
+    private final int height;
+    /**
+     * The cached layer holding the outgoing screen during a cross-fade.
+     */
+    private BufferedImage crossFadeLayer;
+    /**
+     * The cached layer holding the frozen screen while dimmed.
+     */
+    private BufferedImage dimLayer;
+    /**
+     * The active screen transition (fade or cross-fade), if any.
+     */
+    private Transition screenTransition;
+    /**
+     * The active dimming transition, if any.
+     */
+    private Transition dimTransition;
+    /**
+     * Whether a screen is currently being painted into a layer. Overlays are
+     * skipped during capture so a layer never draws into itself.
+     */
+    private boolean isCapturing;
+
+    // ----- CONSTRUCTORS -----
+    /**
+     * Creates a transition manager for a window of the given size.
+     *
+     * @param width The window width.
+     * @param height The window height.
+     */
+    public TransitionManager(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+    }
+
+    // ----- GETTERS -----
+    /**
+     * Returns whether a screen transition (fade or cross-fade) is in progress.
+     *
+     * @return {@code true} if transitioning, {@code false} otherwise.
+     */
+    public boolean isTransitioning() {
+        return screenTransition != null;
+    }
+
+    /**
+     * Returns whether the screen is currently dimmed.
+     *
+     * @return {@code true} if dimmed, {@code false} otherwise.
+     */
+    public boolean isDimmed() {
+        return dimTransition != null;
+    }
+
+    // ----- BUSINESS LOGIC METHODS -----
+    /**
+     * Starts fading in from the given colour.
+     *
+     * @param colour The colour to fade in from.
+     */
+    public void fadeIn(final Color colour) {
+        screenTransition = FadeTransition.fadeIn(colour, width, height, FADE_TICKS);
+    }
+
+    /**
+     * Starts fading out to the given colour. The colour is held until another
+     * screen transition starts.
+     *
+     * @param colour The colour to fade out to.
+     */
+    public void fadeOut(final Color colour) {
+        screenTransition = FadeTransition.fadeOut(colour, width, height, FADE_TICKS);
+    }
+
+    /**
+     * Captures the outgoing screen and starts cross-fading from it to whatever
+     * is drawn next. Should be called before the outgoing screen is removed.
+     *
+     * @param outgoingScreen The screen being replaced.
+     */
+    public void crossFadeFrom(final Component outgoingScreen) {
+        if (outgoingScreen == null) {
+            return;
+        }
+        crossFadeLayer = captureInto(crossFadeLayer, outgoingScreen);
+        screenTransition = new CrossFadeTransition(crossFadeLayer, CROSS_FADE_TICKS);
+    }
+
+    /**
+     * Captures the given screen and starts dimming a frozen copy of it. Should
+     * be called while the screen still renders normally.
+     *
+     * @param screen The screen to dim.
+     */
+    public void dim(final Component screen) {
+        if (screen == null) {
+            return;
+        }
+        dimLayer = captureInto(dimLayer, screen);
+        dimTransition = new DimTransition(dimLayer, DIM_ALPHA, DIM_TICKS);
+    }
+
+    /**
+     * Removes any dimming.
+     */
+    public void clearDim() {
+        dimTransition = null;
+    }
+
+    // ----- OVERRIDDEN METHODS -----
+    /**
+     * Advances the active transitions and discards finished ones.
+     */
+    @Override
+    public void update() {
+        if (screenTransition != null) {
+            screenTransition.update();
+            if (screenTransition.isFinished() && !screenTransition.isHeld()) {
+                screenTransition = null;
+            }
+        }
+
+        if (dimTransition != null) {
+            dimTransition.update();
+        }
+    }
+
+    /**
+     * Draws the active transitions over the current frame.
+     *
+     * @param g2d The graphics context to draw on.
+     */
+    @Override
+    public void render(final Graphics2D g2d) {
+        if (g2d == null || isCapturing) {
+            return;
+        }
+
+        if (dimTransition != null) {
+            dimTransition.render(g2d);
+        }
+        if (screenTransition != null) {
+            screenTransition.render(g2d);
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Paints a component into a cached layer, allocating the layer on first
+     * use only.
+     *
+     * @param layer The cached layer (may be {@code null}).
+     * @param component The component to paint.
+     * @return The layer holding the painted component.
+     */
+    private BufferedImage captureInto(BufferedImage layer, final Component component) {
+        if (layer == null) {
+            layer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        }
+
+        Graphics2D g2d = layer.createGraphics();
+        isCapturing = true;
+        try {
+            g2d.clearRect(0, 0, width, height);
+            component.paint(g2d);
+        } finally {
+            isCapturing = false;
+            g2d.dispose();
+        }
+        return layer;
+    }
+}
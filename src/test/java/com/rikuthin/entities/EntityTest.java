@@ -0,0 +1,40 @@
+package com.rikuthin.entities;
+
+import static org.junit.Assert.assertTrue;
+
+import javax.swing.JPanel;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.rikuthin.graphics.animations.AnimationLoader;
+
+import managers.AnimationManager;
+
+/**
+ * Unit tests for {@link Entity}'s animation key set.
+ */
+public class EntityTest {
+
+    // ----- SET UP -----
+    /**
+     * Loads the animations the tests refer to.
+     */
+    @BeforeClass
+    public static void loadAnimations() {
+        AnimationLoader.loadDefaultAnimations();
+    }
+
+    // ----- TESTS -----
+    @Test
+    public void addedAnimationKeyCanBeSelectedByHandle() {
+        Player player = new Player.PlayerBuilder(new JPanel()).build();
+        int handle = AnimationManager.getInstance().intern("player-idle");
+
+        player.addAnimationKey("player-idle");
+        player.setAnimation(handle);
+
+        assertTrue("Added key is not in the key set", player.getAnimationKeys().contains("player-idle"));
+        assertTrue("Added key was not selected", "player-idle".equals(player.getCurrentAnimationKey()));
+    }
+}
@@ -0,0 +1,96 @@
+package com.rikuthin.scripting;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AttackScript}'s parser, covering the bundled scripts
+ * and the errors reported for malformed ones.
+ */
+public class AttackScriptTest {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The scripts bundled with the game.
+     */
+    private static final String[] BUNDLED_SCRIPTS = {"blue-mage.attack", "magenta-mage.attack", "red-mage.attack"};
+    /**
+     * Malformed scripts, each paired with the error it must be reported with.
+     */
+    private static final String[][] MALFORMED_SCRIPTS = {
+        {"wait -1", "AttackScript: bad:1: Expected a non-negative number but found <'-1'>."},
+        {"wait 1\nfire nope", "AttackScript: bad:2: Undeclared pattern <'nope'>."},
+        {"jump nowhere", "AttackScript: bad: Undeclared label <'nowhere'>."},
+        {"set r9 1", "AttackScript: bad:1: Expected a register <r0> to <r7> but found <'r9'>."},
+        {"pattern p ring", "AttackScript: bad:1: Missing operand for <'ring'>."},
+        {"# a comment\n\nfrobnicate", "AttackScript: bad:3: Unknown instruction <'frobnicate'>."},
+        {"pattern p ring 3 speeds", "AttackScript: bad:1: Expected at least one speed after <'speeds'>."}
+    };
+
+    // ----- TESTS -----
+    @Test
+    public void bundledScriptsParse() throws IOException {
+        for (String fileName : BUNDLED_SCRIPTS) {
+            AttackScript script = AttackScript.fromClasspath(fileName);
+            assertTrue(fileName + " should compile to some code", script.getCodeLength() > 0);
+            assertTrue(fileName + " should be cached", AttackScript.fromClasspath(fileName) == script);
+        }
+    }
+
+    @Test
+    public void missingScriptIsReported() {
+        String message = parseError(() -> AttackScript.fromClasspath("missing.attack"));
+        assertTrue(
+                "Unexpected error: " + message,
+                "AttackScript: Could not find script: /scripts/missing.attack".equals(message)
+        );
+    }
+
+    @Test
+    public void malformedScriptsAreReported() {
+        for (String[] malformed : MALFORMED_SCRIPTS) {
+            String message = parseError(() -> AttackScript.parse(new BufferedReader(new StringReader(malformed[0])), "bad"));
+            assertTrue(
+                    String.format("<'%s'>: expected <%s>, got <%s>", malformed[0], malformed[1], message),
+                    malformed[1].equals(message)
+            );
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Runs a parse that must fail and returns its error message.
+     *
+     * @param parse The parse.
+     * @return The message of the {@link IOException} it threw, or
+     * {@code null} if it succeeded.
+     */
+    private static String parseError(final Parse parse) {
+        try {
+            parse.run();
+            return null;
+        } catch (IOException e) {
+            return e.getMessage();
+        }
+    }
+
+    // ----- HELPER INTERFACES -----
+    /**
+     * A parse that may fail.
+     */
+    @FunctionalInterface
+    private interface Parse {
+
+        /**
+         * Runs the parse.
+         *
+         * @throws IOException If the source is malformed.
+         */
+        void run() throws IOException;
+    }
+}
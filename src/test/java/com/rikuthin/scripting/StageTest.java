@@ -0,0 +1,82 @@
+package com.rikuthin.scripting;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Stage}'s parser, covering the bundled stage and the
+ * errors reported for malformed ones.
+ */
+public class StageTest {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * Declarations shared by the malformed stages, so that each fails only on
+     * its own line.
+     */
+    private static final String DECLARATIONS = "formation f point\npath p move 0 1\n";
+    /**
+     * Malformed stages, each paired with the error it must be reported with.
+     * Line numbers count the two lines of {@link #DECLARATIONS}.
+     */
+    private static final String[][] MALFORMED_STAGES = {
+        {"wave red-mage nope 0 0 p", "Stage: bad:3: Undeclared formation <'nope'>."},
+        {"formation g line 0 1 1", "Stage: bad:3: Expected a positive number but found <'0'>."},
+        {"path q move 1 1 for 3", "Stage: bad:3: The last leg of a path cannot have a duration."},
+        {"path q move 1 1 move 2 2", "Stage: bad:3: Only the last leg of a path can last forever."},
+        {"wave green-mage f 0 0 p", "Stage: bad:3: Unknown enemy type <'green-mage'>."},
+        {"at 5\nloop 5", "Stage: bad:4: Cannot loop back to tick 5 from tick 5."},
+        {"frob", "Stage: bad:3: Unknown instruction <'frob'>."}
+    };
+
+    // ----- TESTS -----
+    @Test
+    public void bundledStageParses() throws IOException {
+        Stage stage = Stage.fromClasspath("stage-1.stage");
+        assertTrue("The stage should have events", stage.getEventCount() > 0);
+        assertTrue("The stage should repeat", stage.getLoopTick() != Stage.NO_LOOP);
+        assertTrue("The stage should repeat from before its end", stage.getLoopTick() < stage.getLength());
+        for (int i = 1; i < stage.getEventCount(); i++) {
+            assertTrue(
+                    String.format("Event %d is due before event %d", i, i - 1),
+                    stage.getEventTick(i) >= stage.getEventTick(i - 1)
+            );
+        }
+    }
+
+    @Test
+    public void eventsAreFoundByTick() throws IOException {
+        Stage stage = Stage.parse(new BufferedReader(new StringReader(
+                DECLARATIONS + "at 10\nwave red-mage f 0 0 p\nwait 20\nwave blue-mage f 0 0 p\n"
+        )), "two-waves");
+        assertTrue("There should be two events", stage.getEventCount() == 2);
+        assertTrue("The first event should be due at tick 10", stage.getEventTick(0) == 10);
+        assertTrue("The second event should be due at tick 30", stage.getEventTick(1) == 30);
+        assertTrue("Tick 0 should find the first event", stage.findFirstEvent(0) == 0);
+        assertTrue("Tick 10 should find the first event", stage.findFirstEvent(10) == 0);
+        assertTrue("Tick 11 should find the second event", stage.findFirstEvent(11) == 1);
+        assertTrue("Tick 31 should find no event", stage.findFirstEvent(31) == stage.getEventCount());
+    }
+
+    @Test
+    public void malformedStagesAreReported() {
+        for (String[] malformed : MALFORMED_STAGES) {
+            String message;
+            try {
+                Stage.parse(new BufferedReader(new StringReader(DECLARATIONS + malformed[0])), "bad");
+                message = null;
+            } catch (IOException e) {
+                message = e.getMessage();
+            }
+            assertTrue(
+                    String.format("<'%s'>: expected <%s>, got <%s>", malformed[0], malformed[1], message),
+                    malformed[1].equals(message)
+            );
+        }
+    }
+}
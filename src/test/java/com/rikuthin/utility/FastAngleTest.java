@@ -0,0 +1,102 @@
+package com.rikuthin.utility;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link FastAngle}, checked against {@link Math}'s
+ * trigonometry over the whole range of binary angles.
+ */
+public class FastAngleTest {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * How many binary angles are sampled across a full turn. The stride
+     * between them is odd, so the samples land on every offset between two
+     * sine table entries.
+     */
+    private static final int SAMPLES = 1 << 18;
+    /**
+     * The largest error allowed in {@link FastAngle#sin(int)} and
+     * {@link FastAngle#cos(int)}, as documented.
+     */
+    private static final double TRIG_TOLERANCE = 3e-7;
+    /**
+     * The largest error allowed in {@link FastAngle#atan2(double, double)},
+     * in radians, as documented.
+     */
+    private static final double ATAN_TOLERANCE = 1e-6;
+
+    // ----- TESTS -----
+    @Test
+    public void sinAndCosStayWithinTheirErrorBound() {
+        int stride = (int) ((1L << 32) / SAMPLES) + 1;
+        int angle = Integer.MIN_VALUE;
+        for (int i = 0; i < SAMPLES; i++, angle += stride) {
+            double radians = FastAngle.toRadians(angle);
+            double sinError = Math.abs(FastAngle.sin(angle) - Math.sin(radians));
+            double cosError = Math.abs(FastAngle.cos(angle) - Math.cos(radians));
+            assertTrue(
+                    String.format("sin(%d): error %g", angle, sinError),
+                    sinError <= TRIG_TOLERANCE
+            );
+            assertTrue(
+                    String.format("cos(%d): error %g", angle, cosError),
+                    cosError <= TRIG_TOLERANCE
+            );
+        }
+    }
+
+    @Test
+    public void atan2StaysWithinItsErrorBound() {
+        for (int i = 0; i < SAMPLES; i++) {
+            double radians = 2 * Math.PI * i / SAMPLES;
+            double x = Math.cos(radians) * (1 + i % 7);
+            double y = Math.sin(radians) * (1 + i % 7);
+            // Subtracting binary angles wraps, so the error is right across the half turn
+            int difference = FastAngle.atan2(y, x) - FastAngle.fromRadians(Math.atan2(y, x));
+            double error = Math.abs(FastAngle.toRadians(difference));
+            assertTrue(
+                    String.format("atan2(%f, %f): error %g", y, x, error),
+                    error <= ATAN_TOLERANCE
+            );
+        }
+        assertTrue("atan2(0, 0) should be 0", FastAngle.atan2(0, 0) == 0);
+    }
+
+    @Test
+    public void anglesWrapAroundAFullTurn() {
+        assertTrue("180 degrees should be a half turn", FastAngle.fromDegrees(180) == FastAngle.HALF_TURN);
+        assertTrue("-180 degrees should be a half turn", FastAngle.fromDegrees(-180) == FastAngle.HALF_TURN);
+        assertTrue(
+                "Three quarter turns and a half turn should wrap to a quarter turn",
+                3 * FastAngle.QUARTER_TURN + FastAngle.HALF_TURN == FastAngle.QUARTER_TURN
+        );
+
+        for (double degrees = -720; degrees <= 720; degrees += 7.5) {
+            // Converting may round differently a turn apart, but never by more than a unit
+            int difference = FastAngle.fromDegrees(degrees + 360) - FastAngle.fromDegrees(degrees);
+            assertTrue(
+                    String.format("%f and %f degrees should be the same angle", degrees, degrees + 360),
+                    Math.abs(difference) <= 1
+            );
+
+            double wrapped = FastAngle.toDegrees(FastAngle.fromDegrees(degrees));
+            assertTrue(
+                    String.format("%f degrees should come back within [-180, 180), got %f", degrees, wrapped),
+                    wrapped >= -180 && wrapped < 180
+            );
+        }
+
+        // The table lookup must not index past either end of the turn
+        assertTrue(
+                "sin should be continuous across the half turn",
+                Math.abs(FastAngle.sin(Integer.MAX_VALUE) - FastAngle.sin(Integer.MIN_VALUE)) <= TRIG_TOLERANCE
+        );
+        assertTrue(
+                "sin should be continuous across a full turn",
+                Math.abs(FastAngle.sin(-1) - FastAngle.sin(0)) <= TRIG_TOLERANCE
+        );
+    }
+}
@@ -0,0 +1,123 @@
+package com.rikuthin.utility;
+
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link Kinematics}, checked against stepping the motion once
+ * per tick the way steered bullets are.
+ */
+public class KinematicsTest {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * The motions compared, each as {initial speed, acceleration, minimum
+     * speed, maximum speed}. They cover speeding up and slowing down from
+     * within, above and below the limits.
+     */
+    private static final double[][] MOTIONS = {
+        {2, 0.05, 0, 4},
+        {3, -0.05, 1, 4},
+        {2, -0.1, 0, Double.POSITIVE_INFINITY},
+        {6, -0.1, 0, 4},
+        {6, 0.1, 0, 4},
+        {0.5, 0.1, 1, 4},
+        {0.5, -0.1, 1, 4},
+        {6, 0, 0, 4},
+        {4.05, -0.1, 0, 4}
+    };
+    /**
+     * The most ticks each motion is stepped for.
+     */
+    private static final int STEPPED_TICKS = 400;
+    /**
+     * The distances whose travel times are compared.
+     */
+    private static final double[] DISTANCES = {0.3, 17.25, 123.456, 611.1};
+    /**
+     * The largest difference allowed between the stepped and closed-form
+     * distances.
+     */
+    private static final double TOLERANCE = 1e-9;
+
+    // ----- TESTS -----
+    @Test
+    public void distanceTravelledMatchesSteppedMotion() {
+        for (double[] motion : MOTIONS) {
+            double[] stepped = step(motion);
+            for (int ticks = 0; ticks <= STEPPED_TICKS; ticks++) {
+                double distance = Kinematics.distanceTravelled(ticks, motion[0], motion[1], motion[2], motion[3]);
+                assertTrue(
+                        String.format("%s after %d ticks: expected %f, got %f", describe(motion), ticks, stepped[ticks], distance),
+                        Math.abs(distance - stepped[ticks]) <= TOLERANCE * Math.max(1, stepped[ticks])
+                );
+            }
+        }
+    }
+
+    @Test
+    public void ticksToTravelMatchesSteppedMotion() {
+        for (double[] motion : MOTIONS) {
+            double[] stepped = step(motion);
+            for (double distance : DISTANCES) {
+                long expected = Kinematics.NEVER;
+                for (int ticks = 0; ticks <= STEPPED_TICKS && expected == Kinematics.NEVER; ticks++) {
+                    if (stepped[ticks] >= distance) {
+                        expected = ticks;
+                    }
+                }
+                // Beyond the stepped ticks, only a halted motion may never arrive
+                if (expected == Kinematics.NEVER && finalSpeed(motion) > 0) {
+                    continue;
+                }
+
+                long ticks = Kinematics.ticksToTravel(distance, motion[0], motion[1], motion[2], motion[3]);
+                assertTrue(
+                        String.format("%s to travel %f: expected %d ticks, got %d", describe(motion), distance, expected, ticks),
+                        ticks == expected
+                );
+            }
+        }
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Steps a motion once per tick: the speed changes by the acceleration and
+     * is clamped to the limits, and then the distance grows by that speed.
+     *
+     * @param motion The motion.
+     * @return The distance travelled after each number of ticks, from zero (0)
+     * to {@link #STEPPED_TICKS}.
+     */
+    private static double[] step(final double[] motion) {
+        double[] distances = new double[STEPPED_TICKS + 1];
+        double speed = motion[0];
+        for (int ticks = 1; ticks <= STEPPED_TICKS; ticks++) {
+            speed = Math.clamp(speed + motion[1], motion[2], motion[3]);
+            distances[ticks] = distances[ticks - 1] + speed;
+        }
+        return distances;
+    }
+
+    /**
+     * Returns a motion's speed after {@link #STEPPED_TICKS} ticks.
+     *
+     * @param motion The motion.
+     * @return The speed.
+     */
+    private static double finalSpeed(final double[] motion) {
+        double[] distances = step(motion);
+        return distances[STEPPED_TICKS] - distances[STEPPED_TICKS - 1];
+    }
+
+    /**
+     * Describes a motion for failure messages.
+     *
+     * @param motion The motion.
+     * @return The description.
+     */
+    private static String describe(final double[] motion) {
+        return String.format("Speed %s accelerating by %s within [%s, %s]", motion[0], motion[1], motion[2], motion[3]);
+    }
+}
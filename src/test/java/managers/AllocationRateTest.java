@@ -0,0 +1,442 @@
+package managers;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.rikuthin.entities.Player;
+import com.rikuthin.entities.bullets.Bullet;
+import com.rikuthin.entities.bullets.BulletPattern;
+import com.rikuthin.entities.bullets.BulletSpawner;
+import com.rikuthin.entities.enemies.BlueMage;
+import com.rikuthin.entities.enemies.Enemy;
+import com.rikuthin.entities.enemies.MagentaMage;
+import com.rikuthin.entities.enemies.RedMage;
+import com.rikuthin.graphics.GameFrame;
+import com.rikuthin.graphics.animations.AnimationClock;
+import com.rikuthin.graphics.animations.AnimationLoader;
+import com.rikuthin.graphics.screens.subpanels.GamePanel;
+import com.rikuthin.graphics.screens.subpanels.InfoPanel;
+import com.rikuthin.scripting.AttackScript;
+
+/**
+ * Allocation-rate regression tests for the per-tick hot paths.
+ * <p>
+ * Each test builds a steady-state scenario, warms the JIT up, and then
+ * measures how many bytes the ticking thread allocates per tick using
+ * {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()}.
+ * A test fails when the average exceeds its budget. The budgets are far below
+ * what a single allocation per entity per tick would cost, so any per-entity
+ * garbage on these paths is caught.
+ * <p>
+ * Most scenarios hold a fixed population of bullets and enemies that neither
+ * spawn, die nor leave the screen; between them they cover plain, steered
+ * and analytic bullets. The burst scenario instead fires a ring every tick
+ * and lets it fly off the screen, so spawning into reused storage and
+ * expiring bullets are measured too.
+ * <p>
+ * Budgets are in bytes per tick and can be overridden with the system
+ * properties {@code allocation.budget.bulletManager},
+ * {@code allocation.budget.enemyManager} and
+ * {@code allocation.budget.gameManager}. Everything runs on the Event Dispatch
+ * Thread, as the game does, so the gameplay timer never ticks concurrently
+ * with a measurement.
+ */
+public class AllocationRateTest {
+
+    // ----- STATIC VARIABLES -----
+    /**
+     * Prefix of the system properties overriding the budgets.
+     */
+    private static final String BUDGET_PROPERTY_PREFIX = "allocation.budget.";
+    /**
+     * Default budget for {@link BulletManager#update()}, in bytes per tick.
+     */
+    private static final long DEFAULT_BULLET_MANAGER_BUDGET = 256;
+    /**
+     * Default budget for {@link EnemyManager#update()}, in bytes per tick.
+     */
+    private static final long DEFAULT_ENEMY_MANAGER_BUDGET = 256;
+    /**
+     * Default budget for a full {@link GameManager#update()}, in bytes per
+     * tick.
+     */
+    private static final long DEFAULT_GAME_MANAGER_BUDGET = 512;
+    /**
+     * How many ticks to run before measuring, so the hot paths are compiled.
+     */
+    private static final int WARM_UP_TICKS = 20_000;
+    /**
+     * How many ticks to measure.
+     */
+    private static final int MEASURED_TICKS = 2_000;
+    /**
+     * How many bullets of each owner the scenarios contain.
+     */
+    private static final int BULLETS_PER_OWNER = 1_000;
+    /**
+     * Speed of the scenario's bullets, in pixels per tick. Fractional, to
+     * exercise sub-pixel motion, and slow enough that no bullet leaves its
+     * band of the screen during a test.
+     */
+    private static final double BULLET_SPEED = 0.0005;
+    /**
+     * How many bullets each ring of the burst scenario holds.
+     */
+    private static final int BURST_SIZE = 32;
+    /**
+     * A slow ring of bullets that curve, home in on the player and speed up
+     * to a still slow limit, so every steering step runs without the bullets
+     * leaving their part of the screen.
+     */
+    private static final BulletPattern STEERED_PATTERN = new BulletPattern.BulletPatternBuilder()
+            .ring(20)
+            .speeds(BULLET_SPEED)
+            .curve(1)
+            .homing(2)
+            .accelerate(BULLET_SPEED / 100)
+            .speedLimits(0, 2 * BULLET_SPEED)
+            .build();
+    /**
+     * A slow ring of bullets that speed up and sway, whose positions are
+     * evaluated in closed form.
+     */
+    private static final BulletPattern ANALYTIC_PATTERN = new BulletPattern.BulletPatternBuilder()
+            .ring(20)
+            .speeds(BULLET_SPEED)
+            .accelerate(BULLET_SPEED / 100_000)
+            .speedLimits(0, 2 * BULLET_SPEED)
+            .wave(3, 60)
+            .build();
+    /**
+     * A fast ring that leaves the screen within a few dozen ticks.
+     */
+    private static final BulletPattern BURST_PATTERN = new BulletPattern.BulletPatternBuilder()
+            .ring(BURST_SIZE)
+            .speeds(24)
+            .build();
+    /**
+     * An attack script that keeps the script runner busy every tick (turning,
+     * aiming, counting down registers and waiting) without ever firing, so the
+     * enemies' scripts are measured without adding bullets.
+     */
+    private static final String IDLE_ATTACK_SCRIPT = String.join("\n",
+            "start:",
+            "    set r0 3",
+            "spin:",
+            "    aim",
+            "    turn 15",
+            "    loop r0 spin",
+            "    wait 2",
+            "    jump start"
+    );
+
+    // ----- SET UP -----
+    /**
+     * Loads the animations and starts a game on an off-screen panel.
+     */
+    @BeforeClass
+    public static void initialiseGame() {
+        runOnEventDispatchThread(() -> {
+            AnimationLoader.loadDefaultAnimations();
+
+            GamePanel gamePanel = new GamePanel(GameFrame.FRAME_HEIGHT, GameFrame.FRAME_HEIGHT, "/images/backgrounds/game-panel.png");
+            gamePanel.setSize(GameFrame.FRAME_HEIGHT, GameFrame.FRAME_HEIGHT);
+            InfoPanel infoPanel = new InfoPanel(300, GameFrame.FRAME_HEIGHT, "/images/backgrounds/info-panel.png");
+            GameManager.getInstance().init(gamePanel, infoPanel);
+        });
+    }
+
+    /**
+     * Skips the tests on JVMs that cannot measure per-thread allocation.
+     */
+    @Before
+    public void requireAllocationMeasurement() {
+        com.sun.management.ThreadMXBean threads = getThreadBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    // ----- TESTS -----
+    @Test
+    public void bulletManagerTickStaysWithinBudget() {
+        runOnEventDispatchThread(() -> {
+            resetScenario();
+            spawnBullets();
+
+            BulletManager bulletManager = GameManager.getInstance().getBulletManager();
+            int bulletCount = bulletManager.getBullets().size();
+            assertWithinBudget("bulletManager", DEFAULT_BULLET_MANAGER_BUDGET, measureBytesPerTick(bulletManager::update));
+            assertTrue("Bullets left the steady state", bulletManager.getBullets().size() == bulletCount);
+        });
+    }
+
+    @Test
+    public void bulletManagerBurstTickStaysWithinBudget() {
+        runOnEventDispatchThread(() -> {
+            resetScenario();
+
+            BulletManager bulletManager = GameManager.getInstance().getBulletManager();
+            BulletSpawner spawner = createSpawner(BURST_SIZE, BURST_SIZE, GameFrame.FRAME_HEIGHT / 2.0, GameFrame.FRAME_HEIGHT / 4.0);
+            Runnable tick = () -> {
+                assertTrue("Burst was clipped", spawner.spawnBurst(BURST_SIZE, BURST_PATTERN) == BURST_SIZE);
+                bulletManager.update();
+            };
+
+            // Every tick fires the same ring, so once the first rings have expired the count is constant
+            for (int i = 0; i < WARM_UP_TICKS; i++) {
+                tick.run();
+            }
+            int bulletCount = bulletManager.getBullets().size();
+            assertWithinBudget("bulletManager", DEFAULT_BULLET_MANAGER_BUDGET, measureBytesPerTick(tick));
+            assertTrue("Bullets left the steady state", bulletManager.getBullets().size() == bulletCount);
+        });
+    }
+
+    @Test
+    public void bulletManagerSteeredTickStaysWithinBudget() {
+        runOnEventDispatchThread(() -> {
+            resetScenario();
+            spawnPatternBullets(STEERED_PATTERN);
+
+            BulletManager bulletManager = GameManager.getInstance().getBulletManager();
+            int bulletCount = bulletManager.getBullets().size();
+            assertWithinBudget("bulletManager", DEFAULT_BULLET_MANAGER_BUDGET, measureBytesPerTick(bulletManager::update));
+            assertTrue("Bullets left the steady state", bulletManager.getBullets().size() == bulletCount);
+        });
+    }
+
+    @Test
+    public void bulletManagerAnalyticTickStaysWithinBudget() {
+        runOnEventDispatchThread(() -> {
+            resetScenario();
+            spawnPatternBullets(ANALYTIC_PATTERN);
+
+            BulletManager bulletManager = GameManager.getInstance().getBulletManager();
+            int bulletCount = bulletManager.getBullets().size();
+            assertWithinBudget("bulletManager", DEFAULT_BULLET_MANAGER_BUDGET, measureBytesPerTick(bulletManager::update));
+            assertTrue("Bullets left the steady state", bulletManager.getBullets().size() == bulletCount);
+        });
+    }
+
+    @Test
+    public void enemyManagerTickStaysWithinBudget() {
+        runOnEventDispatchThread(() -> {
+            resetScenario();
+            spawnEnemies();
+
+            EnemyManager enemyManager = GameManager.getInstance().getEnemyManager();
+            int enemyCount = enemyManager.getEnemies().size();
+            assertTrue("No enemies were spawned", enemyCount == EnemyManager.MAX_ENEMY_COUNT);
+            assertWithinBudget("enemyManager", DEFAULT_ENEMY_MANAGER_BUDGET, measureBytesPerTick(enemyManager::update));
+            assertTrue("Enemies left the steady state", enemyManager.getEnemies().size() == enemyCount);
+            assertTrue("Enemies fired bullets", GameManager.getInstance().getBulletManager().getBullets().isEmpty());
+        });
+    }
+
+    @Test
+    public void gameManagerTickStaysWithinBudget() {
+        runOnEventDispatchThread(() -> {
+            resetScenario();
+            spawnEnemies();
+            spawnBullets();
+
+            GameManager gameManager = GameManager.getInstance();
+            int bulletCount = gameManager.getBulletManager().getBullets().size();
+            assertWithinBudget("gameManager", DEFAULT_GAME_MANAGER_BUDGET, measureBytesPerTick(gameManager::update));
+            assertTrue("Bullets left the steady state", gameManager.getBulletManager().getBullets().size() == bulletCount);
+        });
+    }
+
+    // ----- HELPER METHODS -----
+    /**
+     * Removes every bullet and enemy left over from earlier ticks.
+     */
+    private static void resetScenario() {
+        GameManager gameManager = GameManager.getInstance();
+        gameManager.getBulletManager().clear();
+        gameManager.getEnemyManager().clear();
+        gameManager.getPlayer().setPosition(GameFrame.FRAME_HEIGHT / 2.0, GameFrame.FRAME_HEIGHT - 64);
+    }
+
+    /**
+     * Fills the enemy manager to capacity, so it neither removes enemies nor
+     * spawns the stage's waves. The enemies run {@link #IDLE_ATTACK_SCRIPT}.
+     */
+    private static void spawnEnemies() {
+        GameManager gameManager = GameManager.getInstance();
+        GamePanel gamePanel = gameManager.getGamePanel();
+        EnemyManager enemyManager = gameManager.getEnemyManager();
+        AttackScript idleScript = parseIdleAttackScript();
+
+        while (enemyManager.getEnemies().size() < EnemyManager.MAX_ENEMY_COUNT) {
+            Enemy enemy = switch (enemyManager.getEnemies().size() % 3) {
+                case 0 ->
+                    new RedMage.RedMageBuilder(gamePanel).attackScript(idleScript).build();
+                case 1 ->
+                    new BlueMage.BlueMageBuilder(gamePanel).attackScript(idleScript).build();
+                default ->
+                    new MagentaMage.MagentaMageBuilder(gamePanel).attackScript(idleScript).build();
+            };
+            enemy.setPosition(enemyManager.getEnemies().size() * 64.0, GameFrame.FRAME_HEIGHT / 2.0);
+            enemy.setVelocityX(1.5);
+            enemyManager.getEnemies().add(enemy);
+        }
+    }
+
+    /**
+     * Parses {@link #IDLE_ATTACK_SCRIPT}.
+     *
+     * @return The script.
+     */
+    private static AttackScript parseIdleAttackScript() {
+        try {
+            return AttackScript.parse(new BufferedReader(new StringReader(IDLE_ATTACK_SCRIPT)), "idle");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Spawns a band of slowly drifting player bullets and enemy bullets near
+     * the top of the screen, clear of the player and the enemies.
+     */
+    private static void spawnBullets() {
+        GameManager gameManager = GameManager.getInstance();
+        Player player = gameManager.getPlayer();
+        Enemy enemy = new RedMage.RedMageBuilder(gameManager.getGamePanel()).build();
+
+        spawnBulletBand(player.getBulletSpawner(), 32, BULLET_SPEED);
+        spawnBulletBand(enemy.getBulletSpawner(), 96, -BULLET_SPEED);
+    }
+
+    /**
+     * Fires {@link #BULLETS_PER_OWNER} bullets of a pattern as one burst from
+     * an enemy's spawner near the top of the screen, clear of the player.
+     *
+     * @param pattern The pattern.
+     */
+    private static void spawnPatternBullets(final BulletPattern pattern) {
+        BulletSpawner spawner = createSpawner(0, BULLETS_PER_OWNER, GameFrame.FRAME_HEIGHT / 2.0, 96);
+        assertTrue("Burst was clipped", spawner.spawnBurst(BULLETS_PER_OWNER, pattern) == BULLETS_PER_OWNER);
+    }
+
+    /**
+     * Creates a spawner owned by an enemy that is not in play, fixed at a
+     * point.
+     *
+     * @param emissionRate How many bullets per tick its allowance refills by.
+     * @param emissionCapacity The largest burst it can emit.
+     * @param x The spawner's x-coordinate.
+     * @param y The spawner's y-coordinate.
+     * @return The spawner.
+     */
+    private static BulletSpawner createSpawner(final double emissionRate, final int emissionCapacity, final double x, final double y) {
+        Enemy owner = new RedMage.RedMageBuilder(GameManager.getInstance().getGamePanel()).build();
+        BulletSpawner spawner = new BulletSpawner.BulletSpawnerBuilder(owner)
+                .position(x, y)
+                .bulletDamage(1)
+                .currentBulletAnimationKey(owner.getBulletSpawner().getCurrentBulletAnimatioKey())
+                .emissionLimits(emissionRate, emissionCapacity)
+                .build();
+        return spawner;
+    }
+
+    /**
+     * Spawns a band of bullets from a spawner.
+     *
+     * @param spawner The spawner.
+     * @param top The y-coordinate of the band's top.
+     * @param velocityY The bullets' y-axis velocity.
+     */
+    private static void spawnBulletBand(final BulletSpawner spawner, final double top, final double velocityY) {
+        int columns = GameFrame.FRAME_HEIGHT / 20;
+        for (int i = 0; i < BULLETS_PER_OWNER; i++) {
+            spawner.setPosition((i % columns) * 20.0, top + (i / columns) % 2 * 20.0);
+            Bullet bullet = spawner.spawnBullet();
+            bullet.setVelocityX(BULLET_SPEED);
+            bullet.setVelocityY(velocityY);
+        }
+    }
+
+    /**
+     * Warms a tick up, then measures how many bytes it allocates on average.
+     *
+     * @param tick The tick to measure.
+     * @return The average number of bytes allocated per tick.
+     */
+    private static double measureBytesPerTick(final Runnable tick) {
+        for (int i = 0; i < WARM_UP_TICKS; i++) {
+            AnimationClock.tick();
+            tick.run();
+        }
+
+        com.sun.management.ThreadMXBean threads = getThreadBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_TICKS; i++) {
+            AnimationClock.tick();
+            tick.run();
+        }
+        long after = threads.getCurrentThreadAllocatedBytes();
+        return (after - before) / (double) MEASURED_TICKS;
+    }
+
+    /**
+     * Fails if an allocation rate exceeds its budget.
+     *
+     * @param name The name of the budget.
+     * @param defaultBudget The budget used unless overridden by a system
+     * property.
+     * @param bytesPerTick The measured allocation rate.
+     */
+    private static void assertWithinBudget(final String name, final long defaultBudget, final double bytesPerTick) {
+        long budget = Long.getLong(BUDGET_PROPERTY_PREFIX + name, defaultBudget);
+        assertTrue(
+                String.format("%s allocated %.1f bytes per tick, over its budget of %d.", name, bytesPerTick, budget),
+                bytesPerTick <= budget
+        );
+    }
+
+    /**
+     * Returns the platform thread bean with allocation measurement.
+     *
+     * @return The thread bean.
+     */
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        return (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    /**
+     * Runs a task on the Event Dispatch Thread and waits for it, rethrowing
+     * any failure on the calling thread.
+     *
+     * @param task The task.
+     */
+    private static void runOnEventDispatchThread(final Runnable task) {
+        try {
+            SwingUtilities.invokeAndWait(task);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            if (e.getCause() instanceof RuntimeException exception) {
+                throw exception;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}